@@ -0,0 +1,101 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Issue;
+import seedu.address.model.SaveIt;
+import seedu.address.model.issue.IssueStatement;
+import seedu.address.model.issue.Phone;
+import seedu.address.model.issue.Remark;
+import seedu.address.model.issue.Tag;
+import seedu.address.storage.XmlSerializableSaveIt;
+
+/**
+ * Measures how long it takes to bulk load issues into a {@code SaveIt}, both directly through
+ * {@link SaveIt#resetData} and through {@link XmlSerializableSaveIt#toModelType()}.
+ *
+ * Loading should scale linearly, so the time per issue reported for each size should stay roughly constant.
+ * Run with {@code ./gradlew benchmark -PbenchmarkClass=SaveItLoadBenchmark}.
+ */
+public class SaveItLoadBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int RUNS = 5;
+
+    private static final Logger logger = LogsCenter.getLogger(SaveItLoadBenchmark.class);
+
+    /**
+     * Runs the benchmark. The sizes to measure can be given as arguments, e.g. {@code 10000 50000}.
+     */
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length == 0 ? SIZES : parseSizes(args);
+
+        // warm up the JIT with a small data set so that the first measured size is not penalised
+        measure(generateIssues(sizes[0]));
+
+        logger.info(String.format("%10s %16s %16s %16s %16s", "issues",
+                "resetData (ms)", "ns/issue", "toModelType (ms)", "ns/issue"));
+        for (int size : sizes) {
+            long[] timings = measure(generateIssues(size));
+            logger.info(String.format("%10d %16.1f %16.1f %16.1f %16.1f", size,
+                    timings[0] / 1e6, (double) timings[0] / size, timings[1] / 1e6, (double) timings[1] / size));
+        }
+    }
+
+    /**
+     * Returns the median time, in nanoseconds, taken to load {@code issues} through
+     * {@code SaveIt#resetData} and through {@code XmlSerializableSaveIt#toModelType()}.
+     */
+    private static long[] measure(List<Issue> issues) throws Exception {
+        SaveIt source = new SaveIt();
+        source.setPersons(issues);
+        XmlSerializableSaveIt serializableSaveIt = new XmlSerializableSaveIt(source);
+
+        List<Long> resetDataTimings = new ArrayList<>();
+        List<Long> toModelTypeTimings = new ArrayList<>();
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            new SaveIt().resetData(source);
+            resetDataTimings.add(System.nanoTime() - start);
+
+            start = System.nanoTime();
+            serializableSaveIt.toModelType();
+            toModelTypeTimings.add(System.nanoTime() - start);
+        }
+        return new long[] {median(resetDataTimings), median(toModelTypeTimings)};
+    }
+
+    /**
+     * Returns {@code count} issues with distinct identities.
+     */
+    static List<Issue> generateIssues(int count) {
+        List<Issue> issues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Set<Tag> tags = new HashSet<>();
+            tags.add(Tag.of("tag" + (i % 31)));
+            tags.add(Tag.of("tag" + (i % 7)));
+            issues.add(new Issue(new IssueStatement("Issue " + i + " cannot compile module " + (i % 97)),
+                    new Phone(String.valueOf(1_000_000 + i)), new Remark("Remark " + (i % 1013)), tags));
+        }
+        return issues;
+    }
+
+    private static long median(List<Long> timings) {
+        Collections.sort(timings);
+        return timings.get(timings.size() / 2);
+    }
+
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.SaveIt;
+import seedu.address.storage.XmlFileStorage;
+import seedu.address.storage.XmlSaveItStorage;
+import seedu.address.storage.XmlSerializableSaveIt;
+
+/**
+ * Measures the throughput of saving issues to an XML data file, both by streaming them through
+ * {@link XmlSaveItStorage#saveSaveIt} and by marshalling an {@link XmlSerializableSaveIt} with JAXB.
+ *
+ * Run with {@code ./gradlew benchmark -PbenchmarkClass=SaveItSaveBenchmark}.
+ */
+public class SaveItSaveBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int RUNS = 5;
+
+    private static final Logger logger = LogsCenter.getLogger(SaveItSaveBenchmark.class);
+
+    /**
+     * Runs the benchmark. The sizes to measure can be given as arguments, e.g. {@code 10000 50000}.
+     */
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length == 0 ? SIZES : parseSizes(args);
+        Path file = Files.createTempFile("SaveItSaveBenchmark", ".xml");
+        try {
+            // warm up the JIT with a small data set so that the first measured size is not penalised
+            measure(createSaveIt(sizes[0]), file);
+
+            logger.info(String.format("%10s %12s %16s %16s", "issues", "file (MB)",
+                    "streaming (MB/s)", "JAXB (MB/s)"));
+            for (int size : sizes) {
+                double[] results = measure(createSaveIt(size), file);
+                logger.info(String.format("%10d %12.1f %16.1f %16.1f", size, results[0], results[1],
+                        results[2]));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Returns the size, in megabytes, of the file {@code saveIt} is saved to, followed by the median throughput, in
+     * megabytes per second, of saving it by streaming and with JAXB.
+     */
+    private static double[] measure(SaveIt saveIt, Path file) throws Exception {
+        XmlSaveItStorage storage = new XmlSaveItStorage(file);
+        List<Long> streamingTimings = new ArrayList<>();
+        List<Long> jaxbTimings = new ArrayList<>();
+        long streamingBytes = 0;
+        long jaxbBytes = 0;
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            storage.saveSaveIt(saveIt);
+            streamingTimings.add(System.nanoTime() - start);
+            streamingBytes = Files.size(file);
+
+            start = System.nanoTime();
+            XmlFileStorage.saveDataToFile(file, new XmlSerializableSaveIt(saveIt));
+            jaxbTimings.add(System.nanoTime() - start);
+            jaxbBytes = Files.size(file);
+        }
+        return new double[] {streamingBytes / 1e6, toThroughput(streamingBytes, median(streamingTimings)),
+            toThroughput(jaxbBytes, median(jaxbTimings))};
+    }
+
+    private static SaveIt createSaveIt(int size) {
+        SaveIt saveIt = new SaveIt();
+        saveIt.setPersons(SaveItLoadBenchmark.generateIssues(size));
+        return saveIt;
+    }
+
+    private static double toThroughput(long bytes, long nanos) {
+        return bytes / 1e6 / (nanos / 1e9);
+    }
+
+    private static long median(List<Long> timings) {
+        Collections.sort(timings);
+        return timings.get(timings.size() / 2);
+    }
+
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
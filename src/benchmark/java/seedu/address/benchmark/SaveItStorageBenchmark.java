@@ -0,0 +1,99 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.SaveIt;
+import seedu.address.storage.BinarySaveItStorage;
+import seedu.address.storage.SaveItStorage;
+import seedu.address.storage.XmlSaveItStorage;
+
+/**
+ * Measures how long it takes to save issues to a data file and load them back, both with
+ * {@link XmlSaveItStorage} and with {@link BinarySaveItStorage}, and how large each data file is.
+ *
+ * Run with {@code ./gradlew benchmark -PbenchmarkClass=SaveItStorageBenchmark}.
+ */
+public class SaveItStorageBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int RUNS = 5;
+
+    private static final Logger logger = LogsCenter.getLogger(SaveItStorageBenchmark.class);
+
+    /**
+     * Runs the benchmark. The sizes to measure can be given as arguments, e.g. {@code 10000 50000}.
+     */
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length == 0 ? SIZES : parseSizes(args);
+        Path directory = Files.createTempDirectory("SaveItStorageBenchmark");
+        SaveItStorage xmlStorage = new XmlSaveItStorage(directory.resolve("address.xml"));
+        SaveItStorage binaryStorage = new BinarySaveItStorage(directory.resolve("address.bin"));
+        try {
+            // warm up the JIT with a small data set so that the first measured size is not penalised
+            measure(createSaveIt(sizes[0]), xmlStorage);
+            measure(createSaveIt(sizes[0]), binaryStorage);
+
+            logger.info(String.format("%10s %8s %12s %12s %12s", "issues", "format", "file (MB)",
+                    "save (ms)", "load (ms)"));
+            for (int size : sizes) {
+                SaveIt saveIt = createSaveIt(size);
+                print(size, "xml", measure(saveIt, xmlStorage));
+                print(size, "binary", measure(saveIt, binaryStorage));
+            }
+        } finally {
+            Files.deleteIfExists(xmlStorage.getSaveItFilePath());
+            Files.deleteIfExists(binaryStorage.getSaveItFilePath());
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Returns the size, in megabytes, of the file {@code saveIt} is saved to by {@code storage}, followed by the
+     * median time, in nanoseconds, taken to save it and to load it back.
+     */
+    private static double[] measure(SaveIt saveIt, SaveItStorage storage) throws Exception {
+        List<Long> saveTimings = new ArrayList<>();
+        List<Long> loadTimings = new ArrayList<>();
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            storage.saveSaveIt(saveIt);
+            saveTimings.add(System.nanoTime() - start);
+
+            start = System.nanoTime();
+            storage.readSaveIt();
+            loadTimings.add(System.nanoTime() - start);
+        }
+        return new double[] {Files.size(storage.getSaveItFilePath()) / 1e6, median(saveTimings),
+            median(loadTimings)};
+    }
+
+    private static void print(int size, String format, double[] results) {
+        logger.info(String.format("%10d %8s %12.1f %12.1f %12.1f", size, format, results[0],
+                results[1] / 1e6, results[2] / 1e6));
+    }
+
+    private static SaveIt createSaveIt(int size) {
+        SaveIt saveIt = new SaveIt();
+        saveIt.setPersons(SaveItLoadBenchmark.generateIssues(size));
+        return saveIt;
+    }
+
+    private static long median(List<Long> timings) {
+        Collections.sort(timings);
+        return timings.get(timings.size() / 2);
+    }
+
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
@@ -26,11 +26,13 @@ import seedu.address.model.ReadOnlySaveIt;
 import seedu.address.model.SaveIt;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinarySaveItStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.SaveItStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WalSaveItStorage;
 import seedu.address.storage.XmlSaveItStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -62,7 +64,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        SaveItStorage saveItStorage = new XmlSaveItStorage(userPrefs.getSaveItFilePath());
+        SaveItStorage saveItStorage = initSaveItStorage(userPrefs);
         storage = new StorageManager(saveItStorage, userPrefsStorage);
 
         initLogging(config);
@@ -76,6 +78,30 @@ public class MainApp extends Application {
         initEventsCenter();
     }
 
+    /**
+     * Returns a {@code SaveItStorage} for the data file at {@code userPrefs}'s data file path, in the format chosen in
+     * {@code userPrefs}. The first time the binary format is chosen, the data in the xml data file is migrated to it.
+     * The xml data file may be followed by a change log if that format was chosen before, so the log is read along
+     * with it by the other formats.
+     */
+    private SaveItStorage initSaveItStorage(UserPrefs userPrefs) {
+        Path xmlFilePath = userPrefs.getSaveItFilePath();
+        switch (userPrefs.getSaveItFileFormat()) {
+        case XML_WITH_CHANGE_LOG:
+            return new WalSaveItStorage(xmlFilePath);
+        case BINARY:
+            return new BinarySaveItStorage(BinarySaveItStorage.getBinaryFilePath(xmlFilePath),
+                    new WalSaveItStorage(xmlFilePath));
+        default:
+            try {
+                WalSaveItStorage.mergeChangeLog(xmlFilePath);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to merge the change log into the data file : " + StringUtil.getDetails(e));
+            }
+            return new XmlSaveItStorage(xmlFilePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -187,6 +213,8 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping SaveIt ] =============================");
         ui.stop();
+        // changes are saved on a background thread, which would otherwise be stopped before it writes the latest ones
+        storage.flushSaveIt();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -8,6 +8,8 @@ public class Messages {
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The issue index provided is invalid";
+    public static final String MESSAGE_INVALID_PERSON_ID = "There is no issue with the id #%1$d";
+    public static final String MESSAGE_PERSON_NOT_DISPLAYED = "The issue with the id #%1$d is not displayed";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
 
 }
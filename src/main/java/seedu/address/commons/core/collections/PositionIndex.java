@@ -0,0 +1,272 @@
+package seedu.address.commons.core.collections;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Keeps track of the position of every key in a sequence of distinct keys, as keys are inserted into and removed from
+ * anywhere in the sequence.
+ *
+ * The sequence is stored as a treap, a binary tree ordered by position and kept balanced by random priorities, in
+ * which every node knows its parent and the size of its subtree. Each key is mapped to its node, so the position of a
+ * key is found by walking from its node up to the root. {@link #indexOf(Object)}, {@link #add(int, Object)} and
+ * {@link #remove(Object)} thus run in O(log n) expected time, however many positions an insertion or removal shifts.
+ *
+ * Does not allow nulls.
+ */
+public final class PositionIndex<K> {
+
+    private final Map<K, Node<K>> nodes;
+    private final Random random = new Random();
+    private Node<K> root;
+
+    private PositionIndex(Map<K, Node<K>> nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * Returns an empty index.
+     */
+    public static <K> PositionIndex<K> empty() {
+        return new PositionIndex<>(new HashMap<>());
+    }
+
+    /**
+     * Returns an index holding {@code keys} at their positions in the list, built in O(n) time.
+     *
+     * @throws IllegalArgumentException if {@code keys} contains the same key twice.
+     */
+    public static <K> PositionIndex<K> of(List<? extends K> keys) {
+        requireNonNull(keys);
+        PositionIndex<K> index = new PositionIndex<>(new HashMap<>(Math.max(16, (int) (keys.size() / 0.75f) + 1)));
+        index.root = index.build(keys);
+        return index;
+    }
+
+    public int size() {
+        return Node.size(root);
+    }
+
+    public boolean contains(K key) {
+        return nodes.containsKey(key);
+    }
+
+    /**
+     * Returns the position of {@code key}, or -1 if it is not in the index.
+     */
+    public int indexOf(K key) {
+        Node<K> node = nodes.get(key);
+        if (node == null) {
+            return -1;
+        }
+
+        int index = Node.size(node.left);
+        for (Node<K> child = node, parent = node.parent; parent != null; child = parent, parent = parent.parent) {
+            if (child == parent.right) {
+                index += Node.size(parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Inserts {@code key} at {@code index}, shifting the keys at and after {@code index} one position later.
+     *
+     * @throws IllegalArgumentException if {@code key} is already in the index.
+     * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size()]}.
+     */
+    public void add(int index, K key) {
+        requireNonNull(key);
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (nodes.containsKey(key)) {
+            throw new IllegalArgumentException("Key is already in the index: " + key);
+        }
+
+        Node<K> node = new Node<>(key, random.nextInt());
+        nodes.put(key, node);
+        Node<K>[] parts = split(root, index);
+        root = merge(merge(parts[0], node), parts[1]);
+        root.parent = null;
+    }
+
+    /**
+     * Removes {@code key}, shifting the keys after it one position earlier. Does nothing if it is not in the index.
+     */
+    public void remove(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return;
+        }
+
+        Node<K> parent = node.parent;
+        Node<K> replacement = merge(node.left, node.right);
+        if (replacement != null) {
+            replacement.parent = parent;
+        }
+        if (parent == null) {
+            root = replacement;
+        } else if (parent.left == node) {
+            parent.left = replacement;
+        } else {
+            parent.right = replacement;
+        }
+        for (Node<K> ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.size--;
+        }
+    }
+
+    /**
+     * Puts {@code newKey} at the position of {@code oldKey}, in its place.
+     *
+     * @throws IllegalArgumentException if {@code oldKey} is not in the index, or {@code newKey} already is.
+     */
+    public void replace(K oldKey, K newKey) {
+        requireNonNull(newKey);
+        if (oldKey.equals(newKey)) {
+            return;
+        }
+        if (nodes.containsKey(newKey) || !nodes.containsKey(oldKey)) {
+            throw new IllegalArgumentException("Cannot replace " + oldKey + " with " + newKey);
+        }
+
+        Node<K> node = nodes.remove(oldKey);
+        node.key = newKey;
+        nodes.put(newKey, node);
+    }
+
+    /**
+     * Returns a treap holding {@code keys} in order, built in O(n) time by keeping the right spine of the tree built so
+     * far on a stack.
+     */
+    private Node<K> build(List<? extends K> keys) {
+        Deque<Node<K>> rightSpine = new ArrayDeque<>();
+        for (K key : keys) {
+            Node<K> node = new Node<>(requireNonNull(key), random.nextInt());
+            if (nodes.put(key, node) != null) {
+                throw new IllegalArgumentException("Key appears twice: " + key);
+            }
+            Node<K> lastPopped = null;
+            while (!rightSpine.isEmpty() && rightSpine.peek().priority < node.priority) {
+                lastPopped = rightSpine.pop();
+            }
+            setLeft(node, lastPopped);
+            if (!rightSpine.isEmpty()) {
+                setRight(rightSpine.peek(), node);
+            }
+            rightSpine.push(node);
+        }
+        Node<K> newRoot = rightSpine.peekLast();
+        computeSizes(newRoot);
+        return newRoot;
+    }
+
+    /**
+     * Splits the tree rooted at {@code node} into a tree of its first {@code count} keys and a tree of the rest.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K> Node<K>[] split(Node<K> node, int count) {
+        if (node == null) {
+            return (Node<K>[]) new Node<?>[] {null, null};
+        }
+        int leftSize = Node.size(node.left);
+        if (count <= leftSize) {
+            Node<K>[] parts = split(node.left, count);
+            setLeft(node, parts[1]);
+            node.updateSize();
+            parts[1] = node;
+            return parts;
+        } else {
+            Node<K>[] parts = split(node.right, count - leftSize - 1);
+            setRight(node, parts[0]);
+            node.updateSize();
+            parts[0] = node;
+            return parts;
+        }
+    }
+
+    /**
+     * Returns the root of a tree holding the keys of {@code left} followed by the keys of {@code right}.
+     */
+    private static <K> Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            setRight(left, merge(left.right, right));
+            left.updateSize();
+            return left;
+        } else {
+            setLeft(right, merge(left, right.left));
+            right.updateSize();
+            return right;
+        }
+    }
+
+    /**
+     * Makes {@code child}, which may be null, the left subtree of {@code parent}.
+     */
+    private static <K> void setLeft(Node<K> parent, Node<K> child) {
+        parent.left = child;
+        if (child != null) {
+            child.parent = parent;
+        }
+    }
+
+    /**
+     * Makes {@code child}, which may be null, the right subtree of {@code parent}.
+     */
+    private static <K> void setRight(Node<K> parent, Node<K> child) {
+        parent.right = child;
+        if (child != null) {
+            child.parent = parent;
+        }
+    }
+
+    /**
+     * Computes the size of every subtree of the tree rooted at {@code node}, children before parents.
+     */
+    private static <K> void computeSizes(Node<K> node) {
+        if (node == null) {
+            return;
+        }
+        computeSizes(node.left);
+        computeSizes(node.right);
+        node.updateSize();
+    }
+
+    /**
+     * A tree node that knows its parent and the size of its subtree.
+     */
+    private static final class Node<K> {
+        private K key;
+        private final int priority;
+        private Node<K> left;
+        private Node<K> right;
+        private Node<K> parent;
+        private int size = 1;
+
+        Node(K key, int priority) {
+            this.key = key;
+            this.priority = priority;
+        }
+
+        void updateSize() {
+            size = size(left) + size(right) + 1;
+        }
+
+        static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package seedu.address.commons.core.collections;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A multiset of strings that finds the strings starting with a given prefix.
+ *
+ * The strings are stored as a trie with one node per distinct prefix. Each node keeps its children in a sorted array
+ * searched by binary search, instead of a map, so a node holds two small arrays and a count. Nodes that no longer lead
+ * to any string are removed, so every node leads to at least one string. {@link #complete(String, int)} therefore
+ * takes O(prefix length + limit * string length) time, however many strings start with the prefix.
+ *
+ * Does not allow nulls.
+ */
+public final class PrefixTrie {
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Adds one occurrence of {@code string}.
+     */
+    public void add(String string) {
+        requireNonNull(string);
+        Node node = root;
+        for (int i = 0; i < string.length(); i++) {
+            node = node.getOrAddChild(string.charAt(i));
+        }
+        if (node.count++ == 0) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code string}, if there is one.
+     */
+    public void remove(String string) {
+        requireNonNull(string);
+        Node[] path = new Node[string.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < string.length(); i++) {
+            path[i + 1] = path[i].getChild(string.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        Node node = path[string.length()];
+        if (node.count == 0) {
+            return;
+        }
+        if (--node.count == 0) {
+            size--;
+        }
+        for (int i = string.length(); i > 0 && path[i].isUnused(); i--) {
+            path[i - 1].removeChild(string.charAt(i - 1));
+        }
+    }
+
+    /**
+     * Returns the number of occurrences of {@code string}.
+     */
+    public int count(String string) {
+        requireNonNull(string);
+        Node node = find(string);
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Returns the number of distinct strings.
+     */
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        root.keys = Node.NO_KEYS;
+        root.children = Node.NO_CHILDREN;
+        root.count = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns up to {@code limit} of the distinct strings that start with {@code prefix}, in order of their characters.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        Node node = find(prefix);
+        if (node == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<String> completions = new ArrayList<>();
+        collect(node, new StringBuilder(prefix), limit, completions);
+        return completions;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.getChild(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Adds the strings that {@code node} leads to, each prefixed by {@code path}, to {@code completions} until it
+     * holds {@code limit} strings.
+     */
+    private static void collect(Node node, StringBuilder path, int limit, List<String> completions) {
+        if (node.count > 0) {
+            completions.add(path.toString());
+        }
+        for (int i = 0; i < node.keys.length && completions.size() < limit; i++) {
+            path.append(node.keys[i]);
+            collect(node.children[i], path, limit, completions);
+            path.setLength(path.length() - 1);
+        }
+    }
+
+    /**
+     * A node of the trie, which is the end of {@code count} occurrences of the string on the path to it.
+     */
+    private static final class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int count;
+
+        Node getChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrAddChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertionPoint = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertionPoint);
+            System.arraycopy(children, 0, newChildren, 0, insertionPoint);
+            System.arraycopy(keys, insertionPoint, newKeys, insertionPoint + 1, keys.length - insertionPoint);
+            System.arraycopy(children, insertionPoint, newChildren, insertionPoint + 1,
+                    children.length - insertionPoint);
+            Node child = new Node();
+            newKeys[insertionPoint] = key;
+            newChildren[insertionPoint] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            assert index >= 0;
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys.length == 0 ? NO_KEYS : newKeys;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        /**
+         * Returns true if no string ends at or passes through this node.
+         */
+        boolean isUnused() {
+            return count == 0 && keys.length == 0;
+        }
+    }
+}
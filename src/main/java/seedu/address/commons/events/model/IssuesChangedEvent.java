@@ -0,0 +1,33 @@
+package seedu.address.commons.events.model;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.IssueListDelta;
+
+/**
+ * Indicates which issues in the model have changed, and where in the issue list they are.
+ * Raised together with {@code SaveItChangedEvent}, so subscribers can update themselves in O(changes) time instead
+ * of reprocessing the whole {@code SaveIt}.
+ */
+public class IssuesChangedEvent extends BaseEvent {
+
+    /** The changes in the order they were made, each relative to the list left by the previous change. */
+    public final List<IssueListDelta> deltas;
+    /**
+     * The version of the model after the changes. Each event has a version one higher than the previous event, so
+     * subscribers can tell if they have missed any changes.
+     */
+    public final long version;
+
+    public IssuesChangedEvent(List<IssueListDelta> deltas, long version) {
+        this.deltas = Collections.unmodifiableList(deltas);
+        this.version = version;
+    }
+
+    @Override
+    public String toString() {
+        return deltas.size() + " issue changes, model version " + version;
+    }
+}
@@ -1,15 +1,52 @@
 package seedu.address.commons.events.model;
 
+import java.util.Collections;
+import java.util.List;
+
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.IssueListDelta;
 import seedu.address.model.ReadOnlySaveIt;
 
 /** Indicates the SaveIt in the model has changed*/
 public class SaveItChangedEvent extends BaseEvent {
 
+    /** The version of data whose version is not known. */
+    public static final long UNKNOWN_VERSION = -1;
+
     public final ReadOnlySaveIt data;
+    /**
+     * The changes made to the issue list since the previous event, in the order they were made, or null if they are
+     * not known.
+     */
+    public final List<IssueListDelta> changes;
+    /**
+     * The version of the model that {@code data} is, or {@code UNKNOWN_VERSION}. It is one higher than the version of
+     * the previous event if there are any {@code changes}, and the same otherwise, as in {@code IssuesChangedEvent}.
+     */
+    public final long version;
 
     public SaveItChangedEvent(ReadOnlySaveIt data) {
         this.data = data;
+        this.changes = null;
+        this.version = UNKNOWN_VERSION;
+    }
+
+    public SaveItChangedEvent(ReadOnlySaveIt data, List<IssueListDelta> changes, long version) {
+        assert version >= 0;
+        this.data = data;
+        this.changes = Collections.unmodifiableList(changes);
+        this.version = version;
+    }
+
+    /**
+     * Returns the version of the model that {@code changes} were made to, or {@code UNKNOWN_VERSION} if the changes
+     * are not known.
+     */
+    public long getPreviousVersion() {
+        if (changes == null) {
+            return UNKNOWN_VERSION;
+        }
+        return changes.isEmpty() ? version : version - 1;
     }
 
     @Override
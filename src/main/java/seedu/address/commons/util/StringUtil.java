@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +39,122 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if the {@code sentence} contains the {@code words} next to each other, in order.
+     *   Ignores case, but full word matches are required.
+     *   <br>examples:<pre>
+     *       containsPhraseIgnoreCase("ABc def ghi", ["abc", "DEF"]) == true
+     *       containsPhraseIgnoreCase("ABc def ghi", ["abc", "ghi"]) == false //not next to each other
+     *       containsPhraseIgnoreCase("ABc def ghi", ["def", "abc"]) == false //not in order
+     *       </pre>
+     * @param sentence cannot be null
+     * @param words cannot be null or empty, and each must be a single word
+     */
+    public static boolean containsPhraseIgnoreCase(String sentence, List<String> words) {
+        requireNonNull(sentence);
+        requireNonNull(words);
+        checkArgument(!words.isEmpty(), "Words parameter cannot be empty");
+
+        String[] wordsInSentence = sentence.split("\\s+");
+        for (int start = 0; start + words.size() <= wordsInSentence.length; start++) {
+            int matched = 0;
+            while (matched < words.size() && wordsInSentence[start + matched].equalsIgnoreCase(words.get(matched))) {
+                matched++;
+            }
+            if (matched == words.size()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the {@code sentence} contains a word that is at most {@code maxDistance} edits from
+     * {@code word}, where an edit inserts, deletes or replaces one character.
+     *   Ignores case, but a full word match is required.
+     *   <br>examples:<pre>
+     *       containsSimilarWordIgnoreCase("ABc def", "abd", 1) == true
+     *       containsSimilarWordIgnoreCase("ABc def", "DEEF", 1) == true
+     *       containsSimilarWordIgnoreCase("ABc def", "bcd", 1) == false //two edits away from every word
+     *       </pre>
+     * @param sentence cannot be null
+     * @param word cannot be null, cannot be empty, must be a single word
+     * @param maxDistance cannot be negative
+     */
+    public static boolean containsSimilarWordIgnoreCase(String sentence, String word, int maxDistance) {
+        requireNonNull(sentence);
+        requireNonNull(word);
+
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+
+        return Arrays.stream(sentence.split("\\s+"))
+                .anyMatch(wordInSentence -> isWithinEditDistanceIgnoreCase(wordInSentence, preppedWord, maxDistance));
+    }
+
+    /**
+     * Returns true if {@code first} can be changed into {@code second} with at most {@code maxDistance} edits, where an
+     * edit inserts, deletes or replaces one character. Characters are compared ignoring case.
+     * Only the edit distances up to {@code maxDistance} are computed, and the comparison stops as soon as it is
+     * exceeded, so this takes O(maxDistance * length) time.
+     * @param maxDistance cannot be negative
+     */
+    public static boolean isWithinEditDistanceIgnoreCase(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        int firstLength = first.length();
+        int secondLength = second.length();
+        if (Math.abs(firstLength - secondLength) > maxDistance) {
+            return false;
+        }
+
+        // distances[j] is the distance between the prefixes of the strings, capped at maxDistance + 1 outside the
+        // diagonal band of width 2 * maxDistance + 1 that can hold smaller distances
+        int outOfBand = maxDistance + 1;
+        int[] previous = new int[secondLength + 1];
+        int[] current = new int[secondLength + 1];
+        Arrays.fill(previous, outOfBand);
+        for (int j = 0; j <= Math.min(secondLength, maxDistance); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= firstLength; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(secondLength, i + maxDistance);
+            current[from - 1] = from == 1 && i <= maxDistance ? i : outOfBand;
+            int rowMinimum = current[from - 1];
+            char firstChar = foldCase(first.charAt(i - 1));
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (firstChar == foldCase(second.charAt(j - 1)) ? 0 : 1);
+                int distance = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(distance, outOfBand);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < secondLength) {
+                current[to + 1] = outOfBand;
+            }
+            if (rowMinimum > maxDistance) {
+                return false;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[secondLength] <= maxDistance;
+    }
+
+    /**
+     * Returns {@code c} in the case used to compare characters ignoring case, as in
+     * {@link String#equalsIgnoreCase(String)}.
+     */
+    private static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
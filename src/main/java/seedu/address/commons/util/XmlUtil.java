@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -16,6 +18,9 @@ import javax.xml.bind.Unmarshaller;
  */
 public class XmlUtil {
 
+    /** Creating a context inspects the annotations of every class reachable from the bound class, so it is reused. */
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,8 +42,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
         return ((T) um.unmarshal(file.toFile()));
     }
@@ -61,11 +65,26 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Returns the context bound to {@code boundClass}, creating it on first use.
+     * A context is thread-safe, unlike the marshallers and unmarshallers created from it.
+     */
+    private static JAXBContext getContext(Class<?> boundClass) throws JAXBException {
+        JAXBContext context = contexts.get(boundClass);
+        if (context == null) {
+            context = JAXBContext.newInstance(boundClass);
+            JAXBContext existingContext = contexts.putIfAbsent(boundClass, context);
+            if (existingContext != null) {
+                context = existingContext;
+            }
+        }
+        return context;
+    }
+
 }
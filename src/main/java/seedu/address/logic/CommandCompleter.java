@@ -0,0 +1,171 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATEMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.collections.PrefixTrie;
+import seedu.address.commons.events.model.IssuesChangedEvent;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.TagsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Issue;
+import seedu.address.model.IssueListDelta;
+import seedu.address.model.issue.Tag;
+
+/**
+ * Suggests completions of the word being typed into the command box: command words, prefixes, tag names and the
+ * words of issue statements. Tag names and statement words are kept in tries, which are updated from each
+ * {@code IssuesChangedEvent}, so a completion takes time proportional to the length of the completions found.
+ */
+public class CommandCompleter extends ComponentManager {
+
+    /** The largest number of completions suggested at once. */
+    public static final int MAX_COMPLETIONS = 5;
+
+    private static final List<String> COMMAND_WORDS = Arrays.asList(AddCommand.COMMAND_WORD,
+            EditCommand.COMMAND_WORD, SelectCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD,
+            ClearCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+            HistoryCommand.COMMAND_WORD, SortCommand.COMMAND_WORD, TagsCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD);
+    private static final List<Prefix> PREFIXES =
+            Arrays.asList(PREFIX_STATEMENT, PREFIX_PHONE, PREFIX_REMARK, PREFIX_TAG, PREFIX_QUERY);
+
+    private static final Logger logger = LogsCenter.getLogger(CommandCompleter.class);
+
+    private final PrefixTrie commandWords = new PrefixTrie();
+    private final PrefixTrie tagNames = new PrefixTrie();
+    /** The words of all issue statements, in lower case. */
+    private final PrefixTrie statementWords = new PrefixTrie();
+
+    /**
+     * Creates a {@code CommandCompleter} that completes the tags and statement words of {@code issues}.
+     */
+    public CommandCompleter(List<Issue> issues) {
+        requireNonNull(issues);
+        COMMAND_WORDS.forEach(commandWords::add);
+        issues.forEach(this::index);
+    }
+
+    /**
+     * Returns up to {@link #MAX_COMPLETIONS} completions of the last word of {@code textBeforeCaret}, each of which
+     * is to replace that word. The first word is completed as a command word. A later word is completed as a tag name
+     * after {@code t/}, as a statement word after {@code i/} or {@code q/}, and otherwise as a prefix or a statement
+     * word. Words that are already complete are not suggested.
+     */
+    public List<String> getCompletions(String textBeforeCaret) {
+        requireNonNull(textBeforeCaret);
+        int wordStart = textBeforeCaret.length();
+        while (wordStart > 0 && !Character.isWhitespace(textBeforeCaret.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        String word = textBeforeCaret.substring(wordStart);
+        if (word.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> completions = new ArrayList<>();
+        if (textBeforeCaret.substring(0, wordStart).trim().isEmpty()) {
+            completions.addAll(commandWords.complete(word, MAX_COMPLETIONS + 1));
+        } else if (word.startsWith(PREFIX_TAG.getPrefix())) {
+            addPrefixed(completions, PREFIX_TAG, tagNames, word.substring(PREFIX_TAG.getPrefix().length()));
+        } else if (word.startsWith(PREFIX_STATEMENT.getPrefix())) {
+            addPrefixed(completions, PREFIX_STATEMENT, statementWords,
+                    word.substring(PREFIX_STATEMENT.getPrefix().length()).toLowerCase());
+        } else if (word.startsWith(PREFIX_QUERY.getPrefix())) {
+            addPrefixed(completions, PREFIX_QUERY, statementWords,
+                    word.substring(PREFIX_QUERY.getPrefix().length()).toLowerCase());
+        } else if (!word.contains("/")) {
+            PREFIXES.stream().map(Prefix::getPrefix).filter(prefix -> prefix.startsWith(word))
+                    .forEach(completions::add);
+            completions.addAll(statementWords.complete(word.toLowerCase(), MAX_COMPLETIONS + 1));
+        }
+
+        completions.remove(word);
+        return completions.size() > MAX_COMPLETIONS ? completions.subList(0, MAX_COMPLETIONS) : completions;
+    }
+
+    private static void addPrefixed(List<String> completions, Prefix prefix, PrefixTrie trie, String word) {
+        for (String completion : trie.complete(word, MAX_COMPLETIONS + 1)) {
+            completions.add(prefix.getPrefix() + completion);
+        }
+    }
+
+    private void index(Issue issue) {
+        for (Tag tag : issue.getTags()) {
+            tagNames.add(tag.tagName);
+        }
+        for (String word : getStatementWords(issue)) {
+            statementWords.add(word);
+        }
+    }
+
+    private void unindex(Issue issue) {
+        for (Tag tag : issue.getTags()) {
+            tagNames.remove(tag.tagName);
+        }
+        for (String word : getStatementWords(issue)) {
+            statementWords.remove(word);
+        }
+    }
+
+    private static List<String> getStatementWords(Issue issue) {
+        List<String> words = new ArrayList<>();
+        for (String word : issue.getStatement().issue.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase());
+            }
+        }
+        return words;
+    }
+
+    @Subscribe
+    public void handleIssuesChangedEvent(IssuesChangedEvent event) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(event, "Updating completions"));
+        for (IssueListDelta delta : event.deltas) {
+            switch (delta.getType()) {
+            case ADDED:
+                index(delta.getNewIssue());
+                break;
+            case REMOVED:
+                unindex(delta.getOldIssue());
+                break;
+            case UPDATED:
+                unindex(delta.getOldIssue());
+                index(delta.getNewIssue());
+                break;
+            case REPLACED:
+                tagNames.clear();
+                statementWords.clear();
+                delta.getNewIssues().forEach(this::index);
+                break;
+            default:
+                throw new AssertionError("Unknown delta type " + delta.getType());
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -22,11 +23,13 @@ public class LogicManager extends ComponentManager implements Logic {
     private final Model model;
     private final CommandHistory history;
     private final SaveItParser saveItParser;
+    private final CommandCompleter commandCompleter;
 
     public LogicManager(Model model) {
         this.model = model;
         history = new CommandHistory();
         saveItParser = new SaveItParser();
+        commandCompleter = new CommandCompleter(model.getSaveIt().getPersonList());
     }
 
     @Override
@@ -49,4 +52,9 @@ public class LogicManager extends ComponentManager implements Logic {
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
     }
+
+    @Override
+    public List<String> getCompletions(String textBeforeCaret) {
+        return commandCompleter.getCompletions(textBeforeCaret);
+    }
 }
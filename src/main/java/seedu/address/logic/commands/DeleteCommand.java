@@ -2,9 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
-import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -12,35 +9,36 @@ import seedu.address.model.Issue;
 import seedu.address.model.Model;
 
 /**
- * Deletes a issue identified using it's displayed index from the address book.
+ * Deletes a issue identified using it's displayed index or its id from the address book.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the issue identified by the index number used in the displayed issue list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the issue identified by the index number used in the displayed issue list, "
+            + "or by its id.\n"
+            + "Parameters: INDEX (must be a positive integer) or #ID\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " #12";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Issue: %1$s";
 
-    private final Index targetIndex;
+    private final IssueTarget target;
 
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(IssueTarget.byIndex(targetIndex));
+    }
+
+    public DeleteCommand(IssueTarget target) {
+        requireNonNull(target);
+        this.target = target;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        List<Issue> lastShownList = model.getFilteredPersonList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Issue issueToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Issue issueToDelete = target.resolve(model);
         model.deletePerson(issueToDelete);
         model.commitSaveIt();
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, issueToDelete));
@@ -50,6 +48,6 @@ public class DeleteCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteCommand) other).targetIndex)); // state check
+                && target.equals(((DeleteCommand) other).target)); // state check
     }
 }
@@ -8,11 +8,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.logic.CommandHistory;
@@ -32,9 +30,9 @@ public class EditCommand extends Command {
     public static final String COMMAND_WORD = "edit";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the issue identified "
-            + "by the index number used in the displayed issue list. "
+            + "by the index number used in the displayed issue list, or by its id. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer) or #ID "
             + "[" + PREFIX_STATEMENT + "ISSUE_STATEMENT] "
             + "[" + PREFIX_PHONE + "PHONE] "
             + "[" + PREFIX_REMARK + "REMARK] "
@@ -46,7 +44,7 @@ public class EditCommand extends Command {
     public static final String MESSAGE_NOT_EDITED = "At least one field to edit must be provided.";
     public static final String MESSAGE_DUPLICATE_PERSON = "This issue already exists in the address book.";
 
-    private final Index index;
+    private final IssueTarget target;
     private final EditPersonDescriptor editPersonDescriptor;
 
     /**
@@ -54,23 +52,25 @@ public class EditCommand extends Command {
      * @param editPersonDescriptor details to edit the issue with
      */
     public EditCommand(Index index, EditPersonDescriptor editPersonDescriptor) {
-        requireNonNull(index);
+        this(IssueTarget.byIndex(index), editPersonDescriptor);
+    }
+
+    /**
+     * @param target the issue to edit
+     * @param editPersonDescriptor details to edit the issue with
+     */
+    public EditCommand(IssueTarget target, EditPersonDescriptor editPersonDescriptor) {
+        requireNonNull(target);
         requireNonNull(editPersonDescriptor);
 
-        this.index = index;
+        this.target = target;
         this.editPersonDescriptor = new EditPersonDescriptor(editPersonDescriptor);
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        List<Issue> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Issue issueToEdit = lastShownList.get(index.getZeroBased());
+        Issue issueToEdit = target.resolve(model);
         Issue editedIssue = createEditedPerson(issueToEdit, editPersonDescriptor);
 
         if (!issueToEdit.isSameIssue(editedIssue) && model.hasPerson(editedIssue)) {
@@ -78,7 +78,6 @@ public class EditCommand extends Command {
         }
 
         model.updatePerson(issueToEdit, editedIssue);
-        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         model.commitSaveIt();
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedIssue));
     }
@@ -112,7 +111,7 @@ public class EditCommand extends Command {
 
         // state check
         EditCommand e = (EditCommand) other;
-        return index.equals(e.index)
+        return target.equals(e.target)
                 && editPersonDescriptor.equals(e.editPersonDescriptor);
     }
 
@@ -2,13 +2,25 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
+import seedu.address.model.QueryPlan;
+import seedu.address.model.issue.IssueHasTagsPredicate;
 import seedu.address.model.issue.NameContainsKeywordsPredicate;
+import seedu.address.model.issue.NameFuzzyMatchesKeywordsPredicate;
+import seedu.address.model.issue.RankedKeywordsPredicate;
+import seedu.address.model.issue.query.Query;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords, or words similar to
+ * them, or who have the argument tags, or who match the argument query, or the persons most relevant to the argument
+ * keywords.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -16,28 +28,119 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all issues whose statements contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "the specified keywords (case-insensitive), or that have the specified tags, "
+            + "and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "or: fuzzy KEYWORD [MORE_KEYWORDS]...\n"
+            + "or: top K KEYWORD [MORE_KEYWORDS]...\n"
+            + "or: t/TAG [MORE_TAGS]... [t/TAG [MORE_TAGS]...]...\n"
+            + "or: [explain] q/QUERY\n"
+            + "With fuzzy, statement words a typo or two away from a keyword also match.\n"
+            + "With top, the K issues most relevant to the keywords by their statements, remarks and tags are shown, "
+            + "most relevant first.\n"
+            + "Issues found by tag have at least one of the tags after each t/.\n"
+            + "A QUERY combines words and \"quoted phrases\" with AND, OR, NOT and parentheses. Terms match the "
+            + "statement, or the field of their prefix: i/ statement, r/ remark, p/ phone, t/ tag. "
+            + "With explain, the plan chosen to run the query is shown.\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " fuzzy nullpionter excepton\n"
+            + "Example: " + COMMAND_WORD + " top 5 null pointer java\n"
+            + "Example: " + COMMAND_WORD + " t/bug crash t/java\n"
+            + "Example: " + COMMAND_WORD + " explain q/\"null pointer\" AND (t/java OR t/kotlin) NOT r/fixed";
+
+    public static final String OPTION_FUZZY = "fuzzy";
+    public static final String OPTION_TOP = "top";
+    public static final String OPTION_EXPLAIN = "explain";
+    public static final String MESSAGE_EXPLAIN = "Plan: %1$s\nPlanned in %2$.3f ms, executed in %3$.3f ms";
+
+    /** The criteria the issues are found by, and how the model is filtered by them. */
+    private final Search search;
+
+    public FindCommand(NameContainsKeywordsPredicate keywordsPredicate) {
+        this(Search.of(requireNonNull(keywordsPredicate), model -> model.updateFilteredPersonList(keywordsPredicate)));
+    }
+
+    public FindCommand(NameFuzzyMatchesKeywordsPredicate fuzzyKeywordsPredicate) {
+        this(Search.of(requireNonNull(fuzzyKeywordsPredicate),
+                model -> model.updateFilteredPersonList(fuzzyKeywordsPredicate)));
+    }
+
+    public FindCommand(RankedKeywordsPredicate rankedKeywordsPredicate) {
+        this(Search.of(requireNonNull(rankedKeywordsPredicate),
+                model -> model.updateFilteredPersonList(rankedKeywordsPredicate)));
+    }
 
-    private final NameContainsKeywordsPredicate predicate;
+    public FindCommand(IssueHasTagsPredicate tagsPredicate) {
+        this(Search.of(requireNonNull(tagsPredicate), model -> model.updateFilteredPersonList(tagsPredicate)));
+    }
+
+    /**
+     * Creates a FindCommand that finds the issues matching {@code query}, and reports how the query was run if
+     * {@code isExplain} is true.
+     */
+    public FindCommand(Query query, boolean isExplain) {
+        this(new Search(Arrays.asList(requireNonNull(query), isExplain), model -> {
+            QueryPlan plan = model.updateFilteredPersonList(query);
+            return isExplain
+                    ? "\n" + String.format(MESSAGE_EXPLAIN, plan.getDescription(), plan.getPlanningMillis(),
+                            plan.getExecutionMillis())
+                    : "";
+        }));
+    }
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+    private FindCommand(Search search) {
+        this.search = search;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        String details = search.filter.apply(model);
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                model.getFilteredPersonList().size()) + details);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && search.equals(((FindCommand) other).search)); // state check
+    }
+
+    /**
+     * The criteria that issues are found by, and how a model is filtered by them. Two searches are equal if their
+     * criteria are.
+     */
+    private static class Search {
+        private final List<Object> criteria;
+        /** Filters a model, and returns any details of how it was filtered to add to the result message. */
+        private final Function<Model, String> filter;
+
+        Search(List<Object> criteria, Function<Model, String> filter) {
+            this.criteria = criteria;
+            this.filter = filter;
+        }
+
+        /**
+         * Returns a search by {@code criterion}, which filters a model with {@code filter} and reports no details.
+         */
+        static Search of(Object criterion, Consumer<Model> filter) {
+            return new Search(Arrays.asList(criterion), model -> {
+                filter.accept(model);
+                return "";
+            });
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Search // instanceof handles nulls
+                    && criteria.equals(((Search) other).criteria));
+        }
+
+        @Override
+        public int hashCode() {
+            return criteria.hashCode();
+        }
     }
 }
@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Issue;
+import seedu.address.model.Model;
+
+/**
+ * Identifies the issue that a command acts on, either by its index in the displayed issue list or by its id.
+ * An id is looked up in O(1) time whether or not the issue is displayed, and identifies the same issue after the list
+ * is filtered or sorted, the issue is edited, or changes are undone.
+ */
+public class IssueTarget {
+
+    /** Marks an id, as opposed to an index, in user input. */
+    public static final String ID_PREFIX = "#";
+
+    /** Null if the issue is identified by its id. */
+    private final Index index;
+    private final int id;
+
+    private IssueTarget(Index index, int id) {
+        this.index = index;
+        this.id = id;
+    }
+
+    /**
+     * Returns a target for the issue at {@code index} in the displayed issue list.
+     */
+    public static IssueTarget byIndex(Index index) {
+        requireNonNull(index);
+        return new IssueTarget(index, Issue.NO_ID);
+    }
+
+    /**
+     * Returns a target for the issue with {@code id}, which must be positive.
+     */
+    public static IssueTarget byId(int id) {
+        assert id > Issue.NO_ID;
+        return new IssueTarget(null, id);
+    }
+
+    public boolean isById() {
+        return index == null;
+    }
+
+    /**
+     * Returns the issue in {@code model} identified by this target.
+     *
+     * @throws CommandException if the index is outside the displayed issue list, or no issue has the id.
+     */
+    public Issue resolve(Model model) throws CommandException {
+        requireNonNull(model);
+        if (isById()) {
+            return model.getPersonById(id).orElseThrow(() ->
+                    new CommandException(String.format(Messages.MESSAGE_INVALID_PERSON_ID, id)));
+        }
+
+        List<Issue> lastShownList = model.getFilteredPersonList();
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(index.getZeroBased());
+    }
+
+    /**
+     * Returns the index in the displayed issue list of the issue identified by this target.
+     *
+     * @throws CommandException if the issue does not exist, or is not displayed.
+     */
+    public Index resolveIndex(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!isById()) {
+            resolve(model);
+            return index;
+        }
+
+        int displayedIndex = model.getFilteredPersonIndex(resolve(model));
+        if (displayedIndex == -1) {
+            throw new CommandException(String.format(Messages.MESSAGE_PERSON_NOT_DISPLAYED, id));
+        }
+        return Index.fromZeroBased(displayedIndex);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof IssueTarget)) {
+            return false;
+        }
+
+        IssueTarget otherTarget = (IssueTarget) other;
+        return isById()
+                ? otherTarget.isById() && id == otherTarget.id
+                : index.equals(otherTarget.index);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isById(), isById() ? id : index.getZeroBased());
+    }
+
+    @Override
+    public String toString() {
+        return isById() ? ID_PREFIX + id : Integer.toString(index.getOneBased());
+    }
+}
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.VersionedSaveIt.UndoHistoryUnavailableException;
 
 /**
  * Reverts the {@code model}'s address book to its previously undone state.
@@ -14,6 +15,8 @@ public class RedoCommand extends Command {
     public static final String COMMAND_WORD = "redo";
     public static final String MESSAGE_SUCCESS = "Redo success!";
     public static final String MESSAGE_FAILURE = "No more commands to redo!";
+    public static final String MESSAGE_HISTORY_UNAVAILABLE = "Unable to read the undone commands back from disk, "
+            + "so they can no longer be redone.";
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
@@ -23,7 +26,11 @@ public class RedoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.redoSaveIt();
+        try {
+            model.redoSaveIt();
+        } catch (UndoHistoryUnavailableException uhue) {
+            throw new CommandException(MESSAGE_HISTORY_UNAVAILABLE);
+        }
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
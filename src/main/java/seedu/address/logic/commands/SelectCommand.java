@@ -2,46 +2,44 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import seedu.address.commons.core.EventsCenter;
-import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.Issue;
 import seedu.address.model.Model;
 
 /**
- * Selects a issue identified using it's displayed index from the address book.
+ * Selects a issue identified using it's displayed index or its id from the address book.
  */
 public class SelectCommand extends Command {
 
     public static final String COMMAND_WORD = "select";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Selects the issue identified by the index number used in the displayed issue list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Selects the issue identified by the index number used in the displayed issue list, "
+            + "or by its id if it is displayed.\n"
+            + "Parameters: INDEX (must be a positive integer) or #ID\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " #12";
 
     public static final String MESSAGE_SELECT_PERSON_SUCCESS = "Selected Issue: %1$s";
 
-    private final Index targetIndex;
+    private final IssueTarget target;
 
     public SelectCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(IssueTarget.byIndex(targetIndex));
+    }
+
+    public SelectCommand(IssueTarget target) {
+        requireNonNull(target);
+        this.target = target;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-
-        List<Issue> filteredIssueList = model.getFilteredPersonList();
-
-        if (targetIndex.getZeroBased() >= filteredIssueList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
+        Index targetIndex = target.resolveIndex(model);
 
         EventsCenter.getInstance().post(new JumpToListRequestEvent(targetIndex));
         return new CommandResult(String.format(MESSAGE_SELECT_PERSON_SUCCESS, targetIndex.getOneBased()));
@@ -52,6 +50,6 @@ public class SelectCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof SelectCommand // instanceof handles nulls
-                && targetIndex.equals(((SelectCommand) other).targetIndex)); // state check
+                && target.equals(((SelectCommand) other).target)); // state check
     }
 }
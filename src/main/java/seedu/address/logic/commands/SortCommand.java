@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.issue.IssueSortKey;
+
+/**
+ * Sorts the displayed issues by one of their fields. The order is kept as issues are added, edited and filtered.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed issues by the given field, "
+            + "and keeps them sorted until the next sort command.\n"
+            + "Parameters: FIELD (statement, phone, tag, or none to show issues in the order they were added)\n"
+            + "Example: " + COMMAND_WORD + " statement";
+
+    public static final String MESSAGE_SUCCESS = "Sorted issues by %1$s";
+    public static final String MESSAGE_UNSORTED = "Showing issues in the order they were added";
+
+    private final IssueSortKey sortKey;
+
+    public SortCommand(IssueSortKey sortKey) {
+        requireNonNull(sortKey);
+        this.sortKey = sortKey;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        model.updateSortedPersonList(sortKey.getComparator());
+        if (sortKey == IssueSortKey.NONE) {
+            return new CommandResult(MESSAGE_UNSORTED);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortKey.keyword));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && sortKey == ((SortCommand) other).sortKey); // state check
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.issue.Tag;
+
+/**
+ * Lists all tags in the address book, with the number of issues that have each tag.
+ */
+public class TagsCommand extends Command {
+
+    public static final String COMMAND_WORD = "tags";
+    public static final String MESSAGE_SUCCESS = "Listed %1$d tags (with number of issues):\n%2$s";
+    public static final String MESSAGE_NO_TAGS = "There are no tagged issues.";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        Map<Tag, Integer> tagCounts = model.getTagCounts();
+
+        if (tagCounts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_TAGS);
+        }
+
+        String tagCountList = tagCounts.entrySet().stream()
+                .map(tagCount -> tagCount.getKey() + " " + tagCount.getValue())
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, tagCounts.size(), tagCountList));
+    }
+}
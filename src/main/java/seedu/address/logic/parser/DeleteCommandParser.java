@@ -1,8 +1,8 @@
 package seedu.address.logic.parser;
 
 import seedu.address.commons.core.Messages;
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.IssueTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -17,8 +17,8 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      */
     public DeleteCommand parse(String args) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new DeleteCommand(index);
+            IssueTarget target = ParserUtil.parseTarget(args);
+            return new DeleteCommand(target);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE), pe);
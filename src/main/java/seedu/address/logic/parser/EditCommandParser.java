@@ -12,8 +12,8 @@ import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.IssueTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.issue.Tag;
 
@@ -32,10 +32,10 @@ public class EditCommandParser implements Parser<EditCommand> {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_STATEMENT, PREFIX_PHONE, PREFIX_REMARK, PREFIX_TAG);
 
-        Index index;
+        IssueTarget target;
 
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            target = ParserUtil.parseTarget(argMultimap.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditCommand.MESSAGE_USAGE), pe);
         }
@@ -50,7 +50,7 @@ public class EditCommandParser implements Parser<EditCommand> {
             throw new ParseException(EditCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditCommand(index, editPersonDescriptor);
+        return new EditCommand(target, editPersonDescriptor);
     }
 
     /**
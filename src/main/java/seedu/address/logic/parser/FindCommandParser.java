@@ -1,11 +1,22 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUERY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.issue.IssueHasTagsPredicate;
 import seedu.address.model.issue.NameContainsKeywordsPredicate;
+import seedu.address.model.issue.NameFuzzyMatchesKeywordsPredicate;
+import seedu.address.model.issue.RankedKeywordsPredicate;
+import seedu.address.model.issue.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -18,6 +29,27 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        ArgumentMultimap queryMultimap = ArgumentTokenizer.tokenize(args, PREFIX_QUERY);
+        List<String> queryArgs = queryMultimap.getAllValues(PREFIX_QUERY);
+        if (!queryArgs.isEmpty()) {
+            String preamble = queryMultimap.getPreamble();
+            if (queryArgs.size() > 1 || !(preamble.isEmpty() || preamble.equals(FindCommand.OPTION_EXPLAIN))) {
+                throw new ParseException(
+                        String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return new FindCommand(QueryParser.parseQuery(queryArgs.get(0)), !preamble.isEmpty());
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        List<String> tagArgs = argMultimap.getAllValues(PREFIX_TAG);
+        if (!tagArgs.isEmpty()) {
+            if (!argMultimap.getPreamble().isEmpty()) {
+                throw new ParseException(
+                        String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return new FindCommand(new IssueHasTagsPredicate(parseTagGroups(tagArgs)));
+        }
+
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
@@ -25,8 +57,35 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
+        if (nameKeywords.length > 1 && nameKeywords[0].equals(FindCommand.OPTION_FUZZY)) {
+            return new FindCommand(new NameFuzzyMatchesKeywordsPredicate(
+                    Arrays.asList(nameKeywords).subList(1, nameKeywords.length)));
+        }
+
+        if (nameKeywords.length > 2 && nameKeywords[0].equals(FindCommand.OPTION_TOP)
+                && StringUtil.isNonZeroUnsignedInteger(nameKeywords[1])) {
+            return new FindCommand(new RankedKeywordsPredicate(
+                    Arrays.asList(nameKeywords).subList(2, nameKeywords.length), Integer.parseInt(nameKeywords[1])));
+        }
 
         return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
     }
 
+    /**
+     * Parses the whitespace-separated tag names after each tag prefix into a group of tags.
+     * @throws ParseException if a tag prefix is not followed by any tag names, or a tag name is invalid
+     */
+    private static List<Set<Tag>> parseTagGroups(List<String> tagArgs) throws ParseException {
+        List<Set<Tag>> tagGroups = new ArrayList<>();
+        for (String tagArg : tagArgs) {
+            String trimmedTagArg = tagArg.trim();
+            if (trimmedTagArg.isEmpty()) {
+                throw new ParseException(
+                        String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            tagGroups.add(ParserUtil.parseTags(Arrays.asList(trimmedTagArg.split("\\s+"))));
+        }
+        return tagGroups;
+    }
+
 }
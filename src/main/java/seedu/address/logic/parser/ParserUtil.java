@@ -8,6 +8,7 @@ import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.IssueTarget;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.issue.IssueStatement;
 import seedu.address.model.issue.Phone;
@@ -20,6 +21,7 @@ import seedu.address.model.issue.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_ID = "Id is not a non-zero unsigned integer.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -34,6 +36,25 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code target} into an {@code IssueTarget} and returns it. A target starting with
+     * {@link IssueTarget#ID_PREFIX} is an issue id, and any other target is a one-based index. Leading and trailing
+     * whitespaces will be trimmed.
+     * @throws ParseException if the specified index or id is invalid (not non-zero unsigned integer).
+     */
+    public static IssueTarget parseTarget(String target) throws ParseException {
+        String trimmedTarget = target.trim();
+        if (!trimmedTarget.startsWith(IssueTarget.ID_PREFIX)) {
+            return IssueTarget.byIndex(parseIndex(trimmedTarget));
+        }
+
+        String id = trimmedTarget.substring(IssueTarget.ID_PREFIX.length());
+        if (!StringUtil.isNonZeroUnsignedInteger(id)) {
+            throw new ParseException(MESSAGE_INVALID_ID);
+        }
+        return IssueTarget.byId(Integer.parseInt(id));
+    }
+
     /**
      * Parses a {@code String name} into a {@code IssueStatement}.
      * Leading and trailing whitespaces will be trimmed.
@@ -46,7 +67,7 @@ public class ParserUtil {
         if (!IssueStatement.isValidIssueStatement(trimmedName)) {
             throw new ParseException(IssueStatement.MESSAGE_ISSUE_STATEMENT_CONSTRAINTS);
         }
-        return new IssueStatement(trimmedName);
+        return IssueStatement.ofValidated(trimmedName);
     }
 
     /**
@@ -61,7 +82,7 @@ public class ParserUtil {
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(Phone.MESSAGE_PHONE_CONSTRAINTS);
         }
-        return new Phone(trimmedPhone);
+        return Phone.ofValidated(trimmedPhone);
     }
 
     /**
@@ -76,7 +97,7 @@ public class ParserUtil {
         if (!Remark.isValidRemark(trimmedAddress)) {
             throw new ParseException(Remark.MESSAGE_ADDRESS_CONSTRAINTS);
         }
-        return new Remark(trimmedAddress);
+        return Remark.ofValidated(trimmedAddress);
     }
 
     /**
@@ -91,7 +112,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_TAG_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
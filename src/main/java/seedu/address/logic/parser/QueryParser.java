@@ -0,0 +1,227 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATEMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.issue.Tag;
+import seedu.address.model.issue.query.AndQuery;
+import seedu.address.model.issue.query.NotQuery;
+import seedu.address.model.issue.query.OrQuery;
+import seedu.address.model.issue.query.Query;
+import seedu.address.model.issue.query.QueryField;
+import seedu.address.model.issue.query.TermQuery;
+
+/**
+ * Parses a boolean query over the fields of an issue.
+ * <pre>
+ * query := and ("OR" and)*
+ * and   := unary (["AND"] unary)*
+ * unary := "NOT" unary | "(" query ")" | term
+ * term  := [i/ | r/ | p/ | t/] (WORD | "\"" WORD+ "\"")
+ * </pre>
+ * Terms without a prefix match the statement. Operators are only recognised in upper case, so that "and", "or" and
+ * "not" can still be searched for.
+ */
+public class QueryParser {
+
+    public static final String MESSAGE_EMPTY_QUERY = "The query is empty.";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected '%1$s' in the query.";
+    public static final String MESSAGE_MISSING_OPERAND = "%1$s must be followed by a term.";
+    public static final String MESSAGE_UNCLOSED_PARENTHESIS = "A '(' in the query is not closed.";
+    public static final String MESSAGE_UNCLOSED_PHRASE = "A phrase in the query is not closed with '\"'.";
+    public static final String MESSAGE_EMPTY_PHRASE = "A phrase in the query has no words.";
+    public static final String MESSAGE_PHRASE_NOT_ALLOWED = "Only statements and remarks can be searched for a phrase.";
+    public static final String MESSAGE_INVALID_PHONE = "Phones can only be searched for digits.";
+
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+
+    private static final List<Prefix> FIELD_PREFIXES =
+            Arrays.asList(PREFIX_STATEMENT, PREFIX_REMARK, PREFIX_PHONE, PREFIX_TAG);
+    private static final List<QueryField> PREFIXED_FIELDS =
+            Arrays.asList(QueryField.STATEMENT, QueryField.REMARK, QueryField.PHONE, QueryField.TAG);
+
+    private final String input;
+    private int position;
+
+    private QueryParser(String input) {
+        this.input = input;
+    }
+
+    /**
+     * Parses {@code query} into a {@code Query}.
+     * @throws ParseException if {@code query} does not conform to the query syntax
+     */
+    public static Query parseQuery(String query) throws ParseException {
+        QueryParser parser = new QueryParser(query);
+        if (parser.peek().isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_QUERY);
+        }
+        Query result = parser.parseOr();
+        String trailing = parser.peek();
+        if (!trailing.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, trailing));
+        }
+        return result;
+    }
+
+    private Query parseOr() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (peek().equals(OPERATOR_OR)) {
+            next();
+            operands.add(parseOperand(OPERATOR_OR));
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    private Query parseAnd() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (true) {
+            String token = peek();
+            if (token.equals(OPERATOR_AND)) {
+                next();
+                operands.add(parseOperand(OPERATOR_AND));
+            } else if (token.isEmpty() || token.equals(OPERATOR_OR) || token.equals(")")) {
+                break;
+            } else {
+                operands.add(parseUnary());
+            }
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    /**
+     * Parses the operand after {@code operator}.
+     * @throws ParseException if there is no operand
+     */
+    private Query parseOperand(String operator) throws ParseException {
+        String token = peek();
+        if (token.isEmpty() || token.equals(OPERATOR_AND) || token.equals(OPERATOR_OR) || token.equals(")")) {
+            throw new ParseException(String.format(MESSAGE_MISSING_OPERAND, operator));
+        }
+        return parseUnary();
+    }
+
+    private Query parseUnary() throws ParseException {
+        String token = peek();
+        if (token.equals(OPERATOR_NOT)) {
+            next();
+            return new NotQuery(parseOperand(OPERATOR_NOT));
+        }
+        if (token.equals("(")) {
+            next();
+            Query query = parseOr();
+            if (!peek().equals(")")) {
+                throw new ParseException(MESSAGE_UNCLOSED_PARENTHESIS);
+            }
+            next();
+            return query;
+        }
+        if (token.equals(OPERATOR_AND) || token.equals(OPERATOR_OR) || token.equals(")")) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+        }
+        return parseTerm(next());
+    }
+
+    /**
+     * Parses a term token, which is a word or a quoted phrase with an optional field prefix.
+     */
+    private static Query parseTerm(String token) throws ParseException {
+        QueryField field = QueryField.STATEMENT;
+        String value = token;
+        for (int i = 0; i < FIELD_PREFIXES.size(); i++) {
+            String prefix = FIELD_PREFIXES.get(i).getPrefix();
+            if (token.startsWith(prefix)) {
+                field = PREFIXED_FIELDS.get(i);
+                value = token.substring(prefix.length());
+                if (value.isEmpty()) {
+                    throw new ParseException(String.format(MESSAGE_MISSING_OPERAND, prefix));
+                }
+                break;
+            }
+        }
+
+        List<String> words = parseWords(value);
+        if (words.size() > 1 && field != QueryField.STATEMENT && field != QueryField.REMARK) {
+            throw new ParseException(MESSAGE_PHRASE_NOT_ALLOWED);
+        }
+        if (field == QueryField.TAG && !Tag.isValidTagName(words.get(0))) {
+            throw new ParseException(Tag.MESSAGE_TAG_CONSTRAINTS);
+        }
+        if (field == QueryField.PHONE && !words.get(0).matches("\\d+")) {
+            throw new ParseException(MESSAGE_INVALID_PHONE);
+        }
+        return new TermQuery(field, words);
+    }
+
+    /**
+     * Splits the value of a term into its words, removing the quotes around a phrase.
+     */
+    private static List<String> parseWords(String value) throws ParseException {
+        if (!value.startsWith("\"")) {
+            return Collections.singletonList(value);
+        }
+        if (value.length() < 2 || !value.endsWith("\"")) {
+            throw new ParseException(MESSAGE_UNCLOSED_PHRASE);
+        }
+        String phrase = value.substring(1, value.length() - 1).trim();
+        if (phrase.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_PHRASE);
+        }
+        return Arrays.asList(phrase.split("\\s+"));
+    }
+
+    /**
+     * Returns the next token without consuming it, or an empty string at the end of the input.
+     */
+    private String peek() {
+        int start = position;
+        String token = next();
+        position = start;
+        return token;
+    }
+
+    /**
+     * Consumes and returns the next token, or an empty string at the end of the input.
+     * A token is a parenthesis, or a run of characters up to the next whitespace or parenthesis, in which a quoted
+     * phrase may contain whitespace and parentheses.
+     */
+    private String next() {
+        while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+            position++;
+        }
+        if (position == input.length()) {
+            return "";
+        }
+
+        int start = position;
+        char first = input.charAt(position);
+        if (first == '(' || first == ')') {
+            position++;
+            return String.valueOf(first);
+        }
+
+        boolean isInPhrase = false;
+        while (position < input.length()) {
+            char c = input.charAt(position);
+            if (c == '"') {
+                isInPhrase = !isInPhrase;
+            } else if (!isInPhrase && (Character.isWhitespace(c) || c == '(' || c == ')')) {
+                break;
+            }
+            position++;
+        }
+        return input.substring(start, position);
+    }
+}
@@ -16,6 +16,8 @@ import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.TagsCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -70,6 +72,12 @@ public class SaveItParser {
         case HistoryCommand.COMMAND_WORD:
             return new HistoryCommand();
 
+        case SortCommand.COMMAND_WORD:
+            return new SortCommandParser().parse(arguments);
+
+        case TagsCommand.COMMAND_WORD:
+            return new TagsCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -0,0 +1,125 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index of a set of words by the pairs of adjacent characters (bigrams) in each, which finds the words within a
+ * small edit distance of a given word without comparing it against every word.
+ *
+ * Each word is padded with a space at both ends, so a word of n characters has n + 1 bigrams. An edit changes at
+ * most two of them, so a word within k edits of another shares all but at most 2k of its distinct bigrams with it.
+ * Words sharing fewer are skipped, and the rest are checked with a bounded edit distance computation. Where the
+ * bigrams cannot rule out any word, as for short words, only the words of a possible length are checked.
+ */
+class FuzzyWordIndex {
+
+    private static final char PADDING = ' ';
+    private static final int EDITS_PER_BIGRAM = 2;
+
+    private final Map<String, Set<String>> wordsByBigram = new HashMap<>();
+    private final Map<Integer, Set<String>> wordsByLength = new HashMap<>();
+
+    /**
+     * Adds {@code word}, which must not already be in the index.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        for (String bigram : getBigrams(word)) {
+            wordsByBigram.computeIfAbsent(bigram, unused -> new HashSet<>()).add(word);
+        }
+        wordsByLength.computeIfAbsent(word.length(), unused -> new HashSet<>()).add(word);
+    }
+
+    /**
+     * Removes {@code word} from the index, dropping entries that become empty.
+     */
+    void remove(String word) {
+        requireNonNull(word);
+        for (String bigram : getBigrams(word)) {
+            removeFrom(wordsByBigram, bigram, word);
+        }
+        removeFrom(wordsByLength, word.length(), word);
+    }
+
+    void clear() {
+        wordsByBigram.clear();
+        wordsByLength.clear();
+    }
+
+    /**
+     * Returns the words in the index that are at most {@code maxDistance} edits from {@code word}, ignoring case.
+     */
+    List<String> findWordsWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        Set<String> bigrams = getBigrams(word);
+        int minSharedBigrams = bigrams.size() - EDITS_PER_BIGRAM * maxDistance;
+        Iterable<String> candidates = minSharedBigrams > 0
+                ? getWordsSharingBigrams(bigrams, minSharedBigrams)
+                : getWordsOfLength(word.length() - maxDistance, word.length() + maxDistance);
+
+        List<String> words = new ArrayList<>();
+        for (String candidate : candidates) {
+            if (StringUtil.isWithinEditDistanceIgnoreCase(candidate, word, maxDistance)) {
+                words.add(candidate);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the words that have at least {@code minSharedBigrams} of {@code bigrams}.
+     */
+    private List<String> getWordsSharingBigrams(Set<String> bigrams, int minSharedBigrams) {
+        Map<String, Integer> sharedBigramCounts = new HashMap<>();
+        List<String> words = new ArrayList<>();
+        for (String bigram : bigrams) {
+            for (String word : wordsByBigram.getOrDefault(bigram, Collections.emptySet())) {
+                int count = sharedBigramCounts.merge(word, 1, Integer::sum);
+                if (count == minSharedBigrams) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    private List<String> getWordsOfLength(int minLength, int maxLength) {
+        List<String> words = new ArrayList<>();
+        for (int length = Math.max(0, minLength); length <= maxLength; length++) {
+            words.addAll(wordsByLength.getOrDefault(length, Collections.emptySet()));
+        }
+        return words;
+    }
+
+    /**
+     * Returns the distinct bigrams of {@code word}, padded with a space at both ends.
+     */
+    private static Set<String> getBigrams(String word) {
+        String padded = PADDING + word + PADDING;
+        Set<String> bigrams = new HashSet<>();
+        for (int i = 0; i + 2 <= padded.length(); i++) {
+            bigrams.add(padded.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    private static <K> void removeFrom(Map<K, Set<String>> map, K key, String word) {
+        Set<String> words = map.get(key);
+        if (words != null) {
+            words.remove(word);
+            if (words.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+}
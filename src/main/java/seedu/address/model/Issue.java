@@ -1,7 +1,5 @@
 package seedu.address.model;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -10,6 +8,7 @@ import seedu.address.model.issue.IssueStatement;
 import seedu.address.model.issue.Phone;
 import seedu.address.model.issue.Remark;
 import seedu.address.model.issue.Tag;
+import seedu.address.model.issue.TagSet;
 
 /**
  * Represents a Issue in the remark book.
@@ -17,23 +16,63 @@ import seedu.address.model.issue.Tag;
  */
 public class Issue {
 
+    /** The id of an issue that has not been added to an issue list. */
+    public static final int NO_ID = 0;
+
+    /**
+     * Identifies the issue in its issue list, and is kept when the issue is edited. It is not one of the fields of
+     * the issue, and is ignored when issues are compared.
+     */
+    private final int id;
+
     // Identity fields
     private final IssueStatement statement;
     private final Phone phone;
 
     // Data fields
     private final Remark remark;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    /** Computed once, as issues are hashed on every lookup in the issue list and its indexes. */
+    private final int hashCode;
 
     /**
      * Every field must be present and not null.
+     * Passing a {@code TagSet} as {@code tags} shares it instead of copying it.
      */
     public Issue(IssueStatement statement, Phone phone, Remark remark, Set<Tag> tags) {
+        this(NO_ID, statement, phone, remark, tags);
+    }
+
+    /**
+     * Creates an issue with the given {@code id}, which must be positive, or {@link #NO_ID}.
+     * Every field must be present and not null.
+     */
+    public Issue(int id, IssueStatement statement, Phone phone, Remark remark, Set<Tag> tags) {
         CollectionUtil.requireAllNonNull(statement, phone, remark, tags);
+        assert id >= 0;
+        this.id = id;
         this.statement = statement;
         this.phone = phone;
         this.remark = remark;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        // use this method for custom fields hashing instead of implementing your own
+        this.hashCode = Objects.hash(statement, phone, remark, this.tags);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != NO_ID;
+    }
+
+    /**
+     * Returns a copy of this issue with the given {@code id}.
+     */
+    public Issue withId(int id) {
+        return new Issue(id, statement, phone, remark, tags);
     }
 
     public IssueStatement getStatement() {
@@ -50,10 +89,10 @@ public class Issue {
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The set iterates over the tags in order of their names.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -85,16 +124,16 @@ public class Issue {
         }
 
         Issue otherIssue = (Issue) other;
-        return otherIssue.getStatement().equals(getStatement())
+        return otherIssue.hashCode == hashCode // short circuit if hash codes differ
+                && otherIssue.getStatement().equals(getStatement())
                 && otherIssue.getPhone().equals(getPhone())
                 && otherIssue.getAddress().equals(getAddress())
-                && otherIssue.getTags().equals(getTags());
+                && otherIssue.tags.equals(tags);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(statement, phone, remark, tags);
+        return hashCode;
     }
 
     @Override
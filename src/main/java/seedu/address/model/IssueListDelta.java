@@ -0,0 +1,329 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.core.collections.PersistentList;
+import seedu.address.model.issue.IssueStatement;
+import seedu.address.model.issue.Phone;
+import seedu.address.model.issue.Remark;
+import seedu.address.model.issue.Tag;
+
+/**
+ * Represents a single change made to a {@code UniqueIssueList}: an issue added, removed or replaced at a position,
+ * or the whole list replaced.
+ * Guarantees: immutable; every change has an inverse that undoes it, see {@link #invert()}.
+ */
+public final class IssueListDelta {
+
+    /** Rough heap footprint of an issue and its fields, excluding the characters of its strings. */
+    private static final long ISSUE_OVERHEAD_BYTES = 200;
+    /** Heap footprint of a tag held by an issue, which holds only the id of the shared tag. */
+    private static final long TAG_OVERHEAD_BYTES = 4;
+
+    /**
+     * The kinds of changes that can be made to a {@code UniqueIssueList}.
+     */
+    public enum Type {
+        /** {@code newIssue} was inserted at {@code index}. */
+        ADDED,
+        /** {@code oldIssue} was removed from {@code index}. */
+        REMOVED,
+        /** {@code oldIssue} at {@code index} was replaced by {@code newIssue}. */
+        UPDATED,
+        /** The whole list {@code oldIssues} was replaced by {@code newIssues}. */
+        REPLACED
+    }
+
+    private final Type type;
+    private final int index;
+    private final Issue oldIssue;
+    private final Issue newIssue;
+    private final PersistentList<Issue> oldIssues;
+    private final PersistentList<Issue> newIssues;
+
+    private IssueListDelta(Type type, int index, Issue oldIssue, Issue newIssue,
+                           PersistentList<Issue> oldIssues, PersistentList<Issue> newIssues) {
+        this.type = type;
+        this.index = index;
+        this.oldIssue = oldIssue;
+        this.newIssue = newIssue;
+        this.oldIssues = oldIssues;
+        this.newIssues = newIssues;
+    }
+
+    /**
+     * Returns a change that inserts {@code issue} at {@code index}.
+     */
+    public static IssueListDelta added(int index, Issue issue) {
+        requireNonNull(issue);
+        return new IssueListDelta(Type.ADDED, index, null, issue, null, null);
+    }
+
+    /**
+     * Returns a change that removes {@code issue}, which is at {@code index}.
+     */
+    public static IssueListDelta removed(int index, Issue issue) {
+        requireNonNull(issue);
+        return new IssueListDelta(Type.REMOVED, index, issue, null, null, null);
+    }
+
+    /**
+     * Returns a change that replaces {@code oldIssue}, which is at {@code index}, with {@code newIssue}.
+     */
+    public static IssueListDelta updated(int index, Issue oldIssue, Issue newIssue) {
+        requireNonNull(oldIssue);
+        requireNonNull(newIssue);
+        return new IssueListDelta(Type.UPDATED, index, oldIssue, newIssue, null, null);
+    }
+
+    /**
+     * Returns a change that replaces the whole list {@code oldIssues} with {@code newIssues}.
+     */
+    public static IssueListDelta replaced(PersistentList<Issue> oldIssues, PersistentList<Issue> newIssues) {
+        requireNonNull(oldIssues);
+        requireNonNull(newIssues);
+        return new IssueListDelta(Type.REPLACED, 0, null, null, oldIssues, newIssues);
+    }
+
+    /**
+     * Returns the change that undoes this change.
+     */
+    public IssueListDelta invert() {
+        switch (type) {
+        case ADDED:
+            return removed(index, newIssue);
+        case REMOVED:
+            return added(index, oldIssue);
+        case UPDATED:
+            return updated(index, newIssue, oldIssue);
+        case REPLACED:
+            return replaced(newIssues, oldIssues);
+        default:
+            throw new AssertionError("Unknown delta type " + type);
+        }
+    }
+
+    /**
+     * Writes this change to {@code out}, with its issues written as their ids and field values.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeByte(type.ordinal());
+        switch (type) {
+        case ADDED:
+            out.writeInt(index);
+            writeIssue(out, newIssue);
+            break;
+        case REMOVED:
+            out.writeInt(index);
+            writeIssue(out, oldIssue);
+            break;
+        case UPDATED:
+            out.writeInt(index);
+            writeIssue(out, oldIssue);
+            writeIssue(out, newIssue);
+            break;
+        case REPLACED:
+            writeIssues(out, oldIssues);
+            writeIssues(out, newIssues);
+            break;
+        default:
+            throw new AssertionError("Unknown delta type " + type);
+        }
+    }
+
+    /**
+     * Reads a change written by {@link #writeTo(DataOutput)} from {@code in}.
+     * Its issues were valid when written, so they are not validated again.
+     */
+    public static IssueListDelta readFrom(DataInput in) throws IOException {
+        Type type = Type.values()[in.readByte()];
+        switch (type) {
+        case ADDED:
+            return added(in.readInt(), readIssue(in));
+        case REMOVED:
+            return removed(in.readInt(), readIssue(in));
+        case UPDATED:
+            int index = in.readInt();
+            Issue oldIssue = readIssue(in);
+            return updated(index, oldIssue, readIssue(in));
+        case REPLACED:
+            PersistentList<Issue> oldIssues = readIssues(in);
+            return replaced(oldIssues, readIssues(in));
+        default:
+            throw new AssertionError("Unknown delta type " + type);
+        }
+    }
+
+    /**
+     * Writes the number of {@code issues} to {@code out}, followed by each issue.
+     */
+    private static void writeIssues(DataOutput out, PersistentList<Issue> issues) throws IOException {
+        out.writeInt(issues.size());
+        for (Issue issue : issues) {
+            writeIssue(out, issue);
+        }
+    }
+
+    /**
+     * Reads a list of issues written by {@code writeIssues} from {@code in}.
+     */
+    private static PersistentList<Issue> readIssues(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<Issue> issues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            issues.add(readIssue(in));
+        }
+        return PersistentList.of(issues);
+    }
+
+    /**
+     * Writes the id and field values of {@code issue} to {@code out}.
+     */
+    private static void writeIssue(DataOutput out, Issue issue) throws IOException {
+        out.writeInt(issue.getId());
+        out.writeUTF(issue.getStatement().issue);
+        out.writeUTF(issue.getPhone().value);
+        out.writeUTF(issue.getAddress().value);
+        out.writeInt(issue.getTags().size());
+        for (Tag tag : issue.getTags()) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+
+    /**
+     * Reads an issue written by {@code writeIssue} from {@code in}.
+     */
+    private static Issue readIssue(DataInput in) throws IOException {
+        int id = in.readInt();
+        IssueStatement statement = IssueStatement.ofValidated(in.readUTF());
+        Phone phone = Phone.ofValidated(in.readUTF());
+        Remark remark = Remark.ofValidated(in.readUTF());
+        int tagCount = in.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.of(in.readUTF()));
+        }
+        return new Issue(id, statement, phone, remark, tags);
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes of heap memory taken up by the issues in this change.
+     * Issues shared with other changes or with the current list are counted in full.
+     */
+    long estimateFootprint() {
+        switch (type) {
+        case ADDED:
+            return estimateFootprint(newIssue);
+        case REMOVED:
+            return estimateFootprint(oldIssue);
+        case UPDATED:
+            return estimateFootprint(oldIssue) + estimateFootprint(newIssue);
+        case REPLACED:
+            long footprint = 0;
+            for (Issue issue : oldIssues) {
+                footprint += estimateFootprint(issue);
+            }
+            for (Issue issue : newIssues) {
+                footprint += estimateFootprint(issue);
+            }
+            return footprint;
+        default:
+            throw new AssertionError("Unknown delta type " + type);
+        }
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes of heap memory taken up by {@code issue}.
+     */
+    private static long estimateFootprint(Issue issue) {
+        long chars = issue.getStatement().issue.length() + issue.getPhone().value.length()
+                + issue.getAddress().value.length();
+        return ISSUE_OVERHEAD_BYTES + TAG_OVERHEAD_BYTES * issue.getTags().size() + 2 * chars;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the position of the changed issue. Not applicable to {@code Type#REPLACED} changes.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the issue before the change. Only present for {@code Type#REMOVED} and {@code Type#UPDATED} changes.
+     */
+    public Issue getOldIssue() {
+        return oldIssue;
+    }
+
+    /**
+     * Returns the issue after the change. Only present for {@code Type#ADDED} and {@code Type#UPDATED} changes.
+     */
+    public Issue getNewIssue() {
+        return newIssue;
+    }
+
+    /**
+     * Returns the whole list before the change. Only present for {@code Type#REPLACED} changes.
+     */
+    public PersistentList<Issue> getOldIssues() {
+        return oldIssues;
+    }
+
+    /**
+     * Returns the whole list after the change. Only present for {@code Type#REPLACED} changes.
+     */
+    public PersistentList<Issue> getNewIssues() {
+        return newIssues;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof IssueListDelta)) {
+            return false;
+        }
+
+        IssueListDelta otherDelta = (IssueListDelta) other;
+        return type == otherDelta.type
+                && index == otherDelta.index
+                && Objects.equals(oldIssue, otherDelta.oldIssue)
+                && Objects.equals(newIssue, otherDelta.newIssue)
+                && Objects.equals(oldIssues, otherDelta.oldIssues)
+                && Objects.equals(newIssues, otherDelta.newIssues);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, index, oldIssue, newIssue);
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+        case ADDED:
+            return "Added at " + index + ": " + newIssue;
+        case REMOVED:
+            return "Removed at " + index + ": " + oldIssue;
+        case UPDATED:
+            return "Updated at " + index + ": " + oldIssue + " -> " + newIssue;
+        default:
+            return "Replaced " + oldIssues.size() + " issues with " + newIssues.size() + " issues";
+        }
+    }
+}
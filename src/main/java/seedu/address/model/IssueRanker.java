@@ -0,0 +1,207 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+import seedu.address.model.issue.Tag;
+
+/**
+ * Ranks the issues in an issue list by their relevance to a set of keywords, with the Okapi BM25 scoring function.
+ *
+ * Each issue is scored as a document made of the words of its statement and remark and the names of its tags, matched
+ * case-insensitively as in {@code IssueTextIndex}. The index keeps, for each word, the number of times it occurs in
+ * each issue containing it, along with the length of each issue and their total length. These statistics are kept up
+ * to date by applying each {@code IssueListDelta} made to the list, so ranking only visits the issues that contain a
+ * keyword. The most relevant issues are then selected with a heap holding at most as many issues as are wanted.
+ */
+class IssueRanker {
+
+    /** How quickly the score of an issue stops growing as a keyword occurs more often in it. */
+    private static final double TERM_FREQUENCY_SATURATION = 1.2;
+    /** How much the score of an issue is lowered for being longer than average, from 0 (not at all) to 1. */
+    private static final double LENGTH_NORMALIZATION = 0.75;
+
+    /** The issues containing each word, with the number of times it occurs in each of them. */
+    private final Map<String, Map<Issue, Integer>> postings = new HashMap<>();
+    /** The number of words in each issue. */
+    private final Map<Issue, Integer> lengths = new IdentityHashMap<>();
+    private long totalLength;
+
+    /**
+     * Creates an index of {@code issues}.
+     */
+    IssueRanker(List<Issue> issues) {
+        issues.forEach(this::index);
+    }
+
+    /**
+     * Updates the index to reflect {@code delta}.
+     */
+    void applyDelta(IssueListDelta delta) {
+        requireNonNull(delta);
+        switch (delta.getType()) {
+        case ADDED:
+            index(delta.getNewIssue());
+            break;
+        case REMOVED:
+            unindex(delta.getOldIssue());
+            break;
+        case UPDATED:
+            unindex(delta.getOldIssue());
+            index(delta.getNewIssue());
+            break;
+        case REPLACED:
+            postings.clear();
+            lengths.clear();
+            totalLength = 0;
+            delta.getNewIssues().forEach(this::index);
+            break;
+        default:
+            throw new AssertionError("Unknown delta type " + delta.getType());
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} of the issues in the index that contain any of {@code keywords}, mapped to their
+     * scores. The issues are in order of decreasing score, and of statement among issues with equal scores.
+     */
+    Map<Issue, Double> findMostRelevant(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        assert limit > 0;
+        Map<Issue, Double> scores = new IdentityHashMap<>();
+        for (String key : toDistinctKeys(keywords)) {
+            Map<Issue, Integer> frequencies = postings.getOrDefault(key, Collections.emptyMap());
+            double inverseDocumentFrequency = getInverseDocumentFrequency(frequencies.size());
+            frequencies.forEach((issue, frequency) -> scores.merge(issue,
+                    scoreTerm(inverseDocumentFrequency, frequency, lengths.get(issue)), Double::sum));
+        }
+
+        // the least relevant of the issues kept is at the head, to be replaced by any more relevant issue
+        Comparator<Map.Entry<Issue, Double>> byRelevance = Map.Entry.comparingByValue();
+        byRelevance = byRelevance.thenComparing(Map.Entry.comparingByKey(byStatement().reversed()));
+        PriorityQueue<Map.Entry<Issue, Double>> mostRelevant = new PriorityQueue<>(limit + 1, byRelevance);
+        for (Map.Entry<Issue, Double> entry : scores.entrySet()) {
+            if (mostRelevant.size() < limit) {
+                mostRelevant.add(entry);
+            } else if (byRelevance.compare(entry, mostRelevant.peek()) > 0) {
+                mostRelevant.poll();
+                mostRelevant.add(entry);
+            }
+        }
+
+        List<Map.Entry<Issue, Double>> ranked = new ArrayList<>(mostRelevant);
+        ranked.sort(byRelevance.reversed());
+        Map<Issue, Double> rankedScores = new LinkedHashMap<>();
+        ranked.forEach(entry -> rankedScores.put(entry.getKey(), entry.getValue()));
+        return rankedScores;
+    }
+
+    /**
+     * Returns the score of {@code issue} for {@code keywords}, given the statistics of the issues in the index.
+     * {@code issue} need not be in the index.
+     */
+    double score(Issue issue, List<String> keywords) {
+        requireNonNull(issue);
+        requireNonNull(keywords);
+        Map<String, Integer> frequencies = countTerms(issue);
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        double score = 0;
+        for (String key : toDistinctKeys(keywords)) {
+            Integer frequency = frequencies.get(key);
+            if (frequency != null) {
+                int documentFrequency = postings.getOrDefault(key, Collections.emptyMap()).size();
+                score += scoreTerm(getInverseDocumentFrequency(documentFrequency), frequency, length);
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Returns a comparator that orders issues by their statements, to break ties between equally relevant issues.
+     */
+    static Comparator<Issue> byStatement() {
+        return Comparator.comparing(issue -> issue.getStatement().issue);
+    }
+
+    /**
+     * Returns the weight of a keyword that occurs in {@code documentFrequency} of the issues, which is higher for
+     * rarer keywords and is never negative.
+     */
+    private double getInverseDocumentFrequency(int documentFrequency) {
+        return Math.log(1 + (lengths.size() - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    /**
+     * Returns the score contributed by a keyword with the given inverse document frequency that occurs
+     * {@code frequency} times in an issue of {@code length} words.
+     */
+    private double scoreTerm(double inverseDocumentFrequency, int frequency, int length) {
+        double averageLength = lengths.isEmpty() ? 1 : (double) totalLength / lengths.size();
+        double lengthRatio = averageLength == 0 ? 1 : length / averageLength;
+        double normalization = 1 - LENGTH_NORMALIZATION + LENGTH_NORMALIZATION * lengthRatio;
+        return inverseDocumentFrequency * frequency * (TERM_FREQUENCY_SATURATION + 1)
+                / (frequency + TERM_FREQUENCY_SATURATION * normalization);
+    }
+
+    private void index(Issue issue) {
+        Map<String, Integer> frequencies = countTerms(issue);
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), unused -> new IdentityHashMap<>()).put(issue, entry.getValue());
+            length += entry.getValue();
+        }
+        lengths.put(issue, length);
+        totalLength += length;
+    }
+
+    private void unindex(Issue issue) {
+        for (String key : countTerms(issue).keySet()) {
+            Map<Issue, Integer> frequencies = postings.get(key);
+            if (frequencies != null) {
+                frequencies.remove(issue);
+                if (frequencies.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+        Integer length = lengths.remove(issue);
+        if (length != null) {
+            totalLength -= length;
+        }
+    }
+
+    /**
+     * Returns the number of times each word occurs in the statement, remark and tag names of {@code issue}.
+     */
+    private static Map<String, Integer> countTerms(Issue issue) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        countWords(frequencies, issue.getStatement().issue);
+        countWords(frequencies, issue.getAddress().value);
+        for (Tag tag : issue.getTags()) {
+            frequencies.merge(IssueTextIndex.toKey(tag.tagName), 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    private static void countWords(Map<String, Integer> frequencies, String text) {
+        for (String word : text.split("\\s+")) {
+            if (!word.isEmpty()) {
+                frequencies.merge(IssueTextIndex.toKey(word), 1, Integer::sum);
+            }
+        }
+    }
+
+    private static List<String> toDistinctKeys(List<String> keywords) {
+        return keywords.stream().map(IssueTextIndex::toKey).distinct().collect(Collectors.toList());
+    }
+}
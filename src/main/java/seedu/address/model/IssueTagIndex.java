@@ -0,0 +1,162 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.issue.Tag;
+
+/**
+ * An inverted index from each tag in an issue list to the issues that have it.
+ * It is kept up to date by applying each {@code IssueListDelta} made to the list.
+ */
+class IssueTagIndex {
+
+    private final Map<Tag, Set<Issue>> postings = new HashMap<>();
+    /** Incremented on every change to the index. */
+    private long modificationCount;
+
+    /**
+     * Updates the index to reflect {@code delta}.
+     */
+    void applyDelta(IssueListDelta delta) {
+        requireNonNull(delta);
+        modificationCount++;
+        switch (delta.getType()) {
+        case ADDED:
+            index(delta.getNewIssue());
+            break;
+        case REMOVED:
+            unindex(delta.getOldIssue());
+            break;
+        case UPDATED:
+            unindex(delta.getOldIssue());
+            index(delta.getNewIssue());
+            break;
+        case REPLACED:
+            postings.clear();
+            delta.getNewIssues().forEach(this::index);
+            break;
+        default:
+            throw new AssertionError("Unknown delta type " + delta.getType());
+        }
+    }
+
+    /**
+     * Returns a predicate that is true for issues in the index that have at least one of the tags in each of
+     * {@code tagGroups}. The predicate stays up to date as the index changes.
+     */
+    Predicate<Issue> hasTags(List<Set<Tag>> tagGroups) {
+        return new HasTagsPredicate(tagGroups);
+    }
+
+    /**
+     * Returns the issues in the index that have at least one of the tags in each of {@code tagGroups}, in time
+     * proportional to the number of issues with the tags in the smallest group.
+     */
+    Set<Issue> findIssues(List<Set<Tag>> tagGroups) {
+        if (tagGroups.isEmpty()) {
+            throw new IllegalArgumentException("At least one group of tags is required.");
+        }
+        List<Set<Tag>> orderedGroups = new ArrayList<>(tagGroups);
+        orderedGroups.sort(Comparator.comparingInt(this::countPostings));
+
+        Set<Issue> matches = newIdentitySet();
+        for (Tag tag : orderedGroups.get(0)) {
+            matches.addAll(postings.getOrDefault(tag, Collections.emptySet()));
+        }
+        for (Set<Tag> group : orderedGroups.subList(1, orderedGroups.size())) {
+            matches.removeIf(issue -> !hasAnyTag(issue, group));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the issues in the index that have {@code tag}.
+     */
+    Set<Issue> getIssues(Tag tag) {
+        Set<Issue> issues = postings.get(tag);
+        return issues == null ? Collections.emptySet() : Collections.unmodifiableSet(issues);
+    }
+
+    /**
+     * Returns the number of issues with each tag, in {@link Tag#NAME_ORDER}.
+     */
+    Map<Tag, Integer> getTagCounts() {
+        List<Tag> tags = new ArrayList<>(postings.keySet());
+        tags.sort(Tag.NAME_ORDER);
+        Map<Tag, Integer> tagCounts = new LinkedHashMap<>();
+        tags.forEach(tag -> tagCounts.put(tag, postings.get(tag).size()));
+        return tagCounts;
+    }
+
+    private boolean hasAnyTag(Issue issue, Set<Tag> tags) {
+        for (Tag tag : tags) {
+            Set<Issue> issues = postings.get(tag);
+            if (issues != null && issues.contains(issue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int countPostings(Set<Tag> tags) {
+        return tags.stream().mapToInt(tag -> postings.getOrDefault(tag, Collections.emptySet()).size()).sum();
+    }
+
+    private void index(Issue issue) {
+        for (Tag tag : issue.getTags()) {
+            postings.computeIfAbsent(tag, unused -> newIdentitySet()).add(issue);
+        }
+    }
+
+    /**
+     * Removes {@code issue} from the postings of each of its tags, dropping postings that become empty.
+     */
+    private void unindex(Issue issue) {
+        for (Tag tag : issue.getTags()) {
+            Set<Issue> issues = postings.get(tag);
+            issues.remove(issue);
+            if (issues.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+    }
+
+    private static Set<Issue> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>(2));
+    }
+
+    /**
+     * Tests that an issue in the index has at least one of the tags in each of the given groups of tags.
+     * The matching issues are found with {@link #findIssues(List)} the first time an issue is tested after the index
+     * changes, so that each test is then a single lookup.
+     */
+    private class HasTagsPredicate implements Predicate<Issue> {
+        private final List<Set<Tag>> tagGroups;
+        private Set<Issue> matches;
+        private long matchesModificationCount;
+
+        HasTagsPredicate(List<Set<Tag>> tagGroups) {
+            this.tagGroups = new ArrayList<>(tagGroups);
+        }
+
+        @Override
+        public boolean test(Issue issue) {
+            if (matches == null || matchesModificationCount != modificationCount) {
+                matches = findIssues(tagGroups);
+                matchesModificationCount = modificationCount;
+            }
+            return matches.contains(issue);
+        }
+    }
+}
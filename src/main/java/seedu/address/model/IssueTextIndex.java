@@ -0,0 +1,219 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * An inverted index from the words in the statement and remark of each issue in an issue list to the issues that
+ * contain them. It is kept up to date by applying each {@code IssueListDelta} made to the list.
+ * Words are split on whitespace and matched case-insensitively, as in {@code StringUtil#containsWordIgnoreCase}.
+ * The distinct words of the statements are also indexed by {@code FuzzyWordIndex}, to find the issues whose
+ * statements contain words similar to a misspelt word.
+ */
+class IssueTextIndex {
+
+    /**
+     * The fields of an issue that are indexed.
+     */
+    enum Field {
+        STATEMENT,
+        REMARK
+    }
+
+    private final Map<String, Set<Issue>> statementPostings = new HashMap<>();
+    private final Map<String, Set<Issue>> remarkPostings = new HashMap<>();
+    private final FuzzyWordIndex statementWords = new FuzzyWordIndex();
+    /** Incremented on every change to the index. */
+    private long modificationCount;
+
+    /**
+     * Creates an index of {@code issues}.
+     */
+    IssueTextIndex(List<Issue> issues) {
+        issues.forEach(this::index);
+    }
+
+    /**
+     * Updates the index to reflect {@code delta}.
+     */
+    void applyDelta(IssueListDelta delta) {
+        requireNonNull(delta);
+        modificationCount++;
+        switch (delta.getType()) {
+        case ADDED:
+            index(delta.getNewIssue());
+            break;
+        case REMOVED:
+            unindex(delta.getOldIssue());
+            break;
+        case UPDATED:
+            unindex(delta.getOldIssue());
+            index(delta.getNewIssue());
+            break;
+        case REPLACED:
+            statementPostings.clear();
+            remarkPostings.clear();
+            statementWords.clear();
+            delta.getNewIssues().forEach(this::index);
+            break;
+        default:
+            throw new AssertionError("Unknown delta type " + delta.getType());
+        }
+    }
+
+    /**
+     * Returns a predicate that is true for issues in the index whose {@code field} contains any of {@code words}.
+     * The predicate tests an issue with one lookup per word, and stays up to date as the index changes.
+     */
+    Predicate<Issue> containsAnyWord(Field field, List<String> words) {
+        Map<String, Set<Issue>> postings = getPostings(field);
+        List<String> keys = words.stream().map(IssueTextIndex::toKey).distinct().collect(Collectors.toList());
+        return issue -> {
+            for (String key : keys) {
+                Set<Issue> issues = postings.get(key);
+                if (issues != null && issues.contains(issue)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns a predicate that is true for issues in the index whose statement contains a word within
+     * {@code maxDistanceOf} edits of any of {@code words}, ignoring case. The similar words are found the first time an
+     * issue is tested after the index changes, so that each test is then a single lookup.
+     */
+    Predicate<Issue> containsAnySimilarStatementWord(List<String> words, ToIntFunction<String> maxDistanceOf) {
+        return new SimilarWordPredicate(words, maxDistanceOf);
+    }
+
+    /**
+     * Returns the issues in the index whose statement contains a word within {@code maxDistanceOf} edits of any of
+     * {@code words}, ignoring case.
+     */
+    Set<Issue> findIssuesWithSimilarStatementWord(List<String> words, ToIntFunction<String> maxDistanceOf) {
+        Set<Issue> issues = newIdentitySet();
+        for (String word : words) {
+            for (String similarWord : statementWords.findWordsWithin(toKey(word), maxDistanceOf.applyAsInt(word))) {
+                issues.addAll(statementPostings.get(similarWord));
+            }
+        }
+        return issues;
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the issues in the index whose {@code field} contains {@code word}.
+     */
+    Set<Issue> getIssues(Field field, String word) {
+        Set<Issue> issues = getPostings(field).get(toKey(word));
+        return issues == null ? Collections.emptySet() : Collections.unmodifiableSet(issues);
+    }
+
+    private Map<String, Set<Issue>> getPostings(Field field) {
+        return field == Field.STATEMENT ? statementPostings : remarkPostings;
+    }
+
+    private void index(Issue issue) {
+        addPostings(statementPostings, issue.getStatement().issue, issue, statementWords);
+        addPostings(remarkPostings, issue.getAddress().value, issue, null);
+    }
+
+    private void unindex(Issue issue) {
+        removePostings(statementPostings, issue.getStatement().issue, issue, statementWords);
+        removePostings(remarkPostings, issue.getAddress().value, issue, null);
+    }
+
+    /**
+     * Adds {@code issue} to the postings of each word in {@code text}, and adds words that are new to the postings to
+     * {@code words}, if given.
+     */
+    private static void addPostings(Map<String, Set<Issue>> postings, String text, Issue issue,
+            FuzzyWordIndex words) {
+        for (String word : text.split("\\s+")) {
+            if (!word.isEmpty()) {
+                postings.computeIfAbsent(toKey(word), key -> {
+                    if (words != null) {
+                        words.add(key);
+                    }
+                    return newIdentitySet();
+                }).add(issue);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code issue} from the postings of each word in {@code text}, dropping postings that become empty,
+     * along with their words from {@code words}, if given.
+     */
+    private static void removePostings(Map<String, Set<Issue>> postings, String text, Issue issue,
+            FuzzyWordIndex words) {
+        for (String word : text.split("\\s+")) {
+            String key = toKey(word);
+            Set<Issue> issues = postings.get(key);
+            if (issues != null) {
+                issues.remove(issue);
+                if (issues.isEmpty()) {
+                    postings.remove(key);
+                    if (words != null) {
+                        words.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a key for {@code word} that is the same for all words equal to it ignoring case, in the sense of
+     * {@link String#equalsIgnoreCase(String)}.
+     */
+    static String toKey(String word) {
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns a small set that compares issues by identity. Issues in a {@code UniqueIssueList} are unique, so this
+     * is equivalent to comparing them with {@code equals}, without computing their hash codes.
+     */
+    private static Set<Issue> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>(2));
+    }
+
+    /**
+     * Tests that an issue in the index has a statement word similar to any of the given words.
+     */
+    private class SimilarWordPredicate implements Predicate<Issue> {
+        private final List<String> words;
+        private final ToIntFunction<String> maxDistanceOf;
+        private Set<Issue> matches;
+        private long matchesModificationCount;
+
+        SimilarWordPredicate(List<String> words, ToIntFunction<String> maxDistanceOf) {
+            this.words = new ArrayList<>(words);
+            this.maxDistanceOf = maxDistanceOf;
+        }
+
+        @Override
+        public boolean test(Issue issue) {
+            if (matches == null || matchesModificationCount != modificationCount) {
+                matches = findIssuesWithSimilarStatementWord(words, maxDistanceOf);
+                matchesModificationCount = modificationCount;
+            }
+            return matches.contains(issue);
+        }
+    }
+}
@@ -1,8 +1,17 @@
 package seedu.address.model;
 
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.issue.IssueHasTagsPredicate;
+import seedu.address.model.issue.NameContainsKeywordsPredicate;
+import seedu.address.model.issue.NameFuzzyMatchesKeywordsPredicate;
+import seedu.address.model.issue.RankedKeywordsPredicate;
+import seedu.address.model.issue.Tag;
+import seedu.address.model.issue.query.Query;
 
 /**
  * The API of the Model component.
@@ -22,6 +31,18 @@ public interface Model {
      */
     boolean hasPerson(Issue issue);
 
+    /**
+     * Returns the issue with {@code id}, if there is one. The id of an issue does not change when it is edited, or
+     * when changes are undone.
+     */
+    Optional<Issue> getPersonById(int id);
+
+    /**
+     * Returns the index of {@code issue} in the filtered issue list, or -1 if it is not shown.
+     * Takes O(log n) time, rather than searching the list.
+     */
+    int getFilteredPersonIndex(Issue issue);
+
     /**
      * Deletes the given issue.
      * The issue must exist in the address book.
@@ -41,15 +62,67 @@ public interface Model {
      */
     void updatePerson(Issue target, Issue editedIssue);
 
-    /** Returns an unmodifiable view of the filtered issue list */
+    /** Returns an unmodifiable view of the filtered issue list, in the order set by the last sort */
     ObservableList<Issue> getFilteredPersonList();
 
+    /**
+     * Sorts the filtered issue list with {@code comparator}, and keeps it sorted as issues are added, edited and
+     * filtered. A null {@code comparator} shows the issues in the order they were added.
+     */
+    void updateSortedPersonList(Comparator<Issue> comparator);
+
     /**
      * Updates the filter of the filtered issue list to filter by the given {@code predicate}.
+     * A large list is tested in parallel, and the filtered list is updated before this returns.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Issue> predicate);
 
+    /**
+     * Updates the filter of the filtered issue list to show the issues matched by {@code predicate}.
+     * Matching issues are looked up in the model's full-text index instead of testing {@code predicate} against
+     * the statement of every issue.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered issue list to show the issues matched by {@code predicate}.
+     * Matching issues are looked up in the model's tag index instead of testing {@code predicate} against the tags
+     * of every issue.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(IssueHasTagsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered issue list to show the issues matched by {@code predicate}.
+     * Words similar to the keywords are found in the model's index of statement words, instead of comparing every
+     * word of every statement with the keywords.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(NameFuzzyMatchesKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered issue list to show the issues most relevant to the keywords of
+     * {@code predicate}, in order of decreasing relevance. The most relevant issues are found again after each change
+     * to the issue list. The sort order set with {@link #updateSortedPersonList} is restored when the filter is next
+     * updated.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonList(RankedKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered issue list to show the issues matched by {@code query}, choosing between
+     * looking them up in the model's indexes and testing every issue by the estimated cost of each.
+     * If every issue is tested, a large list is tested in parallel, as with a predicate.
+     * @return the plan that was chosen, and the time taken to choose it and to apply it.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan updateFilteredPersonList(Query query);
+
+    /** Returns the number of issues with each tag, in alphabetical order of tag name. */
+    Map<Tag, Integer> getTagCounts();
+
     /**
      * Returns true if the model has previous address book states to restore.
      */
@@ -62,11 +135,15 @@ public interface Model {
 
     /**
      * Restores the model's address book to its previous state.
+     *
+     * @throws VersionedSaveIt.UndoHistoryUnavailableException if the previous state cannot be read back from disk.
      */
     void undoSaveIt();
 
     /**
      * Restores the model's address book to its previously undone state.
+     *
+     * @throws VersionedSaveIt.UndoHistoryUnavailableException if the undone state cannot be read back from disk.
      */
     void redoSaveIt();
 
@@ -2,16 +2,33 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.collections.PersistentList;
+import seedu.address.commons.events.model.IssuesChangedEvent;
 import seedu.address.commons.events.model.SaveItChangedEvent;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.issue.IssueHasTagsPredicate;
+import seedu.address.model.issue.NameContainsKeywordsPredicate;
+import seedu.address.model.issue.NameFuzzyMatchesKeywordsPredicate;
+import seedu.address.model.issue.RankedKeywordsPredicate;
+import seedu.address.model.issue.Tag;
+import seedu.address.model.issue.query.Query;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -21,6 +38,25 @@ public class ModelManager extends ComponentManager implements Model {
 
     private final VersionedSaveIt versionedSaveIt;
     private final FilteredList<Issue> filteredIssues;
+    /**
+     * The filtered issues in the order they are displayed. Each issue added, removed or edited is moved into place by
+     * a binary search, so a change costs O(log n) comparisons instead of a full sort.
+     */
+    private final SortedList<Issue> sortedIssues;
+    private final IssueTextIndex textIndex;
+    private final IssueRanker ranker;
+    private final QueryPlanner queryPlanner;
+    private final ParallelFilter parallelFilter = new ParallelFilter();
+    /** The order set by {@code updateSortedPersonList}, which a ranked filter replaces while it is set. */
+    private Comparator<Issue> comparator;
+    private boolean isRanked;
+    /** The ranked filter that is set, whose most relevant issues are found again after each change, or null. */
+    private RankedKeywordsPredicate rankedPredicate;
+    /** The most relevant issues found for {@code rankedPredicate}, which are the issues it shows. */
+    private Set<Issue> mostRelevantIssues;
+    /** The changes made to the issue list since the last {@code IssuesChangedEvent} was raised. */
+    private final List<IssueListDelta> pendingDeltas = new ArrayList<>();
+    private long version;
 
     /**
      * Initializes a ModelManager with the given saveIt and userPrefs.
@@ -31,8 +67,17 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with SaveIt: " + saveIt + " and user prefs " + userPrefs);
 
-        versionedSaveIt = new VersionedSaveIt(saveIt);
+        versionedSaveIt = new VersionedSaveIt(saveIt, userPrefs.getUndoHistoryMaxStates(),
+                userPrefs.getUndoHistoryMaxBytes(), userPrefs.isUndoHistorySpilledToDisk());
         filteredIssues = new FilteredList<>(versionedSaveIt.getPersonList());
+        sortedIssues = new SortedList<>(filteredIssues);
+        textIndex = new IssueTextIndex(versionedSaveIt.getPersonList());
+        versionedSaveIt.addPersonDeltaListener(textIndex::applyDelta);
+        ranker = new IssueRanker(versionedSaveIt.getPersonList());
+        versionedSaveIt.addPersonDeltaListener(ranker::applyDelta);
+        queryPlanner = new QueryPlanner(textIndex, versionedSaveIt);
+        versionedSaveIt.addPersonDeltaListener(queryPlanner::applyDelta);
+        versionedSaveIt.addPersonDeltaListener(pendingDeltas::add);
     }
 
     public ModelManager() {
@@ -50,9 +95,28 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedSaveIt;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public Map<Tag, Integer> getTagCounts() {
+        return versionedSaveIt.getTagCounts();
+    }
+
+    /**
+     * Raises events to indicate the model has changed, and with the changes made to the issue list since the last
+     * such events. An {@code IssuesChangedEvent} is only raised if there are any changes.
+     */
     private void indicateSaveItChanged() {
-        raise(new SaveItChangedEvent(versionedSaveIt));
+        List<IssueListDelta> deltas = new ArrayList<>(pendingDeltas);
+        pendingDeltas.clear();
+        if (!deltas.isEmpty()) {
+            version++;
+            if (rankedPredicate != null) {
+                rank();
+            }
+        }
+        raise(new SaveItChangedEvent(versionedSaveIt.getSnapshot(), deltas, version));
+        if (!deltas.isEmpty()) {
+            raise(new IssuesChangedEvent(deltas, version));
+        }
     }
 
     @Override
@@ -61,6 +125,11 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedSaveIt.hasPerson(issue);
     }
 
+    @Override
+    public Optional<Issue> getPersonById(int id) {
+        return versionedSaveIt.getPersonById(id);
+    }
+
     @Override
     public void deletePerson(Issue target) {
         versionedSaveIt.removePerson(target);
@@ -70,7 +139,6 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void addPerson(Issue issue) {
         versionedSaveIt.addPerson(issue);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         indicateSaveItChanged();
     }
 
@@ -84,19 +152,156 @@ public class ModelManager extends ComponentManager implements Model {
 
     //=========== Filtered Issue List Accessors =============================================================
 
+    @Override
+    public int getFilteredPersonIndex(Issue issue) {
+        requireNonNull(issue);
+        int sourceIndex = versionedSaveIt.indexOfPerson(issue);
+        if (sourceIndex == -1) {
+            return -1;
+        }
+        // the filtered list finds the index among those it shows by a binary search, and the sorted list looks it up
+        int filteredIndex = filteredIssues.getViewIndex(sourceIndex);
+        return filteredIndex < 0 ? -1 : sortedIssues.getViewIndex(filteredIndex);
+    }
+
     /**
      * Returns an unmodifiable view of the list of {@code Issue} backed by the internal list of
      * {@code versionedSaveIt}
      */
     @Override
     public ObservableList<Issue> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredIssues);
+        return FXCollections.unmodifiableObservableList(sortedIssues);
+    }
+
+    @Override
+    public void updateSortedPersonList(Comparator<Issue> comparator) {
+        this.comparator = comparator;
+        isRanked = false;
+        sortedIssues.setComparator(comparator);
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Issue> predicate) {
         requireNonNull(predicate);
-        filteredIssues.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            endRanking();
+            filteredIssues.setPredicate(predicate);
+        } else {
+            setScanPredicate(predicate);
+        }
+    }
+
+    @Override
+    public void updateFilteredPersonList(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        setIndexedPredicate(textIndex.containsAnyWord(IssueTextIndex.Field.STATEMENT, predicate.getKeywords()),
+                predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonList(IssueHasTagsPredicate predicate) {
+        requireNonNull(predicate);
+        setIndexedPredicate(versionedSaveIt.getIndexedPredicate(predicate), predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonList(NameFuzzyMatchesKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        setIndexedPredicate(textIndex.containsAnySimilarStatementWord(predicate.getKeywords(),
+                NameFuzzyMatchesKeywordsPredicate::getMaxEditDistance), predicate);
+    }
+
+    @Override
+    public void updateFilteredPersonList(RankedKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        rankedPredicate = predicate;
+        mostRelevantIssues = null;
+        isRanked = true;
+        rank();
+    }
+
+    /**
+     * Shows the issues that are now most relevant to {@code rankedPredicate}, in order of decreasing relevance unless
+     * another order has been set since. Issues added or edited since the last ranking are hidden until they are
+     * ranked, so the filtered list never shows more than the most relevant issues.
+     */
+    private void rank() {
+        List<String> keywords = rankedPredicate.getKeywords();
+        Map<Issue, Double> scores = new IdentityHashMap<>(ranker.findMostRelevant(keywords,
+                rankedPredicate.getLimit()));
+        Set<Issue> mostRelevant = Collections.newSetFromMap(new IdentityHashMap<>());
+        mostRelevant.addAll(scores.keySet());
+        if (!mostRelevant.equals(mostRelevantIssues)) {
+            mostRelevantIssues = mostRelevant;
+            setPredicate(mostRelevant::contains, mostRelevant::contains);
+        }
+        if (isRanked) {
+            // the scores of all issues change with the statistics of the list, so the issues are sorted again
+            Comparator<Issue> byScore = Comparator.comparing(issue ->
+                    scores.computeIfAbsent(issue, unused -> ranker.score(issue, keywords)));
+            sortedIssues.setComparator(byScore.reversed().thenComparing(IssueRanker.byStatement()));
+        }
+    }
+
+    @Override
+    public QueryPlan updateFilteredPersonList(Query query) {
+        requireNonNull(query);
+        long startTime = System.nanoTime();
+        QueryPlanner.Plan plan = queryPlanner.plan(query);
+        long plannedTime = System.nanoTime();
+        if (plan.isIndexed()) {
+            setIndexedPredicate(plan.getPredicate(), query);
+        } else {
+            setScanPredicate(plan.getPredicate());
+        }
+        long executedTime = System.nanoTime();
+        logger.fine("Query " + query + " planned as " + plan.getDescription());
+        return new QueryPlan(plan.getDescription(), plannedTime - startTime, executedTime - plannedTime);
+    }
+
+    /**
+     * Filters the issues with {@code indexedPredicate}, which checks whether an issue is among the matches found in an
+     * index. The issues added or edited afterwards are tested with the
+     * equivalent {@code predicate}, so that a change does not make the index predicate find all its matches again.
+     */
+    private void setIndexedPredicate(Predicate<Issue> indexedPredicate, Predicate<Issue> predicate) {
+        endRanking();
+        setPredicate(indexedPredicate, predicate);
+    }
+
+    /**
+     * Filters the issues with {@code predicate}, which must test each issue without modifying any state, as it is
+     * tested from several threads at once. This waits for the scan of the issue list, during which the model cannot
+     * change, so the filtered list is updated in a single step before this returns.
+     */
+    private void setScanPredicate(Predicate<Issue> predicate) {
+        Set<Issue> matches = parallelFilter.filter(versionedSaveIt.getPersonSnapshot(), predicate);
+        endRanking();
+        setPredicate(matches::contains, predicate);
+    }
+
+    /**
+     * Stops ranking the issues for a ranked filter, and restores the order set by {@code updateSortedPersonList} if
+     * the issues are ordered by their relevance.
+     */
+    private void endRanking() {
+        rankedPredicate = null;
+        mostRelevantIssues = null;
+        if (isRanked) {
+            isRanked = false;
+            sortedIssues.setComparator(comparator);
+        }
+    }
+
+    /**
+     * Filters the issues with {@code predicate}, testing the issues currently in the list with the quicker but
+     * equivalent {@code initialPredicate}. The filter is kept as issues are added or edited, and only the changed
+     * issues are tested.
+     */
+    private void setPredicate(Predicate<Issue> initialPredicate, Predicate<Issue> predicate) {
+        ActiveFilter filter = new ActiveFilter(initialPredicate, predicate);
+        filteredIssues.setPredicate(filter);
+        filter.finishInitialTests();
     }
 
     //=========== Undo/Redo =================================================================================
@@ -126,6 +331,9 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void commitSaveIt() {
         versionedSaveIt.commit();
+        logger.fine(String.format("Undo history: %d undoable states (%d on disk), %d KB in memory, %d KB on disk",
+                versionedSaveIt.getUndoDepth(), versionedSaveIt.getSpilledStateCount(),
+                versionedSaveIt.getHistoryMemoryUsage() / 1024, versionedSaveIt.getHistoryDiskUsage() / 1024));
     }
 
     @Override
@@ -143,7 +351,33 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return versionedSaveIt.equals(other.versionedSaveIt)
-                && filteredIssues.equals(other.filteredIssues);
+                && sortedIssues.equals(other.sortedIssues);
     }
 
+    /**
+     * The predicate of the filtered list. The filtered list tests every issue when the predicate is set, which is done
+     * with the initial predicate. After that, the filtered list only tests the issues that are added or edited, which
+     * are tested with the predicate itself.
+     */
+    private static class ActiveFilter implements Predicate<Issue> {
+        private final Predicate<Issue> predicate;
+        private Predicate<Issue> initialPredicate;
+
+        ActiveFilter(Predicate<Issue> initialPredicate, Predicate<Issue> predicate) {
+            this.initialPredicate = initialPredicate;
+            this.predicate = predicate;
+        }
+
+        /**
+         * Makes the filter test issues with the predicate itself from now on, releasing the initial predicate.
+         */
+        void finishInitialTests() {
+            initialPredicate = null;
+        }
+
+        @Override
+        public boolean test(Issue issue) {
+            return initialPredicate != null ? initialPredicate.test(issue) : predicate.test(issue);
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.collections.PersistentList;
+
+/**
+ * Finds the issues in a snapshot of the issue list that satisfy a predicate, using a fork/join pool.
+ *
+ * A large snapshot is split into chunks that are tested by the worker threads of the pool, so the scan runs on every
+ * processor. The calling thread waits for the scan to finish, so the result is ready when {@code filter} returns, and
+ * applies to the issue list as it was when the scan started, since the model is only changed by that thread.
+ */
+class ParallelFilter {
+
+    /** Snapshots smaller than this are scanned by the calling thread, where forking would cost more than it saves. */
+    static final int PARALLEL_THRESHOLD = 4096;
+    /** The number of issues that a task tests without splitting them further. */
+    private static final int CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+
+    ParallelFilter(ForkJoinPool pool) {
+        this.pool = requireNonNull(pool);
+    }
+
+    ParallelFilter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the issues in {@code snapshot} that satisfy {@code predicate}, waiting for the worker threads of the
+     * pool to test a large snapshot. {@code predicate} may be tested by several threads at once, so it must not modify
+     * any state.
+     */
+    Set<Issue> filter(PersistentList<Issue> snapshot, Predicate<? super Issue> predicate) {
+        requireNonNull(snapshot);
+        requireNonNull(predicate);
+        Set<Issue> matches = newIdentitySet();
+        if (snapshot.size() < PARALLEL_THRESHOLD) {
+            for (Issue issue : snapshot) {
+                if (predicate.test(issue)) {
+                    matches.add(issue);
+                }
+            }
+            return matches;
+        }
+
+        Issue[] issues = snapshot.asList().toArray(new Issue[0]);
+        matches.addAll(pool.invoke(new FilterTask(issues, 0, issues.length, predicate)));
+        return matches;
+    }
+
+    private static Set<Issue> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Finds the issues in a range of an array that satisfy a predicate, splitting the range in half until it is at
+     * most {@link #CHUNK_SIZE} long.
+     */
+    private static class FilterTask extends RecursiveTask<List<Issue>> {
+        private final Issue[] issues;
+        private final int from;
+        private final int to;
+        private final Predicate<? super Issue> predicate;
+
+        FilterTask(Issue[] issues, int from, int to, Predicate<? super Issue> predicate) {
+            this.issues = issues;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected List<Issue> compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                FilterTask left = new FilterTask(issues, from, middle, predicate);
+                left.fork();
+                List<Issue> matches = new FilterTask(issues, middle, to, predicate).compute();
+                List<Issue> leftMatches = left.join();
+                leftMatches.addAll(matches);
+                return leftMatches;
+            }
+
+            List<Issue> matches = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (predicate.test(issues[i])) {
+                    matches.add(issues[i]);
+                }
+            }
+            return matches;
+        }
+    }
+}
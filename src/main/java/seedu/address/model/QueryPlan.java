@@ -0,0 +1,45 @@
+package seedu.address.model;
+
+/**
+ * Describes how the model evaluated a query, and how long it took.
+ * Guarantees: immutable.
+ */
+public class QueryPlan {
+
+    private final String description;
+    private final long planningNanos;
+    private final long executionNanos;
+
+    public QueryPlan(String description, long planningNanos, long executionNanos) {
+        this.description = description;
+        this.planningNanos = planningNanos;
+        this.executionNanos = executionNanos;
+    }
+
+    /**
+     * Returns a description of the chosen plan: whether the issues were found through the indexes or by testing each
+     * issue, and the order in which the terms of the query were evaluated.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the time taken to choose the plan, in milliseconds.
+     */
+    public double getPlanningMillis() {
+        return planningNanos / 1e6;
+    }
+
+    /**
+     * Returns the time taken to filter the issue list with the plan, in milliseconds.
+     */
+    public double getExecutionMillis() {
+        return executionNanos / 1e6;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,439 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.issue.query.AndQuery;
+import seedu.address.model.issue.query.NotQuery;
+import seedu.address.model.issue.query.OrQuery;
+import seedu.address.model.issue.query.Query;
+import seedu.address.model.issue.query.QueryField;
+import seedu.address.model.issue.query.TermQuery;
+
+/**
+ * Chooses how to evaluate a {@code Query} against the issues of a {@code SaveIt}, using the text index and the tag
+ * index of the issues where that is estimated to be cheaper than testing the query against every issue.
+ *
+ * Costs are counted in set lookups. Looking up a word or tag in an index costs one lookup per issue found, and so
+ * does testing whether an issue is in the result. Matching a phrase or phone against the text of an issue costs
+ * {@link #TEXT_MATCH_COST} lookups. The number of issues matching a word or tag is known exactly from the indexes; the
+ * number matching a phone is taken to be {@link #UNINDEXED_SELECTIVITY} of all issues, and terms are assumed to be
+ * independent when they are combined.
+ *
+ * A plan either tests each issue against the query, in the order that is expected to decide it soonest, or finds the
+ * matching issues through the indexes once, after which each test is a single lookup. Found issues are found again the
+ * first time an issue is tested after the issue list changes, so that the plan stays correct as issues are added,
+ * edited and removed.
+ */
+class QueryPlanner {
+
+    /** The fraction of issues assumed to match a term that cannot be looked up in an index. */
+    static final double UNINDEXED_SELECTIVITY = 0.1;
+    /** The cost of matching a term against the text of an issue, relative to a set lookup. */
+    static final double TEXT_MATCH_COST = 3;
+
+    private final IssueTextIndex textIndex;
+    private final SaveIt saveIt;
+    /** Incremented on every change to the issue list. */
+    private long modificationCount;
+
+    QueryPlanner(IssueTextIndex textIndex, SaveIt saveIt) {
+        requireNonNull(textIndex);
+        requireNonNull(saveIt);
+        this.textIndex = textIndex;
+        this.saveIt = saveIt;
+    }
+
+    /**
+     * Records that the issue list has changed, so that issues found through the indexes are found again.
+     */
+    void applyDelta(IssueListDelta delta) {
+        requireNonNull(delta);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the cheapest plan found for evaluating {@code query} against the current issues.
+     */
+    Plan plan(Query query) {
+        requireNonNull(query);
+        int issueCount = saveIt.getPersonList().size();
+        Node root = toNode(query, issueCount);
+        boolean isIndexed = root.lookupCost + issueCount < root.testCost * issueCount;
+        if (isIndexed) {
+            return new Plan(new LookupPredicate(root), true, "index " + root.describeLookup(), root.estimate,
+                    issueCount);
+        }
+        return new Plan(root.tester(), false, "scan " + root.describeTest(), root.estimate, issueCount);
+    }
+
+    private Node toNode(Query query, int issueCount) {
+        if (query instanceof TermQuery) {
+            return new TermNode((TermQuery) query, issueCount);
+        } else if (query instanceof NotQuery) {
+            return new NotNode(toNode(((NotQuery) query).getOperand(), issueCount), issueCount);
+        } else if (query instanceof AndQuery) {
+            return new AndNode(toNodes(((AndQuery) query).getOperands(), issueCount), issueCount);
+        } else if (query instanceof OrQuery) {
+            return new OrNode(toNodes(((OrQuery) query).getOperands(), issueCount), issueCount);
+        }
+        throw new AssertionError("Unknown query " + query);
+    }
+
+    private List<Node> toNodes(List<Query> queries, int issueCount) {
+        return queries.stream().map(query -> toNode(query, issueCount)).collect(Collectors.toList());
+    }
+
+    private static Set<Issue> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A way of evaluating a query, with a description of how it is evaluated.
+     */
+    static class Plan {
+        private final Predicate<Issue> predicate;
+        private final boolean isIndexed;
+        private final String description;
+        private final double estimatedMatches;
+        private final int issueCount;
+
+        private Plan(Predicate<Issue> predicate, boolean isIndexed, String description,
+                double estimatedMatches, int issueCount) {
+            this.predicate = predicate;
+            this.isIndexed = isIndexed;
+            this.description = description;
+            this.estimatedMatches = estimatedMatches;
+            this.issueCount = issueCount;
+        }
+
+        /**
+         * Returns a predicate that is true for the issues in the issue list that match the query.
+         */
+        Predicate<Issue> getPredicate() {
+            return predicate;
+        }
+
+        /**
+         * Returns true if the matching issues are looked up in the indexes, so that the predicate only checks whether
+         * an issue is one of them. Otherwise, the predicate tests each issue without modifying any state.
+         */
+        boolean isIndexed() {
+            return isIndexed;
+        }
+
+        String getDescription() {
+            return String.format("%s (estimated %d of %d issues)", description, Math.round(estimatedMatches),
+                    issueCount);
+        }
+    }
+
+    /**
+     * Tests that an issue was found by looking up a query in the indexes.
+     */
+    private class LookupPredicate implements Predicate<Issue> {
+        private final Node root;
+        private Set<Issue> matches;
+        private long matchesModificationCount;
+
+        LookupPredicate(Node root) {
+            this.root = root;
+        }
+
+        @Override
+        public boolean test(Issue issue) {
+            if (matches == null || matchesModificationCount != modificationCount) {
+                matches = root.lookup();
+                matchesModificationCount = modificationCount;
+            }
+            return matches.contains(issue);
+        }
+    }
+
+    /**
+     * A query annotated with the estimated costs of evaluating it.
+     */
+    private abstract static class Node {
+        /** The estimated number of matching issues. */
+        double estimate;
+        /** The cost of finding the matching issues through the indexes, or infinity if they cannot be. */
+        double lookupCost = Double.POSITIVE_INFINITY;
+        /** The expected cost of testing one issue. */
+        double testCost;
+        /** The estimated fraction of issues that match. */
+        double selectivity;
+
+        /**
+         * Returns a new, modifiable set of the matching issues, found through the indexes.
+         * Only applicable if the lookup cost is finite.
+         */
+        abstract Set<Issue> lookup();
+
+        /**
+         * Returns a predicate that tests whether an issue matches without modifying any state.
+         */
+        abstract Predicate<Issue> tester();
+
+        abstract String describeLookup();
+
+        abstract String describeTest();
+
+        boolean isIndexable() {
+            return lookupCost != Double.POSITIVE_INFINITY;
+        }
+
+        void setEstimate(double estimate, int issueCount) {
+            this.estimate = estimate;
+            this.selectivity = issueCount == 0 ? 0 : estimate / issueCount;
+        }
+    }
+
+    /**
+     * A term, which is looked up in the index of its field where there is one.
+     */
+    private class TermNode extends Node {
+        private final TermQuery query;
+        /** The word of the term with the fewest issues when it was planned, if its field is indexed. */
+        private String driverWord;
+
+        TermNode(TermQuery query, int issueCount) {
+            this.query = query;
+            List<Set<Issue>> postings = getPostings();
+            if (postings == null) {
+                setEstimate(issueCount * UNINDEXED_SELECTIVITY, issueCount);
+                testCost = TEXT_MATCH_COST;
+                return;
+            }
+
+            Set<Issue> driver = getSmallest(postings);
+            driverWord = query.getWords().get(postings.indexOf(driver));
+            setEstimate(driver.size(), issueCount);
+            if (query.isPhrase()) {
+                lookupCost = driver.size() * TEXT_MATCH_COST;
+                testCost = TEXT_MATCH_COST;
+            } else {
+                lookupCost = driver.size();
+                testCost = 1;
+            }
+        }
+
+        /**
+         * Returns the issues currently containing each word of the term, or null if its field is not indexed.
+         * The indexes drop the postings of words that no issue contains, so they are fetched again for every lookup.
+         */
+        private List<Set<Issue>> getPostings() {
+            switch (query.getField()) {
+            case STATEMENT:
+                return getTextPostings(IssueTextIndex.Field.STATEMENT, query.getWords());
+            case REMARK:
+                return getTextPostings(IssueTextIndex.Field.REMARK, query.getWords());
+            case TAG:
+                return Collections.singletonList(saveIt.getIssuesWithTag(query.getTag()));
+            default:
+                return null;
+            }
+        }
+
+        private List<Set<Issue>> getTextPostings(IssueTextIndex.Field field, List<String> words) {
+            return words.stream().map(word -> textIndex.getIssues(field, word)).collect(Collectors.toList());
+        }
+
+        private Set<Issue> getSmallest(List<Set<Issue>> postings) {
+            return postings.stream().min(Comparator.comparingInt(Set::size)).get();
+        }
+
+        /**
+         * Returns true if the term is tested by looking up the issue in the text index, rather than by matching it
+         * against the fields of the issue.
+         */
+        private boolean isProbed() {
+            return !query.isPhrase()
+                    && (query.getField() == QueryField.STATEMENT || query.getField() == QueryField.REMARK);
+        }
+
+        @Override
+        Set<Issue> lookup() {
+            Set<Issue> driver = getSmallest(getPostings());
+            Set<Issue> issues = newIdentitySet();
+            if (query.isPhrase()) {
+                driver.stream().filter(query).forEach(issues::add);
+            } else {
+                issues.addAll(driver);
+            }
+            return issues;
+        }
+
+        @Override
+        Predicate<Issue> tester() {
+            if (!isProbed()) {
+                // the tags of an issue are a handful of ids, which are as quick to search as the index
+                return query;
+            }
+            IssueTextIndex.Field field = query.getField() == QueryField.STATEMENT
+                    ? IssueTextIndex.Field.STATEMENT
+                    : IssueTextIndex.Field.REMARK;
+            return textIndex.containsAnyWord(field, query.getWords());
+        }
+
+        @Override
+        String describeLookup() {
+            if (query.isPhrase()) {
+                return "lookup " + query.getField().prefix + driverWord + " then match " + query;
+            }
+            return "lookup " + query;
+        }
+
+        @Override
+        String describeTest() {
+            return (isProbed() ? "probe " : "match ") + query;
+        }
+    }
+
+    /**
+     * The negation of a query, which can only be tested.
+     */
+    private static class NotNode extends Node {
+        private final Node operand;
+
+        NotNode(Node operand, int issueCount) {
+            this.operand = operand;
+            setEstimate(issueCount - operand.estimate, issueCount);
+            testCost = operand.testCost;
+        }
+
+        @Override
+        Set<Issue> lookup() {
+            throw new UnsupportedOperationException("NOT cannot be looked up in an index.");
+        }
+
+        @Override
+        Predicate<Issue> tester() {
+            return operand.tester().negate();
+        }
+
+        @Override
+        String describeLookup() {
+            throw new UnsupportedOperationException("NOT cannot be looked up in an index.");
+        }
+
+        @Override
+        String describeTest() {
+            return "NOT " + operand.describeTest();
+        }
+    }
+
+    /**
+     * A conjunction, which is tested in the order most likely to reject an issue cheaply, and is looked up by
+     * finding the issues of one operand and testing them against the others.
+     */
+    private static class AndNode extends Node {
+        private final List<Node> operands;
+        /** The operand looked up in the indexes, or null if none can be. */
+        private Node driver;
+
+        AndNode(List<Node> operands, int issueCount) {
+            this.operands = new ArrayList<>(operands);
+            this.operands.sort(Comparator.comparingDouble(operand -> operand.testCost / (1 - operand.selectivity)));
+
+            double selectivity = 1;
+            double totalTestCost = 0;
+            for (Node operand : this.operands) {
+                testCost += selectivity * operand.testCost;
+                selectivity *= operand.selectivity;
+                totalTestCost += operand.testCost;
+            }
+            setEstimate(issueCount * selectivity, issueCount);
+
+            for (Node operand : this.operands) {
+                double cost = operand.lookupCost + operand.estimate * (totalTestCost - operand.testCost);
+                if (operand.isIndexable() && cost < lookupCost) {
+                    driver = operand;
+                    lookupCost = cost;
+                }
+            }
+        }
+
+        private List<Node> getFilters() {
+            return operands.stream().filter(operand -> operand != driver).collect(Collectors.toList());
+        }
+
+        @Override
+        Set<Issue> lookup() {
+            Set<Issue> issues = driver.lookup();
+            for (Node filter : getFilters()) {
+                issues.removeIf(filter.tester().negate());
+            }
+            return issues;
+        }
+
+        @Override
+        Predicate<Issue> tester() {
+            return operands.stream().map(Node::tester).reduce(Predicate::and).get();
+        }
+
+        @Override
+        String describeLookup() {
+            return driver.describeLookup() + " filtered by "
+                    + getFilters().stream().map(Node::describeTest).collect(Collectors.joining(" AND "));
+        }
+
+        @Override
+        String describeTest() {
+            return operands.stream().map(Node::describeTest).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    /**
+     * A disjunction, which is tested in the order most likely to accept an issue cheaply, and is looked up by
+     * combining the issues found for each operand.
+     */
+    private static class OrNode extends Node {
+        private final List<Node> operands;
+
+        OrNode(List<Node> operands, int issueCount) {
+            this.operands = new ArrayList<>(operands);
+            this.operands.sort(Comparator.comparingDouble(operand -> operand.testCost / operand.selectivity));
+
+            double rejected = 1;
+            for (Node operand : this.operands) {
+                testCost += rejected * operand.testCost;
+                rejected *= 1 - operand.selectivity;
+            }
+            setEstimate(issueCount * (1 - rejected), issueCount);
+
+            if (this.operands.stream().allMatch(Node::isIndexable)) {
+                lookupCost = this.operands.stream().mapToDouble(operand -> operand.lookupCost).sum();
+            }
+        }
+
+        @Override
+        Set<Issue> lookup() {
+            Set<Issue> issues = newIdentitySet();
+            operands.forEach(operand -> issues.addAll(operand.lookup()));
+            return issues;
+        }
+
+        @Override
+        Predicate<Issue> tester() {
+            return operands.stream().map(Node::tester).reduce(Predicate::or).get();
+        }
+
+        @Override
+        String describeLookup() {
+            return operands.stream().map(Node::describeLookup).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+
+        @Override
+        String describeTest() {
+            return operands.stream().map(Node::describeTest).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+}
@@ -3,8 +3,17 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.collections.PersistentList;
+import seedu.address.model.issue.IssueHasTagsPredicate;
+import seedu.address.model.issue.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -13,6 +22,7 @@ import javafx.collections.ObservableList;
 public class SaveIt implements ReadOnlySaveIt {
 
     private final UniqueIssueList persons;
+    private final IssueTagIndex tagIndex;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -23,6 +33,8 @@ public class SaveIt implements ReadOnlySaveIt {
      */
     {
         persons = new UniqueIssueList();
+        tagIndex = new IssueTagIndex();
+        persons.addDeltaListener(tagIndex::applyDelta);
     }
 
     public SaveIt() {}
@@ -65,7 +77,21 @@ public class SaveIt implements ReadOnlySaveIt {
     }
 
     /**
-     * Adds a issue to the address book.
+     * Returns the issue in the address book with {@code id}, if there is one.
+     */
+    Optional<Issue> getPersonById(int id) {
+        return persons.getById(id);
+    }
+
+    /**
+     * Returns the position of {@code issue} in the issue list, or -1 if it is not in the address book.
+     */
+    int indexOfPerson(Issue issue) {
+        return persons.indexOf(issue);
+    }
+
+    /**
+     * Adds a issue to the address book, giving it a new id unless it has one that is not in use.
      * The issue must not already exist in the address book.
      */
     public void addPerson(Issue p) {
@@ -73,7 +99,8 @@ public class SaveIt implements ReadOnlySaveIt {
     }
 
     /**
-     * Replaces the given issue {@code target} in the list with {@code editedIssue}.
+     * Replaces the given issue {@code target} in the list with {@code editedIssue}, which keeps the id of
+     * {@code target}.
      * {@code target} must exist in the address book.
      * The issue identity of {@code editedIssue} must not be the same as another existing issue in the address book.
      */
@@ -91,12 +118,53 @@ public class SaveIt implements ReadOnlySaveIt {
         persons.remove(key);
     }
 
+    //// change tracking
+
+    /**
+     * Makes the change described by {@code delta} to the issue list.
+     *
+     * @see UniqueIssueList#applyDelta(IssueListDelta)
+     */
+    void applyPersonDelta(IssueListDelta delta) {
+        persons.applyDelta(delta);
+    }
+
+    /**
+     * Registers {@code listener} to be notified of every subsequent change to the issue list.
+     */
+    void addPersonDeltaListener(Consumer<? super IssueListDelta> listener) {
+        persons.addDeltaListener(listener);
+    }
+
+    //// tag index
+
+    /**
+     * Returns a predicate that tests the same as {@code predicate} for issues in this {@code SaveIt}, by looking them
+     * up in the tag index instead of searching their tags.
+     */
+    Predicate<Issue> getIndexedPredicate(IssueHasTagsPredicate predicate) {
+        return tagIndex.hasTags(predicate.getTagGroups());
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the issues in this {@code SaveIt} that have {@code tag}.
+     */
+    Set<Issue> getIssuesWithTag(Tag tag) {
+        return tagIndex.getIssues(tag);
+    }
+
+    /**
+     * Returns the number of issues with each tag, in alphabetical order of tag name.
+     */
+    Map<Tag, Integer> getTagCounts() {
+        return tagIndex.getTagCounts();
+    }
+
     //// util methods
 
     @Override
     public String toString() {
-        return persons.asUnmodifiableObservableList().size() + " persons";
-        // TODO: refine later
+        return persons.asUnmodifiableObservableList().size() + " issues, " + tagIndex.getTagCounts().size() + " tags";
     }
 
     @Override
@@ -104,6 +172,23 @@ public class SaveIt implements ReadOnlySaveIt {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an immutable snapshot of the issue list, taken in O(1) time.
+     */
+    PersistentList<Issue> getPersonSnapshot() {
+        return persons.snapshot();
+    }
+
+    /**
+     * Returns an immutable copy of this SaveIt, taken in O(1) time, that is safe to read from any thread while this
+     * SaveIt changes.
+     */
+    public ReadOnlySaveIt getSnapshot() {
+        ObservableList<Issue> issues = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(persons.snapshot().asList()));
+        return () -> issues;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A file that holds lists of {@code IssueListDelta}s as a stack: lists are pushed onto the end of the file and
+ * popped off the end again, after which the file is truncated.
+ * Each issue is written as its field values only, so a record takes up a fraction of the memory its deltas did.
+ */
+class UndoHistoryFile {
+
+    private final Path filePath;
+    /** The position in the file at which each record starts. */
+    private final List<Long> recordOffsets = new ArrayList<>();
+    private long size;
+
+    UndoHistoryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        Files.write(filePath, new byte[0]);
+    }
+
+    /**
+     * Creates an empty history file in the default temporary-file directory that is deleted when the app exits.
+     */
+    static UndoHistoryFile createTemporary() throws IOException {
+        Path filePath = Files.createTempFile("saveit-undo-history", ".bin");
+        filePath.toFile().deleteOnExit();
+        return new UndoHistoryFile(filePath);
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    int getRecordCount() {
+        return recordOffsets.size();
+    }
+
+    /**
+     * Returns the number of bytes taken up by the records in the file.
+     */
+    long getSize() {
+        return size;
+    }
+
+    /**
+     * Writes {@code deltas} to the end of the file.
+     */
+    void push(List<IssueListDelta> deltas) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(deltas.size());
+            for (IssueListDelta delta : deltas) {
+                delta.writeTo(out);
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            long position = size;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+        }
+        recordOffsets.add(size);
+        size += bytes.size();
+    }
+
+    /**
+     * Reads back the deltas last written to the file, and removes them from the file.
+     */
+    List<IssueListDelta> pop() throws IOException {
+        assert !recordOffsets.isEmpty();
+        long offset = recordOffsets.get(recordOffsets.size() - 1);
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size - offset));
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("Undo history file " + filePath + " is shorter than expected.");
+                }
+                position += read;
+            }
+            channel.truncate(offset);
+        }
+        recordOffsets.remove(recordOffsets.size() - 1);
+        size = offset;
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(buffer.array()))) {
+            int count = in.readInt();
+            List<IssueListDelta> deltas = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                deltas.add(IssueListDelta.readFrom(in));
+            }
+            return deltas;
+        }
+    }
+
+    /**
+     * Deletes the file, discarding all records in it.
+     */
+    void delete() throws IOException {
+        recordOffsets.clear();
+        size = 0;
+        Files.deleteIfExists(filePath);
+    }
+}
@@ -3,11 +3,22 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.collections.PersistentList;
+import seedu.address.commons.core.collections.PositionIndex;
+import seedu.address.model.issue.IssueStatement;
+import seedu.address.model.issue.Phone;
 import seedu.address.model.issue.exceptions.DuplicateIssueException;
 import seedu.address.model.issue.exceptions.IssueNotFoundException;
 
@@ -18,6 +29,19 @@ import seedu.address.model.issue.exceptions.IssueNotFoundException;
  * unique in terms of identity in the UniqueIssueList. However, the removal of a issue uses Issue#equals(Object) so
  * as to ensure that the issue with exactly the same fields will be removed.
  *
+ * The identity of every issue is indexed together with its position in the list, so that duplicate checks,
+ * replacement and removal do not have to scan the whole list. Positions are kept in a {@code PositionIndex}, so
+ * they stay up to date in O(log n) time when an issue is inserted or removed anywhere in the list, rather than the
+ * positions after it being recomputed. The contents are also mirrored in a
+ * {@code PersistentList}, so that a snapshot of the list can be taken in O(1) time with {@link #snapshot()}.
+ *
+ * Every issue added to the list is given an id that no other issue in the list has had, unless it already has an id
+ * that is not in use. An edited issue keeps the id of the issue it replaces. Issues are indexed by their ids, so that
+ * {@link #getById(int)} finds an issue in O(1) time.
+ *
+ * Every change to the list is reported to the registered delta listeners as an {@code IssueListDelta}, and can be
+ * replayed or reverted with {@link #applyDelta(IssueListDelta)}.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Issue#isSameIssue(Issue)
@@ -26,44 +50,60 @@ public class UniqueIssueList implements Iterable<Issue> {
 
     private final ObservableList<Issue> internalList = FXCollections.observableArrayList();
 
+    /** Holds the identity of every issue in {@code internalList} at its position in {@code internalList}. */
+    private PositionIndex<IssueIdentity> positions = PositionIndex.empty();
+
+    /** Maps the id of every issue in {@code internalList} to the issue. */
+    private Map<Integer, Issue> issuesById = new HashMap<>();
+    /** The id to give to the next issue added without an id of its own. Never decreases. */
+    private int nextId = 1;
+
+    /** An immutable copy of {@code internalList}, updated in O(log n) time on every change. */
+    private PersistentList<Issue> snapshot = PersistentList.empty();
+
+    private final List<Consumer<? super IssueListDelta>> deltaListeners = new ArrayList<>();
+
     /**
      * Returns true if the list contains an equivalent issue as the given argument.
      */
     public boolean contains(Issue toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameIssue);
+        return positions.contains(new IssueIdentity(toCheck));
+    }
+
+    /**
+     * Returns the issue in the list with {@code id}, if there is one.
+     */
+    public Optional<Issue> getById(int id) {
+        return Optional.ofNullable(issuesById.get(id));
     }
 
     /**
-     * Adds a issue to the list.
+     * Adds a issue to the list, giving it a new id unless it has one that is not in use.
      * The issue must not already exist in the list.
      */
     public void add(Issue toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new DuplicateIssueException();
-        }
-        internalList.add(toAdd);
+        boolean isIdAvailable = toAdd.hasId() && !issuesById.containsKey(toAdd.getId());
+        insertAt(internalList.size(), isIdAvailable ? toAdd : toAdd.withId(nextId));
     }
 
     /**
-     * Replaces the issue {@code target} in the list with {@code editedPerson}.
+     * Replaces the issue {@code target} in the list with {@code editedPerson}, which is given the id of
+     * {@code target}.
      * {@code target} must exist in the list.
      * The issue identity of {@code editedPerson} must not be the same as another existing issue in the list.
      */
     public void setIssue(Issue target, Issue editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new IssueNotFoundException();
         }
 
-        if (!target.isSameIssue(editedPerson) && contains(editedPerson)) {
-            throw new DuplicateIssueException();
-        }
-
-        internalList.set(index, editedPerson);
+        int id = internalList.get(index).getId();
+        setAt(index, editedPerson.getId() == id ? editedPerson : editedPerson.withId(id));
     }
 
     /**
@@ -72,27 +112,84 @@ public class UniqueIssueList implements Iterable<Issue> {
      */
     public void remove(Issue toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new IssueNotFoundException();
         }
+
+        removeAt(index);
     }
 
     public void setIssues(UniqueIssueList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.snapshot, indexUniqueIssues(replacement.snapshot.asList()));
     }
 
     /**
      * Replaces the contents of this list with {@code issues}.
-     * {@code issues} must not contain duplicate issues.
+     * {@code issues} must not contain duplicate issues. Issues without an id, or with the same id as an earlier
+     * issue in {@code issues}, are given new ids.
+     * Uniqueness is validated in a single pass, and the list is replaced with a single change notification.
      */
     public void setIssues(List<Issue> issues) {
         requireAllNonNull(issues);
-        if (!issuesAreUnique(issues)) {
-            throw new DuplicateIssueException();
+        PositionIndex<IssueIdentity> newPositions = indexUniqueIssues(issues);
+        replaceAll(PersistentList.of(withUniqueIds(issues)), newPositions);
+    }
+
+    /**
+     * Replaces the contents of this list with the issues in {@code snapshot}.
+     * {@code snapshot} must not contain duplicate issues.
+     */
+    public void setIssues(PersistentList<Issue> snapshot) {
+        requireNonNull(snapshot);
+        replaceAll(snapshot, indexUniqueIssues(snapshot.asList()));
+    }
+
+    /**
+     * Makes the change described by {@code delta} to this list.
+     * {@code delta} must describe a change that is valid for the current contents of the list, such as a change
+     * previously reported by this list or the inverse of the last change reported by this list.
+     */
+    public void applyDelta(IssueListDelta delta) {
+        requireNonNull(delta);
+        switch (delta.getType()) {
+        case ADDED:
+            insertAt(delta.getIndex(), delta.getNewIssue());
+            break;
+        case REMOVED:
+            assert internalList.get(delta.getIndex()).equals(delta.getOldIssue());
+            removeAt(delta.getIndex());
+            break;
+        case UPDATED:
+            assert internalList.get(delta.getIndex()).equals(delta.getOldIssue());
+            setAt(delta.getIndex(), delta.getNewIssue());
+            break;
+        case REPLACED:
+            setIssues(delta.getNewIssues());
+            break;
+        default:
+            throw new AssertionError("Unknown delta type " + delta.getType());
         }
+    }
 
-        internalList.setAll(issues);
+    /**
+     * Registers {@code listener} to be notified of every subsequent change to this list.
+     * Listeners are notified before the change is passed on to observers of
+     * {@link #asUnmodifiableObservableList()}, so that structures kept up to date by listeners (such as indexes)
+     * already reflect the change when those observers react to it.
+     */
+    public void addDeltaListener(Consumer<? super IssueListDelta> listener) {
+        requireNonNull(listener);
+        deltaListeners.add(listener);
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list.
+     * The snapshot shares its structure with the list, so taking it does not copy any issues.
+     */
+    public PersistentList<Issue> snapshot() {
+        return snapshot;
     }
 
     /**
@@ -120,16 +217,148 @@ public class UniqueIssueList implements Iterable<Issue> {
     }
 
     /**
-     * Returns true if {@code issues} contains only unique issues.
+     * Inserts {@code toAdd} at {@code index}.
+     *
+     * @throws DuplicateIssueException if an issue with the same identity as {@code toAdd} is already in the list.
+     */
+    private void insertAt(int index, Issue toAdd) {
+        IssueIdentity identity = new IssueIdentity(toAdd);
+        if (positions.contains(identity)) {
+            throw new DuplicateIssueException();
+        }
+
+        positions.add(index, identity);
+        snapshot = snapshot.add(index, toAdd);
+        indexId(toAdd);
+        notifyDeltaListeners(IssueListDelta.added(index, toAdd));
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Replaces the issue at {@code index} with {@code editedIssue}.
+     *
+     * @throws DuplicateIssueException if {@code editedIssue} has the same identity as another issue in the list.
      */
-    private boolean issuesAreUnique(List<Issue> issues) {
-        for (int i = 0; i < issues.size() - 1; i++) {
-            for (int j = i + 1; j < issues.size(); j++) {
-                if (issues.get(i).isSameIssue(issues.get(j))) {
-                    return false;
-                }
+    private void setAt(int index, Issue editedIssue) {
+        Issue target = internalList.get(index);
+        if (!target.isSameIssue(editedIssue)) {
+            IssueIdentity editedIdentity = new IssueIdentity(editedIssue);
+            if (positions.contains(editedIdentity)) {
+                throw new DuplicateIssueException();
             }
+            positions.replace(new IssueIdentity(target), editedIdentity);
+        }
+
+        snapshot = snapshot.set(index, editedIssue);
+        issuesById.remove(target.getId());
+        indexId(editedIssue);
+        notifyDeltaListeners(IssueListDelta.updated(index, target, editedIssue));
+        internalList.set(index, editedIssue);
+    }
+
+    /**
+     * Removes the issue at {@code index}.
+     */
+    private void removeAt(int index) {
+        Issue toRemove = internalList.get(index);
+        positions.remove(new IssueIdentity(toRemove));
+        snapshot = snapshot.remove(index);
+        issuesById.remove(toRemove.getId());
+        notifyDeltaListeners(IssueListDelta.removed(index, toRemove));
+        internalList.remove(index);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newSnapshot}, whose issues are at {@code newPositions}.
+     */
+    private void replaceAll(PersistentList<Issue> newSnapshot, PositionIndex<IssueIdentity> newPositions) {
+        PersistentList<Issue> oldSnapshot = snapshot;
+        snapshot = newSnapshot;
+        positions = newPositions;
+        issuesById = new HashMap<>();
+        newSnapshot.forEach(this::indexId);
+        notifyDeltaListeners(IssueListDelta.replaced(oldSnapshot, newSnapshot));
+        internalList.setAll(newSnapshot.asList());
+    }
+
+    /**
+     * Indexes {@code issue} by its id, if it has one, and makes sure that the id is not given to another issue.
+     */
+    private void indexId(Issue issue) {
+        if (issue.hasId()) {
+            issuesById.put(issue.getId(), issue);
+            nextId = Math.max(nextId, issue.getId() + 1);
+        }
+    }
+
+    /**
+     * Returns {@code issues}, with new ids given to the issues without an id and to the issues with the same id as
+     * an earlier issue.
+     */
+    private List<Issue> withUniqueIds(List<Issue> issues) {
+        issues.forEach(issue -> nextId = Math.max(nextId, issue.getId() + 1));
+        Set<Integer> usedIds = new HashSet<>();
+        List<Issue> issuesWithIds = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            issuesWithIds.add(issue.hasId() && usedIds.add(issue.getId()) ? issue : issue.withId(nextId++));
+        }
+        return issuesWithIds;
+    }
+
+    private void notifyDeltaListeners(IssueListDelta delta) {
+        deltaListeners.forEach(listener -> listener.accept(delta));
+    }
+
+    /**
+     * Returns the position in the list of the issue that is equal to {@code issue}, or -1 if there is no such issue.
+     * Takes O(log n) time.
+     */
+    public int indexOf(Issue issue) {
+        int index = positions.indexOf(new IssueIdentity(issue));
+        return index != -1 && internalList.get(index).equals(issue) ? index : -1;
+    }
+
+    /**
+     * Returns the identity of every issue in {@code issues}, at its position in {@code issues}.
+     *
+     * @throws DuplicateIssueException if {@code issues} contains two issues with the same identity.
+     */
+    private static PositionIndex<IssueIdentity> indexUniqueIssues(List<Issue> issues) {
+        List<IssueIdentity> identities = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            identities.add(new IssueIdentity(issue));
+        }
+        try {
+            return PositionIndex.of(identities);
+        } catch (IllegalArgumentException iae) {
+            throw new DuplicateIssueException();
+        }
+    }
+
+    /**
+     * The identity fields of an {@code Issue}.
+     * Two issues have equal identities if and only if {@code Issue#isSameIssue(Issue)} holds between them.
+     */
+    private static final class IssueIdentity {
+        private final IssueStatement statement;
+        private final Phone phone;
+
+        IssueIdentity(Issue issue) {
+            statement = issue.getStatement();
+            phone = issue.getPhone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IssueIdentity // instanceof handles nulls
+                    && statement.equals(((IssueIdentity) other).statement)
+                    && phone.equals(((IssueIdentity) other).phone));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * statement.hashCode() + phone.hashCode();
         }
-        return true;
     }
 }
@@ -11,8 +11,32 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    /**
+     * The formats the SaveIt data file can be kept in.
+     */
+    public enum SaveItFileFormat {
+        /** A human-readable xml file. */
+        XML,
+        /**
+         * The xml file, followed by a log of the changes made since it was written, kept next to it. Saving appends
+         * only the changes to the log, which is merged into the xml file from time to time.
+         */
+        XML_WITH_CHANGE_LOG,
+        /**
+         * A compact binary file that is faster to load and save, kept next to the xml data file. If the binary file
+         * is missing, the data is migrated to it from the xml file, which is then renamed with the suffix
+         * {@code .migrated} so that it is not read again. From then on the binary file is the only copy kept up to
+         * date, so choosing an xml format again starts without data unless the xml file is restored by hand.
+         */
+        BINARY
+    }
+
     private GuiSettings guiSettings;
     private Path saveItFilePath = Paths.get("data" , "address.xml");
+    private SaveItFileFormat saveItFileFormat = SaveItFileFormat.XML;
+    private int undoHistoryMaxStates = 100;
+    private long undoHistoryMaxBytes = 64L * 1024 * 1024;
+    private boolean isUndoHistorySpilledToDisk = true;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +62,50 @@ public class UserPrefs {
         this.saveItFilePath = saveItFilePath;
     }
 
+    /**
+     * Returns the format the SaveIt data file is kept in.
+     */
+    public SaveItFileFormat getSaveItFileFormat() {
+        return saveItFileFormat;
+    }
+
+    public void setSaveItFileFormat(SaveItFileFormat saveItFileFormat) {
+        this.saveItFileFormat = saveItFileFormat;
+    }
+
+    /**
+     * Returns the maximum number of undo history states that are kept in memory.
+     */
+    public int getUndoHistoryMaxStates() {
+        return undoHistoryMaxStates;
+    }
+
+    public void setUndoHistoryMaxStates(int undoHistoryMaxStates) {
+        this.undoHistoryMaxStates = undoHistoryMaxStates;
+    }
+
+    /**
+     * Returns the (estimated) maximum number of bytes taken up by the undo history in memory.
+     */
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
+    /**
+     * Returns true if undo history states over the memory budget are moved to disk instead of being discarded.
+     */
+    public boolean isUndoHistorySpilledToDisk() {
+        return isUndoHistorySpilledToDisk;
+    }
+
+    public void setUndoHistorySpilledToDisk(boolean isUndoHistorySpilledToDisk) {
+        this.isUndoHistorySpilledToDisk = isUndoHistorySpilledToDisk;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +118,17 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(saveItFilePath, o.saveItFilePath);
+                && Objects.equals(saveItFilePath, o.saveItFilePath)
+                && saveItFileFormat == o.saveItFileFormat
+                && undoHistoryMaxStates == o.undoHistoryMaxStates
+                && undoHistoryMaxBytes == o.undoHistoryMaxBytes
+                && isUndoHistorySpilledToDisk == o.isUndoHistorySpilledToDisk;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, saveItFilePath);
+        return Objects.hash(guiSettings, saveItFilePath, saveItFileFormat, undoHistoryMaxStates, undoHistoryMaxBytes,
+                isUndoHistorySpilledToDisk);
     }
 
     @Override
@@ -63,6 +136,9 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + saveItFilePath);
+        sb.append("\nLocal data file format : " + saveItFileFormat);
+        sb.append("\nUndo history budget : " + undoHistoryMaxStates + " states, " + undoHistoryMaxBytes + " bytes");
+        sb.append(isUndoHistorySpilledToDisk ? ", spilled to disk" : ", discarded");
         return sb.toString();
     }
 
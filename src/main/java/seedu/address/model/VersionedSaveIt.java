@@ -1,58 +1,329 @@
 package seedu.address.model;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.collections.PersistentList;
 
 /**
  * {@code SaveIt} that keeps track of its own history.
+ * Each state is an immutable snapshot of the issue list that shares its structure with the other states, so
+ * committing a state takes O(1) time and only the issues changed since the previous state take up extra memory.
+ *
+ * The changes made between consecutive states are recorded as {@code IssueListDelta}s. Undoing and redoing replay
+ * only those changes, in reverse or forward order, so that only the affected issues in the list are touched.
+ *
+ * The history can be given a memory budget. When a commit takes the history over its budget, the changes leading
+ * away from the oldest states are moved to an {@code UndoHistoryFile} on disk, and read back in when they are undone.
+ * Undoing reads states back in, so when an undo takes the history over its budget, the changes leading to the newest
+ * undone states are moved to a second {@code UndoHistoryFile}, and read back in when they are redone.
+ * If the history cannot be kept on disk, the oldest states, or the newest undone states, are discarded instead.
  */
 public class VersionedSaveIt extends SaveIt {
+    private static final Logger logger = LogsCenter.getLogger(VersionedSaveIt.class);
 
-    private final List<ReadOnlySaveIt> saveItStateList;
+    /** The snapshot of each state, or null if the changes leading away from or to the state are on disk. */
+    private final List<PersistentList<Issue>> saveItStateList;
+    /**
+     * The changes leading from state {@code i} to state {@code i + 1} are at position {@code i}.
+     * The changes at the first {@code spilledTransitionCount} positions, and at the last {@code spilledRedoCount}
+     * positions, are on disk and replaced by null.
+     */
+    private final List<List<IssueListDelta>> stateTransitionList;
+    /** The estimated memory taken up by the changes at each position of {@code stateTransitionList}. */
+    private final List<Long> transitionFootprintList;
+    /** The changes made since the current state was committed or restored. */
+    private List<IssueListDelta> uncommittedDeltas;
     private int currentStatePointer;
+    private boolean isRestoringState;
+
+    private final int maxStatesInMemory;
+    private final long maxBytesInMemory;
+    private boolean isSpillEnabled;
+    private UndoHistoryFile historyFile;
+    private int spilledTransitionCount;
+    private UndoHistoryFile redoHistoryFile;
+    private int spilledRedoCount;
+    private long bytesInMemory;
 
+    /**
+     * Creates a {@code VersionedSaveIt} that keeps its whole history in memory.
+     */
     public VersionedSaveIt(ReadOnlySaveIt initialState) {
+        this(initialState, Integer.MAX_VALUE, Long.MAX_VALUE, false);
+    }
+
+    /**
+     * Creates a {@code VersionedSaveIt} that keeps at most {@code maxStatesInMemory} states, and the changes
+     * between them up to an estimated {@code maxBytesInMemory} bytes, in memory.
+     * Older states are moved to disk if {@code isSpillEnabled}, and discarded otherwise.
+     */
+    public VersionedSaveIt(ReadOnlySaveIt initialState, int maxStatesInMemory, long maxBytesInMemory,
+                           boolean isSpillEnabled) {
         super(initialState);
 
         saveItStateList = new ArrayList<>();
-        saveItStateList.add(new SaveIt(initialState));
+        saveItStateList.add(getPersonSnapshot());
+        stateTransitionList = new ArrayList<>();
+        transitionFootprintList = new ArrayList<>();
+        uncommittedDeltas = new ArrayList<>();
         currentStatePointer = 0;
+        this.maxStatesInMemory = Math.max(1, maxStatesInMemory);
+        this.maxBytesInMemory = Math.max(0, maxBytesInMemory);
+        this.isSpillEnabled = isSpillEnabled;
+        addPersonDeltaListener(this::recordDelta);
     }
 
     /**
-     * Saves a copy of the current {@code SaveIt} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves a snapshot of the current {@code SaveIt} state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest states are moved out of memory if the history
+     * is over its budget.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        saveItStateList.add(new SaveIt(this));
+        long footprint = estimateFootprint(uncommittedDeltas);
+        saveItStateList.add(getPersonSnapshot());
+        stateTransitionList.add(uncommittedDeltas);
+        transitionFootprintList.add(footprint);
+        bytesInMemory += footprint;
+        uncommittedDeltas = new ArrayList<>();
         currentStatePointer++;
+        enforceBudget();
     }
 
     private void removeStatesAfterCurrentPointer() {
+        assert currentStatePointer >= spilledTransitionCount;
+        List<Long> removedFootprints = transitionFootprintList.subList(currentStatePointer,
+                transitionFootprintList.size());
+        removedFootprints.forEach(footprint -> bytesInMemory -= footprint);
+        removedFootprints.clear();
         saveItStateList.subList(currentStatePointer + 1, saveItStateList.size()).clear();
+        stateTransitionList.subList(currentStatePointer, stateTransitionList.size()).clear();
+        spilledRedoCount = 0;
+        redoHistoryFile = deleteHistoryFile(redoHistoryFile);
+    }
+
+    /**
+     * Moves the oldest states out of memory until the history is within its budget.
+     * The current state is always kept in memory.
+     */
+    private void enforceBudget() {
+        while (spilledTransitionCount < currentStatePointer && isOverBudget()) {
+            if (!isSpillEnabled || !spillOldestStateInMemory()) {
+                discardOldestState();
+            }
+        }
+    }
+
+    private boolean isOverBudget() {
+        return saveItStateList.size() - spilledTransitionCount - spilledRedoCount > maxStatesInMemory
+                || bytesInMemory > maxBytesInMemory;
+    }
+
+    /**
+     * Moves the changes leading away from the oldest state in memory to the history file.
+     * Returns false, and stops using the history file, if it cannot be written to.
+     */
+    private boolean spillOldestStateInMemory() {
+        int index = spilledTransitionCount;
+        try {
+            if (historyFile == null) {
+                historyFile = UndoHistoryFile.createTemporary();
+            }
+            historyFile.push(stateTransitionList.get(index));
+        } catch (IOException ioe) {
+            logger.warning("Unable to move undo history to disk, discarding the oldest states instead: " + ioe);
+            isSpillEnabled = false;
+            discardSpilledStates();
+            return false;
+        }
+
+        saveItStateList.set(index, null);
+        stateTransitionList.set(index, null);
+        bytesInMemory -= transitionFootprintList.set(index, 0L);
+        spilledTransitionCount++;
+        return true;
+    }
+
+    /**
+     * Reads the changes leading away from the newest state on disk back into memory.
+     * Returns false, and discards the states on disk, if the history file cannot be read.
+     */
+    private boolean pageInNewestSpilledState() {
+        int index = spilledTransitionCount - 1;
+        List<IssueListDelta> deltas;
+        try {
+            deltas = historyFile.pop();
+        } catch (IOException ioe) {
+            logger.warning("Unable to read undo history from disk, discarding the states on disk: " + ioe);
+            discardSpilledStates();
+            return false;
+        }
+
+        long footprint = estimateFootprint(deltas);
+        stateTransitionList.set(index, deltas);
+        transitionFootprintList.set(index, footprint);
+        bytesInMemory += footprint;
+        spilledTransitionCount--;
+        return true;
+    }
+
+    /**
+     * Removes the oldest state, which must be in memory, from the history.
+     */
+    private void discardOldestState() {
+        assert spilledTransitionCount == 0 && currentStatePointer > 0;
+        saveItStateList.remove(0);
+        stateTransitionList.remove(0);
+        bytesInMemory -= transitionFootprintList.remove(0);
+        currentStatePointer--;
+    }
+
+    /**
+     * Removes the states on disk from the history, and deletes the history file.
+     */
+    private void discardSpilledStates() {
+        saveItStateList.subList(0, spilledTransitionCount).clear();
+        stateTransitionList.subList(0, spilledTransitionCount).clear();
+        transitionFootprintList.subList(0, spilledTransitionCount).clear();
+        currentStatePointer -= spilledTransitionCount;
+        spilledTransitionCount = 0;
+        historyFile = deleteHistoryFile(historyFile);
+    }
+
+    /**
+     * Moves the changes leading to the newest undone states in memory to the redo history file until the history is
+     * within its budget. The changes leading to the state after the current state are always kept in memory.
+     */
+    private void enforceBudgetOnUndoneStates() {
+        int newestInMemory = stateTransitionList.size() - spilledRedoCount - 1;
+        while (isSpillEnabled && newestInMemory > currentStatePointer && isOverBudget()) {
+            try {
+                if (redoHistoryFile == null) {
+                    redoHistoryFile = UndoHistoryFile.createTemporary();
+                }
+                redoHistoryFile.push(stateTransitionList.get(newestInMemory));
+            } catch (IOException ioe) {
+                logger.warning("Unable to move redo history to disk, discarding the newest undone states instead: "
+                        + ioe);
+                isSpillEnabled = false;
+                discardUndoneStatesFrom(newestInMemory);
+                return;
+            }
+
+            saveItStateList.set(newestInMemory + 1, null);
+            stateTransitionList.set(newestInMemory, null);
+            bytesInMemory -= transitionFootprintList.set(newestInMemory, 0L);
+            spilledRedoCount++;
+            newestInMemory--;
+        }
+    }
+
+    /**
+     * Reads the changes leading to the oldest undone state on disk back into memory.
+     * Returns false, and discards the undone states on disk, if the redo history file cannot be read.
+     */
+    private boolean pageInOldestSpilledUndoneState() {
+        int index = stateTransitionList.size() - spilledRedoCount;
+        List<IssueListDelta> deltas;
+        try {
+            deltas = redoHistoryFile.pop();
+        } catch (IOException ioe) {
+            logger.warning("Unable to read redo history from disk, discarding the undone states on disk: " + ioe);
+            discardUndoneStatesFrom(index);
+            return false;
+        }
+
+        long footprint = estimateFootprint(deltas);
+        stateTransitionList.set(index, deltas);
+        transitionFootprintList.set(index, footprint);
+        bytesInMemory += footprint;
+        spilledRedoCount--;
+        return true;
+    }
+
+    /**
+     * Removes the undone states reached by the changes at and after position {@code index} from the history, and
+     * deletes the redo history file.
+     */
+    private void discardUndoneStatesFrom(int index) {
+        assert index >= currentStatePointer;
+        List<Long> removedFootprints = transitionFootprintList.subList(index, transitionFootprintList.size());
+        removedFootprints.forEach(footprint -> bytesInMemory -= footprint);
+        removedFootprints.clear();
+        saveItStateList.subList(index + 1, saveItStateList.size()).clear();
+        stateTransitionList.subList(index, stateTransitionList.size()).clear();
+        spilledRedoCount = 0;
+        redoHistoryFile = deleteHistoryFile(redoHistoryFile);
+    }
+
+    /**
+     * Deletes {@code file}, which may be null, and returns null.
+     */
+    private static UndoHistoryFile deleteHistoryFile(UndoHistoryFile file) {
+        if (file != null) {
+            try {
+                file.delete();
+            } catch (IOException ioe) {
+                logger.warning("Unable to delete undo history file: " + ioe);
+            }
+        }
+        return null;
+    }
+
+    private static long estimateFootprint(List<IssueListDelta> deltas) {
+        return deltas.stream().mapToLong(IssueListDelta::estimateFootprint).sum();
     }
 
     /**
      * Restores the address book to its previous state.
+     * If the history is then over its budget, the newest undone states are moved out of memory.
+     *
+     * @throws UndoHistoryUnavailableException if the previous state is on disk but the history file cannot be read.
+     *     The states on disk are discarded, and the address book is left unchanged.
      */
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        if (currentStatePointer == spilledTransitionCount && !pageInNewestSpilledState()) {
+            throw new UndoHistoryUnavailableException();
+        }
+        revertUncommittedDeltas();
         currentStatePointer--;
-        resetData(saveItStateList.get(currentStatePointer));
+        revertDeltas(stateTransitionList.get(currentStatePointer));
+        if (saveItStateList.get(currentStatePointer) == null) {
+            saveItStateList.set(currentStatePointer, getPersonSnapshot());
+        }
+        enforceBudgetOnUndoneStates();
     }
 
     /**
      * Restores the address book to its previously undone state.
+     * If the history is then over its budget, the oldest states are moved out of memory.
+     *
+     * @throws UndoHistoryUnavailableException if the undone state is on disk but the redo history file cannot be
+     *     read. The undone states on disk are discarded, and the address book is left unchanged.
      */
     public void redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        if (stateTransitionList.size() - spilledRedoCount == currentStatePointer
+                && !pageInOldestSpilledUndoneState()) {
+            throw new UndoHistoryUnavailableException();
+        }
+        revertUncommittedDeltas();
+        replayDeltas(stateTransitionList.get(currentStatePointer));
         currentStatePointer++;
-        resetData(saveItStateList.get(currentStatePointer));
+        if (saveItStateList.get(currentStatePointer) == null) {
+            saveItStateList.set(currentStatePointer, getPersonSnapshot());
+        }
+        enforceBudget();
     }
 
     /**
@@ -69,6 +340,83 @@ public class VersionedSaveIt extends SaveIt {
         return currentStatePointer < saveItStateList.size() - 1;
     }
 
+    /**
+     * Returns the number of states that can be undone, including those on disk.
+     */
+    public int getUndoDepth() {
+        return currentStatePointer;
+    }
+
+    /**
+     * Returns the number of states whose changes have been moved to disk, including undone states.
+     */
+    public int getSpilledStateCount() {
+        return spilledTransitionCount + spilledRedoCount;
+    }
+
+    /**
+     * Returns an estimate of the number of bytes of memory taken up by the changes kept in memory by the history.
+     */
+    public long getHistoryMemoryUsage() {
+        return bytesInMemory;
+    }
+
+    /**
+     * Returns the number of bytes taken up by the history on disk.
+     */
+    public long getHistoryDiskUsage() {
+        return (historyFile == null ? 0 : historyFile.getSize())
+                + (redoHistoryFile == null ? 0 : redoHistoryFile.getSize());
+    }
+
+    /**
+     * Returns the path of the history file, or null if no states have been moved to disk.
+     */
+    Path getHistoryFilePath() {
+        return historyFile == null ? null : historyFile.getFilePath();
+    }
+
+    private void recordDelta(IssueListDelta delta) {
+        if (!isRestoringState) {
+            uncommittedDeltas.add(delta);
+        }
+    }
+
+    /**
+     * Discards the changes made since the current state was committed or restored.
+     */
+    private void revertUncommittedDeltas() {
+        List<IssueListDelta> deltas = uncommittedDeltas;
+        uncommittedDeltas = new ArrayList<>();
+        revertDeltas(deltas);
+    }
+
+    /**
+     * Applies the inverse of each of {@code deltas}, from the last to the first.
+     */
+    private void revertDeltas(List<IssueListDelta> deltas) {
+        isRestoringState = true;
+        try {
+            for (int i = deltas.size() - 1; i >= 0; i--) {
+                applyPersonDelta(deltas.get(i).invert());
+            }
+        } finally {
+            isRestoringState = false;
+        }
+    }
+
+    /**
+     * Applies each of {@code deltas}, from the first to the last.
+     */
+    private void replayDeltas(List<IssueListDelta> deltas) {
+        isRestoringState = true;
+        try {
+            deltas.forEach(this::applyPersonDelta);
+        } finally {
+            isRestoringState = false;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -98,6 +446,15 @@ public class VersionedSaveIt extends SaveIt {
         }
     }
 
+    /**
+     * Thrown when trying to {@code undo()} or {@code redo()} into a state on disk that cannot be read back.
+     */
+    public static class UndoHistoryUnavailableException extends RuntimeException {
+        private UndoHistoryUnavailableException() {
+            super("Unable to read states back from the undo history file.");
+        }
+    }
+
     /**
      * Thrown when trying to {@code redo()} but can't.
      */
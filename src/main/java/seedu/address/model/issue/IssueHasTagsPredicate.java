@@ -0,0 +1,37 @@
+package seedu.address.model.issue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.Issue;
+
+/**
+ * Tests that an {@code Issue} has at least one of the tags in each of the given groups of tags.
+ * For example, the groups {@code [[bug, crash], [java]]} match issues tagged java and either bug or crash.
+ */
+public class IssueHasTagsPredicate implements Predicate<Issue> {
+    private final List<Set<Tag>> tagGroups;
+
+    public IssueHasTagsPredicate(List<Set<Tag>> tagGroups) {
+        this.tagGroups = tagGroups;
+    }
+
+    public List<Set<Tag>> getTagGroups() {
+        return tagGroups;
+    }
+
+    @Override
+    public boolean test(Issue issue) {
+        return tagGroups.stream()
+                .allMatch(tagGroup -> tagGroup.stream().anyMatch(issue.getTags()::contains));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IssueHasTagsPredicate // instanceof handles nulls
+                && tagGroups.equals(((IssueHasTagsPredicate) other).tagGroups)); // state check
+    }
+
+}
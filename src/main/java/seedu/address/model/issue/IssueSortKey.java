@@ -0,0 +1,58 @@
+package seedu.address.model.issue;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import seedu.address.model.Issue;
+
+/**
+ * The fields that the issue list can be sorted by.
+ * Every order ends with the statement and phone of the issues, which together identify an issue, so no two issues in
+ * a {@code UniqueIssueList} are ever tied.
+ */
+public enum IssueSortKey {
+    /** Statements in alphabetical order, ignoring case. */
+    STATEMENT("statement", Comparator.comparing((Issue issue) -> issue.getStatement().issue,
+            String.CASE_INSENSITIVE_ORDER)),
+    /** Phone numbers in numerical order. */
+    PHONE("phone", Comparator.comparing((Issue issue) -> issue.getPhone().value,
+            Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()))),
+    /** The first tag of each issue, as listed, in alphabetical order ignoring case, with untagged issues last. */
+    TAG("tag", Comparator.comparing(IssueSortKey::getFirstTag, Comparator.nullsLast(Tag.NAME_ORDER))),
+    /** The order in which the issues were added. */
+    NONE("none", null);
+
+    public final String keyword;
+    private final Comparator<Issue> comparator;
+
+    IssueSortKey(String keyword, Comparator<Issue> fieldOrder) {
+        this.keyword = keyword;
+        this.comparator = fieldOrder == null ? null : fieldOrder.thenComparing(identityOrder());
+    }
+
+    /**
+     * Returns the comparator that sorts issues by this key, or null if the issues are to be left unsorted.
+     */
+    public Comparator<Issue> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns a comparator that orders issues by statement, then phone, which is a total order over the issues in a
+     * {@code UniqueIssueList}.
+     */
+    private static Comparator<Issue> identityOrder() {
+        return Comparator.comparing((Issue issue) -> issue.getStatement().issue)
+                .thenComparing(issue -> issue.getPhone().value);
+    }
+
+    /**
+     * Returns the first tag of {@code issue}, or null if it has no tags.
+     * The tags of an issue are iterated in {@code Tag#NAME_ORDER}, the order they are compared in, so this needs no
+     * search.
+     */
+    private static Tag getFirstTag(Issue issue) {
+        Iterator<Tag> tags = issue.getTags().iterator();
+        return tags.hasNext() ? tags.next() : null;
+    }
+}
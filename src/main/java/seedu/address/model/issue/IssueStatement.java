@@ -27,11 +27,27 @@ public class IssueStatement {
      * @param issue A valid name.
      */
     public IssueStatement(String issue) {
+        this(issue, false);
+    }
+
+    /**
+     * Constructs a {@code IssueStatement}, checking that {@code issue} is valid unless {@code isKnownValid}.
+     */
+    private IssueStatement(String issue, boolean isKnownValid) {
         requireNonNull(issue);
-        AppUtil.checkArgument(isValidIssueStatement(issue), MESSAGE_ISSUE_STATEMENT_CONSTRAINTS);
+        AppUtil.checkArgument(isKnownValid || isValidIssueStatement(issue), MESSAGE_ISSUE_STATEMENT_CONSTRAINTS);
         this.issue = issue;
     }
 
+    /**
+     * Returns a {@code IssueStatement} for a issue statement that the caller has already checked
+     * with {@link #isValidIssueStatement(String)}, without matching it against the regex again.
+     */
+    public static IssueStatement ofValidated(String issue) {
+        assert isValidIssueStatement(issue);
+        return new IssueStatement(issue, true);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
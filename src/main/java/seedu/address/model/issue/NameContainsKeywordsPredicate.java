@@ -16,6 +16,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Issue> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Issue issue) {
         return keywords.stream()
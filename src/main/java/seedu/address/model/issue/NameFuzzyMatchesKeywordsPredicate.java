@@ -0,0 +1,52 @@
+package seedu.address.model.issue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Issue;
+
+/**
+ * Tests that a {@code Issue}'s {@code IssueStatement} contains a word similar to any of the keywords given, allowing
+ * for typos. The number of edits allowed grows with the length of the keyword.
+ */
+public class NameFuzzyMatchesKeywordsPredicate implements Predicate<Issue> {
+    /** Keywords up to this long must match exactly. */
+    private static final int MAX_EXACT_LENGTH = 2;
+    /** Keywords up to this long may be one edit away from a word. Longer keywords may be two edits away. */
+    private static final int MAX_ONE_EDIT_LENGTH = 5;
+
+    private final List<String> keywords;
+
+    public NameFuzzyMatchesKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the number of edits a word may be away from {@code keyword} to match it.
+     */
+    public static int getMaxEditDistance(String keyword) {
+        if (keyword.length() <= MAX_EXACT_LENGTH) {
+            return 0;
+        }
+        return keyword.length() <= MAX_ONE_EDIT_LENGTH ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Issue issue) {
+        return keywords.stream().anyMatch(keyword -> StringUtil.containsSimilarWordIgnoreCase(
+                issue.getStatement().issue, keyword, getMaxEditDistance(keyword)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameFuzzyMatchesKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((NameFuzzyMatchesKeywordsPredicate) other).keywords)); // state check
+    }
+
+}
@@ -22,11 +22,27 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, false);
+    }
+
+    /**
+     * Constructs a {@code Phone}, checking that {@code phone} is valid unless {@code isKnownValid}.
+     */
+    private Phone(String phone, boolean isKnownValid) {
         requireNonNull(phone);
-        AppUtil.checkArgument(isValidPhone(phone), MESSAGE_PHONE_CONSTRAINTS);
+        AppUtil.checkArgument(isKnownValid || isValidPhone(phone), MESSAGE_PHONE_CONSTRAINTS);
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} for a phone number that the caller has already checked
+     * with {@link #isValidPhone(String)}, without matching it against the regex again.
+     */
+    public static Phone ofValidated(String phone) {
+        assert isValidPhone(phone);
+        return new Phone(phone, true);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
@@ -0,0 +1,48 @@
+package seedu.address.model.issue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Issue;
+
+/**
+ * Tests that a {@code Issue}'s {@code IssueStatement} or {@code Remark} contains any of the keywords given, or that
+ * it has a tag named by any of them. The matching issues are ranked by their relevance to the keywords, and only the
+ * most relevant {@code limit} of them are shown.
+ */
+public class RankedKeywordsPredicate implements Predicate<Issue> {
+    private final List<String> keywords;
+    private final int limit;
+
+    public RankedKeywordsPredicate(List<String> keywords, int limit) {
+        assert limit > 0;
+        this.keywords = keywords;
+        this.limit = limit;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public boolean test(Issue issue) {
+        return keywords.stream().anyMatch(keyword ->
+                StringUtil.containsWordIgnoreCase(issue.getStatement().issue, keyword)
+                || StringUtil.containsWordIgnoreCase(issue.getAddress().value, keyword)
+                || issue.getTags().stream().anyMatch(tag -> tag.tagName.equalsIgnoreCase(keyword)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RankedKeywordsPredicate // instanceof handles nulls
+                && keywords.equals(((RankedKeywordsPredicate) other).keywords)
+                && limit == ((RankedKeywordsPredicate) other).limit); // state check
+    }
+
+}
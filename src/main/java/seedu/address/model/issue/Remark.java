@@ -27,11 +27,27 @@ public class Remark {
      * @param remark A valid remark.
      */
     public Remark(String remark) {
+        this(remark, false);
+    }
+
+    /**
+     * Constructs a {@code Remark}, checking that {@code remark} is valid unless {@code isKnownValid}.
+     */
+    private Remark(String remark, boolean isKnownValid) {
         requireNonNull(remark);
-        AppUtil.checkArgument(isValidRemark(remark), MESSAGE_ADDRESS_CONSTRAINTS);
+        AppUtil.checkArgument(isKnownValid || isValidRemark(remark), MESSAGE_ADDRESS_CONSTRAINTS);
         value = remark;
     }
 
+    /**
+     * Returns a {@code Remark} for a remark that the caller has already checked
+     * with {@link #isValidRemark(String)}, without matching it against the regex again.
+     */
+    public static Remark ofValidated(String remark) {
+        assert isValidRemark(remark);
+        return new Remark(remark, true);
+    }
+
     /**
      * Returns true if a given string is a valid remark.
      */
@@ -2,42 +2,78 @@ package seedu.address.model.issue;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+
 import seedu.address.commons.util.AppUtil;
 
 /**
  * Represents a Tag in the address book.
+ * Every tag name is interned in the {@code TagDictionary}, which gives all tags with the same name the same id, so
+ * tags are compared by id. Tags are only created by the {@code TagDictionary}; use {@link #of(String)} to get one.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
  */
 public class Tag {
 
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
+    /**
+     * Orders tags by name, ignoring case. Names that differ only in case, such as "Bug" and "bug", are then ordered
+     * by case, so that no two tags are tied.
+     */
+    public static final Comparator<Tag> NAME_ORDER = Comparator.comparing((Tag tag) -> tag.tagName,
+            String.CASE_INSENSITIVE_ORDER).thenComparing(tag -> tag.tagName);
 
     public final String tagName;
+    private final int id;
+    /** The set of only this tag, shared by all issues with just this tag. Created when first needed. */
+    private TagSet singletonSet;
+
+    /**
+     * Constructs the shared {@code Tag} for a valid {@code tagName}, with its id in the {@code TagDictionary}.
+     */
+    Tag(String tagName, int id) {
+        this.tagName = tagName;
+        this.id = id;
+    }
 
     /**
-     * Constructs a {@code Tag}.
+     * Returns the shared {@code Tag} named {@code tagName}.
      *
-     * @param tagName A valid tag name.
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
      */
-    public Tag(String tagName) {
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
         AppUtil.checkArgument(isValidTagName(tagName), MESSAGE_TAG_CONSTRAINTS);
-        this.tagName = tagName;
+        return TagDictionary.intern(tagName);
     }
 
     /**
      * Returns true if a given string is a valid tag name.
+     * Names already in use are known to be valid, so they are not matched against the regex again.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX);
+        return TagDictionary.lookup(test) != null || test.matches(TAG_VALIDATION_REGEX);
+    }
+
+    int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the set of only this tag. Tag sets are immutable, so a set created by a racing thread is equally good.
+     */
+    TagSet getSingletonSet() {
+        if (singletonSet == null) {
+            singletonSet = TagSet.ofSingleId(id);
+        }
+        return singletonSet;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Tag // instanceof handles nulls
-                && tagName.equals(((Tag) other).tagName)); // state check
+                && id == ((Tag) other).id); // state check
     }
 
     @Override
@@ -0,0 +1,65 @@
+package seedu.address.model.issue;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The dictionary of all tag names in use, which maps each name to a single shared {@code Tag} and a small integer id.
+ * Ids are given out in the order names are first seen, starting from 0. Names are never removed, as the number of
+ * distinct tags in use is expected to be small.
+ * Lookups are safe from any thread without locking.
+ */
+final class TagDictionary {
+
+    private static final ConcurrentMap<String, Tag> tagsByName = new ConcurrentHashMap<>();
+    /** The tag with each id; entries at or after {@code size} are unused. Replaced whenever it has to grow. */
+    private static volatile Tag[] tagsById = new Tag[16];
+    private static int size;
+
+    private TagDictionary() {}
+
+    /**
+     * Returns the shared tag named {@code tagName}, or null if no such tag has been interned.
+     */
+    static Tag lookup(String tagName) {
+        return tagsByName.get(tagName);
+    }
+
+    /**
+     * Returns the shared tag named {@code tagName}, creating it if needed.
+     * {@code tagName} must be a valid tag name.
+     */
+    static Tag intern(String tagName) {
+        Tag tag = tagsByName.get(tagName);
+        return tag != null ? tag : add(tagName);
+    }
+
+    /**
+     * Returns the shared tag with the given id, which must have been given out by this dictionary.
+     */
+    static Tag get(int id) {
+        return tagsById[id];
+    }
+
+    /**
+     * Creates the shared tag named {@code tagName} with the next id, unless another thread has just done so.
+     * The tag is stored by id before it is published by name, so that any thread that sees its id can look it up.
+     */
+    private static synchronized Tag add(String tagName) {
+        Tag tag = tagsByName.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
+
+        tag = new Tag(tagName, size);
+        Tag[] byId = tagsById;
+        if (size == byId.length) {
+            byId = Arrays.copyOf(byId, size * 2);
+        }
+        byId[size++] = tag;
+        tagsById = byId;
+        tagsByName.put(tagName, tag);
+        return tag;
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.model.issue;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, held as the ids of the tags in the {@code TagDictionary} in {@link Tag#NAME_ORDER}.
+ * Two tag sets with the same tags hold equal id arrays, so they are compared without any lookups, and their hash code
+ * is computed once.
+ * Guarantees: immutable; iterates over its tags in {@link Tag#NAME_ORDER}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new int[0]);
+
+    private final int[] ids;
+    private final int hashCode;
+
+    private TagSet(int[] ids) {
+        this.ids = ids;
+        int hash = 0;
+        for (int id : ids) {
+            hash += TagDictionary.get(id).hashCode();
+        }
+        this.hashCode = hash;
+    }
+
+    /**
+     * Returns a tag set with the distinct tags in {@code tags}.
+     * Returns {@code tags} itself if it is already a {@code TagSet}, and a shared set if it holds a single tag.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        if (tags.size() == 1) {
+            return TagDictionary.get(tags.iterator().next().getId()).getSingletonSet();
+        }
+
+        Tag[] sortedTags = tags.toArray(new Tag[0]);
+        Arrays.sort(sortedTags, Tag.NAME_ORDER);
+        int[] ids = new int[sortedTags.length];
+        int count = 0;
+        for (Tag tag : sortedTags) {
+            int id = tag.getId();
+            if (count == 0 || ids[count - 1] != id) {
+                ids[count++] = id;
+            }
+        }
+        return new TagSet(count == ids.length ? ids : Arrays.copyOf(ids, count));
+    }
+
+    /**
+     * Returns a new tag set of the single tag with the given id.
+     */
+    static TagSet ofSingleId(int id) {
+        return new TagSet(new int[] {id});
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns true if this set holds {@code o}, by scanning the ids of its tags. Tag sets are small, so this is no
+     * slower than hashing the tag.
+     */
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Tag)) {
+            return false;
+        }
+        int id = ((Tag) o).getId();
+        for (int tagId : ids) {
+            if (tagId == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if this set holds every tag in {@code c}. Another tag set is checked in a single pass over both
+     * sets, as both are in the same order.
+     */
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        if (!(c instanceof TagSet)) {
+            return super.containsAll(c);
+        }
+
+        int[] otherIds = ((TagSet) c).ids;
+        int i = 0;
+        for (int otherId : otherIds) {
+            while (i < ids.length && ids[i] != otherId) {
+                i++;
+            }
+            if (i == ids.length) {
+                return false;
+            }
+            i++;
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<Tag>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < ids.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return TagDictionary.get(ids[next++]);
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof TagSet) {
+            return hashCode == ((TagSet) other).hashCode && Arrays.equals(ids, ((TagSet) other).ids);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
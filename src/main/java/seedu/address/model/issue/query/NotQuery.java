@@ -0,0 +1,44 @@
+package seedu.address.model.issue.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Issue;
+
+/**
+ * Tests that an {@code Issue} does not match the given query.
+ */
+public class NotQuery extends Query {
+
+    private final Query operand;
+
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    public Query getOperand() {
+        return operand;
+    }
+
+    @Override
+    public boolean test(Issue issue) {
+        return !operand.test(issue);
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + operand;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotQuery // instanceof handles nulls
+                && operand.equals(((NotQuery) other).operand)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return ~operand.hashCode();
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.issue.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Issue;
+
+/**
+ * Tests that an {@code Issue} matches any of the given queries.
+ */
+public class OrQuery extends Query {
+
+    private final List<Query> operands;
+
+    /**
+     * Creates a query that matches any of {@code operands}, of which there must be at least two.
+     */
+    public OrQuery(List<Query> operands) {
+        requireNonNull(operands);
+        checkArgument(operands.size() >= 2, "OR needs at least two operands.");
+        this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+    }
+
+    public List<Query> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Issue issue) {
+        return operands.stream().anyMatch(operand -> operand.test(issue));
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Query::toString).collect(Collectors.joining(" OR ", "(", ")"));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrQuery // instanceof handles nulls
+                && operands.equals(((OrQuery) other).operands)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+}
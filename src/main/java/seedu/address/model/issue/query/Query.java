@@ -0,0 +1,20 @@
+package seedu.address.model.issue.query;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.Issue;
+
+/**
+ * A boolean query over the fields of an issue, which tests whether an issue matches it.
+ * Queries are built from {@code TermQuery}s, which match a word or phrase in one field, combined with
+ * {@code AndQuery}, {@code OrQuery} and {@code NotQuery}.
+ * Guarantees: immutable.
+ */
+public abstract class Query implements Predicate<Issue> {
+
+    /**
+     * Returns the query in the syntax accepted by the find command.
+     */
+    @Override
+    public abstract String toString();
+}
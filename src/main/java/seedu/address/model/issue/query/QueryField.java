@@ -0,0 +1,18 @@
+package seedu.address.model.issue.query;
+
+/**
+ * The fields of an issue that a {@code TermQuery} can match.
+ */
+public enum QueryField {
+    STATEMENT("i/"),
+    REMARK("r/"),
+    PHONE("p/"),
+    TAG("t/");
+
+    /** The prefix that marks a term for this field in a query. */
+    public final String prefix;
+
+    QueryField(String prefix) {
+        this.prefix = prefix;
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.issue.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Issue;
+import seedu.address.model.issue.Tag;
+
+/**
+ * Tests that a field of an {@code Issue} matches a word or a phrase.
+ * Statements and remarks match if they contain the words next to each other, in order, ignoring case.
+ * Phones match if they contain the digits of the word, and tags match if the issue has the tag named by the word.
+ */
+public class TermQuery extends Query {
+
+    private final QueryField field;
+    private final List<String> words;
+    /** The tag to match, if this query matches a tag. */
+    private final Tag tag;
+
+    /**
+     * Creates a query that matches {@code words} in {@code field}. Only statements and remarks can be matched
+     * against a phrase of more than one word. Each word must be a valid tag name if {@code field} is a tag.
+     */
+    public TermQuery(QueryField field, List<String> words) {
+        requireNonNull(field);
+        requireNonNull(words);
+        checkArgument(!words.isEmpty(), "A term needs at least one word.");
+        checkArgument(words.size() == 1 || field == QueryField.STATEMENT || field == QueryField.REMARK,
+                "Only statements and remarks can be matched against a phrase.");
+        this.field = field;
+        this.words = Collections.unmodifiableList(new ArrayList<>(words));
+        this.tag = field == QueryField.TAG ? Tag.of(words.get(0)) : null;
+    }
+
+    public QueryField getField() {
+        return field;
+    }
+
+    /**
+     * Returns the words to match, which are a phrase if there is more than one.
+     */
+    public List<String> getWords() {
+        return words;
+    }
+
+    public boolean isPhrase() {
+        return words.size() > 1;
+    }
+
+    /**
+     * Returns the tag to match. Only applicable to queries on tags.
+     */
+    public Tag getTag() {
+        assert field == QueryField.TAG;
+        return tag;
+    }
+
+    @Override
+    public boolean test(Issue issue) {
+        switch (field) {
+        case STATEMENT:
+            return StringUtil.containsPhraseIgnoreCase(issue.getStatement().issue, words);
+        case REMARK:
+            return StringUtil.containsPhraseIgnoreCase(issue.getAddress().value, words);
+        case PHONE:
+            return issue.getPhone().value.contains(words.get(0));
+        case TAG:
+            return issue.getTags().contains(tag);
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return field.prefix + (isPhrase() ? '"' + String.join(" ", words) + '"' : words.get(0));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TermQuery // instanceof handles nulls
+                && field == ((TermQuery) other).field
+                && words.equals(((TermQuery) other).words)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + words.hashCode();
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Issue;
+import seedu.address.model.SaveIt;
+import seedu.address.model.issue.IssueStatement;
+import seedu.address.model.issue.Phone;
+import seedu.address.model.issue.Remark;
+import seedu.address.model.issue.Tag;
+import seedu.address.model.issue.exceptions.DuplicateIssueException;
+
+/**
+ * Reads the SaveIt data in a binary file written by {@code BinarySaveItWriter}.
+ *
+ * The file is read into memory with a single call rather than through a stream, and is decoded from there. It is not
+ * mapped, as a mapping keeps the file open until it is garbage collected, which stops the file being replaced. Each
+ * string in the string table is decoded once, and each field value and tag is validated and created once, however
+ * many issues share it, so issues with repeated remarks and tags also share the objects holding them.
+ */
+class BinarySaveItReader {
+
+    /** "SIBF", marking a SaveIt binary data file. */
+    static final int MAGIC = 0x53494246;
+    static final int FORMAT_VERSION = 1;
+    /** The magic number and format version. */
+    static final int HEADER_BYTES = 8;
+    /** The CRC-32 checksum of the rest of the file, which follows it. */
+    static final int TRAILER_BYTES = 4;
+
+    /**
+     * Returns the SaveIt data in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file cannot be read, is damaged, or is not in the format written by
+     *     {@code BinarySaveItWriter}.
+     * @throws IllegalValueException if any of the issues in the file violate data constraints, or are duplicates.
+     */
+    static SaveIt read(Path file) throws FileNotFoundException, DataConversionException, IllegalValueException {
+        requireNonNull(file);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try {
+            if (Files.size(file) > Integer.MAX_VALUE) {
+                throw new DataConversionException(new IOException(file + " is too large to be read"));
+            }
+            return read(ByteBuffer.wrap(Files.readAllBytes(file)));
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Returns the SaveIt data in the remaining bytes of {@code buffer}, whose position is left unchanged.
+     *
+     * @throws DataConversionException if the data is damaged, or is not in the format written by
+     *     {@code BinarySaveItWriter}.
+     * @throws IllegalValueException if any of the issues read violate data constraints, or are duplicates.
+     */
+    static SaveIt read(ByteBuffer buffer) throws DataConversionException, IllegalValueException {
+        requireNonNull(buffer);
+
+        ByteBuffer data = buffer.slice();
+        if (data.remaining() < HEADER_BYTES + TRAILER_BYTES || data.getInt() != MAGIC) {
+            throw new DataConversionException(new IOException("The data is not in the SaveIt binary format"));
+        }
+        int version = data.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new DataConversionException(new IOException("Unsupported SaveIt binary format version " + version));
+        }
+        checkChecksum(data);
+
+        List<Issue> issues;
+        try {
+            data.limit(data.limit() - TRAILER_BYTES);
+            String[] strings = readStrings(data);
+            Tag[] tags = readTags(data, strings);
+            issues = readIssues(data, strings, tags);
+            if (data.hasRemaining()) {
+                throw new IOException(data.remaining() + " unexpected bytes after the last issue");
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IOException e) {
+            throw new DataConversionException(e);
+        }
+
+        SaveIt saveIt = new SaveIt();
+        try {
+            saveIt.setPersons(issues);
+        } catch (DuplicateIssueException die) {
+            throw new IllegalValueException(XmlSerializableSaveIt.MESSAGE_DUPLICATE_PERSON);
+        }
+        return saveIt;
+    }
+
+    /**
+     * Checks the bytes before the trailer of {@code data} against the checksum in the trailer.
+     */
+    private static void checkChecksum(ByteBuffer data) throws DataConversionException {
+        ByteBuffer checked = data.duplicate();
+        checked.position(0).limit(data.limit() - TRAILER_BYTES);
+        CRC32 checksum = new CRC32();
+        checksum.update(checked);
+        if ((int) checksum.getValue() != data.getInt(data.limit() - TRAILER_BYTES)) {
+            throw new DataConversionException(new IOException("The data is damaged: its checksum does not match"));
+        }
+    }
+
+    /**
+     * Returns the strings in the string table at the position of {@code data}.
+     */
+    private static String[] readStrings(ByteBuffer data) throws IOException {
+        String[] strings = new String[readCount(data)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = new String(readBytes(data, readCount(data)), StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    /**
+     * Returns the tags in the tag dictionary at the position of {@code data}, which refers to {@code strings}.
+     */
+    private static Tag[] readTags(ByteBuffer data, String[] strings) throws IOException, IllegalValueException {
+        Tag[] tags = new Tag[readCount(data)];
+        for (int i = 0; i < tags.length; i++) {
+            String tagName = strings[readVarint(data)];
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_TAG_CONSTRAINTS);
+            }
+            tags[i] = Tag.of(tagName);
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the issues in the records at the position of {@code data}, which refer to {@code strings} and
+     * {@code tags}.
+     */
+    private static List<Issue> readIssues(ByteBuffer data, String[] strings, Tag[] tags) throws IOException,
+            IllegalValueException {
+        IssueStatement[] statements = new IssueStatement[strings.length];
+        Phone[] phones = new Phone[strings.length];
+        Remark[] remarks = new Remark[strings.length];
+
+        int count = readCount(data);
+        List<Issue> issues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int id = readVarint(data);
+            IssueStatement statement = readField(data, strings, statements, IssueStatement::isValidIssueStatement,
+                    IssueStatement::ofValidated, IssueStatement.MESSAGE_ISSUE_STATEMENT_CONSTRAINTS);
+            Phone phone = readField(data, strings, phones, Phone::isValidPhone, Phone::ofValidated,
+                    Phone.MESSAGE_PHONE_CONSTRAINTS);
+            Remark remark = readField(data, strings, remarks, Remark::isValidRemark, Remark::ofValidated,
+                    Remark.MESSAGE_ADDRESS_CONSTRAINTS);
+            int tagCount = readVarint(data);
+            Set<Tag> issueTags = new HashSet<>();
+            for (int j = 0; j < tagCount; j++) {
+                issueTags.add(tags[readVarint(data)]);
+            }
+            issues.add(new Issue(id, statement, phone, remark, issueTags));
+        }
+        return issues;
+    }
+
+    /**
+     * Returns the field value whose string table index is at the position of {@code data}. The value for each index
+     * is created once, if its string satisfies {@code isValid}, and kept in {@code values} for the issues sharing it.
+     */
+    private static <T> T readField(ByteBuffer data, String[] strings, T[] values, Predicate<String> isValid,
+            Function<String, T> create, String constraintsMessage) throws IOException, IllegalValueException {
+        int index = readVarint(data);
+        if (values[index] == null) {
+            if (!isValid.test(strings[index])) {
+                throw new IllegalValueException(constraintsMessage);
+            }
+            values[index] = create.apply(strings[index]);
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns the number of entries or bytes that follow, which cannot be more than the number of bytes remaining.
+     */
+    private static int readCount(ByteBuffer data) throws IOException {
+        int count = readVarint(data);
+        if (count > data.remaining()) {
+            throw new IOException("Entry count " + count + " exceeds the size of the data");
+        }
+        return count;
+    }
+
+    /**
+     * Returns the non-negative int written by {@code BinarySaveItWriter#writeVarint} at the position of {@code data}.
+     */
+    private static int readVarint(ByteBuffer data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = data.get();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                // the fifth byte holds the top 3 of the 31 bits of a non-negative int
+                if (shift == 28 && (b & 0x78) != 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint at position " + data.position());
+    }
+
+    private static byte[] readBytes(ByteBuffer data, int length) {
+        byte[] bytes = new byte[length];
+        data.get(bytes);
+        return bytes;
+    }
+}
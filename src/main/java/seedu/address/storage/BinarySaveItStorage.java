@@ -0,0 +1,225 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.IssueListDelta;
+import seedu.address.model.ReadOnlySaveIt;
+
+/**
+ * A class to access SaveIt data stored on the hard disk in the compact binary format of {@code BinarySaveItWriter}.
+ *
+ * The data is written to a temporary file which is then moved into place, so a save that fails part way leaves the
+ * previous data intact. Each save writes the whole of the data, which is small and quick to write in this format.
+ *
+ * A storage can be given the storage the data was kept in before, such as an xml data file. If its own data file is
+ * missing when it is read, the data is read from the earlier storage instead, and written to the binary data file on a
+ * separate thread, unless newer data is saved first. Once the binary data file holds the data, and a migrated copy has
+ * been read back and found to match, the earlier data file and any change log following it are renamed with the
+ * suffix {@code .migrated}. They are then kept only as a backup, and are not read again, so that stale data is never
+ * loaded or migrated a second time.
+ */
+public class BinarySaveItStorage implements SaveItStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySaveItStorage.class);
+
+    private static final String XML_FILE_EXTENSION = ".xml";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String MIGRATED_FILE_SUFFIX = ".migrated";
+
+    private final Path filePath;
+    private final SaveItStorage earlierStorage;
+    private Thread migrationThread;
+    /** True once data has been written to {@code filePath}, after which earlier data must not be migrated to it. */
+    private boolean isSaved;
+    /** True while the earlier data file has been read, and is yet to be renamed once the binary data file holds it. */
+    private boolean isMigrating;
+
+    public BinarySaveItStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage that migrates the data in {@code earlierStorage} to {@code filePath} if it is missing there.
+     * @param earlierStorage may be null if there is no earlier storage.
+     */
+    public BinarySaveItStorage(Path filePath, SaveItStorage earlierStorage) {
+        this.filePath = filePath;
+        this.earlierStorage = earlierStorage;
+    }
+
+    public Path getSaveItFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary data file kept in place of the xml data file at {@code xmlFilePath}.
+     */
+    public static Path getBinaryFilePath(Path xmlFilePath) {
+        String fileName = xmlFilePath.getFileName().toString();
+        if (fileName.endsWith(XML_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - XML_FILE_EXTENSION.length());
+        }
+        return xmlFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlySaveIt> readSaveIt() throws DataConversionException, IOException {
+        return readSaveIt(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSaveIt()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            if (earlierStorage != null && filePath.equals(this.filePath)) {
+                return readEarlierSaveIt();
+            }
+            logger.info("SaveIt file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinarySaveItReader.read(filePath));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the data in the earlier storage, and starts migrating it to the binary data file if there is any.
+     */
+    private Optional<ReadOnlySaveIt> readEarlierSaveIt() throws DataConversionException, IOException {
+        Optional<ReadOnlySaveIt> saveIt = earlierStorage.readSaveIt();
+        if (saveIt.isPresent()) {
+            logger.info("Migrating SaveIt data from " + earlierStorage.getSaveItFilePath() + " to " + filePath);
+            ReadOnlySaveIt data = saveIt.get();
+            isMigrating = true;
+            migrationThread = new Thread(() -> migrate(data), "SaveIt migrator");
+            migrationThread.setDaemon(true);
+            migrationThread.start();
+        }
+        return saveIt;
+    }
+
+    /**
+     * Writes {@code saveIt}, read from the earlier storage, to the binary data file, unless newer data has been saved.
+     * A migration that fails is tried again the next time the data is read.
+     */
+    private synchronized void migrate(ReadOnlySaveIt saveIt) {
+        if (isSaved) {
+            logger.info("Skipping the migration of SaveIt data to " + filePath + ", which holds newer data");
+            return;
+        }
+        try {
+            writeFile(saveIt, filePath);
+            if (!BinarySaveItReader.read(filePath).getPersonList().equals(saveIt.getPersonList())) {
+                Files.delete(filePath);
+                logger.warning("Failed to migrate SaveIt data to " + filePath + ", which does not match the data");
+                return;
+            }
+            isSaved = true;
+            logger.info("Migrated SaveIt data to " + filePath);
+            retireEarlierFiles();
+        } catch (IOException | DataConversionException | IllegalValueException e) {
+            logger.warning("Failed to migrate SaveIt data to " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Renames the earlier data file, and the change log following it if any, so that they are not read again.
+     * A rename that fails is tried again after the next save.
+     */
+    private void retireEarlierFiles() {
+        Path earlierFilePath = earlierStorage.getSaveItFilePath();
+        try {
+            for (Path path : new Path[] {earlierFilePath, WalSaveItStorage.getLogFilePath(earlierFilePath)}) {
+                if (Files.exists(path)) {
+                    Files.move(path, path.resolveSibling(path.getFileName() + MIGRATED_FILE_SUFFIX),
+                            StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            isMigrating = false;
+            logger.info("Renamed " + earlierFilePath + ", whose data is now kept in " + filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to rename " + earlierFilePath + " after migrating its data: " + ioe);
+        }
+    }
+
+    /**
+     * Waits for the migration started when the data was last read, if any, to finish.
+     */
+    void awaitMigration() throws InterruptedException {
+        if (migrationThread != null) {
+            migrationThread.join();
+        }
+    }
+
+    @Override
+    public void saveSaveIt(ReadOnlySaveIt saveIt) throws IOException {
+        saveSaveIt(saveIt, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSaveIt(ReadOnlySaveIt)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public synchronized void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(filePath);
+
+        writeFile(saveIt, filePath);
+        if (filePath.equals(this.filePath)) {
+            isSaved = true;
+            if (isMigrating) {
+                retireEarlierFiles();
+            }
+        }
+    }
+
+    /**
+     * Saves the whole of {@code saveIt}, as this format does not record changes alone.
+     */
+    @Override
+    public void saveSaveItChanges(ReadOnlySaveIt saveIt, List<IssueListDelta> changes, long previousVersion,
+            long version) throws IOException {
+        requireNonNull(changes);
+        saveSaveIt(saveIt);
+    }
+
+    /**
+     * Writes {@code saveIt} to a temporary file that is forced to the disk, and then moved to {@code filePath}.
+     */
+    private static void writeFile(ReadOnlySaveIt saveIt, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            BinarySaveItWriter.write(saveIt, Channels.newOutputStream(channel));
+            channel.force(true);
+        }
+        FileUtil.moveIntoPlace(temporaryFilePath, filePath);
+    }
+}
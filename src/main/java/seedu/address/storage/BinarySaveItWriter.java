@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.model.Issue;
+import seedu.address.model.ReadOnlySaveIt;
+import seedu.address.model.issue.Tag;
+
+/**
+ * Writes SaveIt data to a file in the compact binary format read by {@code BinarySaveItReader}.
+ *
+ * The file begins with a header holding a magic number and the format version, as 4-byte ints. It is followed by a
+ * string table holding every distinct field value and tag name once, as its length and its UTF-8 bytes, and by a tag
+ * dictionary holding every distinct tag once, as the index of its name in the string table. Each issue is then
+ * written as a record of its id, the string table indexes of its fields, and the number and dictionary indexes of its
+ * tags. Every count, length, index and id is written as a varint, so that a record takes only a few bytes beyond the
+ * text that is unique to it. The file ends with a trailer holding the CRC-32 checksum of all the bytes before it.
+ */
+class BinarySaveItWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes {@code saveIt} to {@code file}, replacing its contents. The file is created if it is missing.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(ReadOnlySaveIt saveIt, Path file) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(file);
+
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(saveIt, out);
+        }
+    }
+
+    /**
+     * Writes {@code saveIt} to {@code out}, which is flushed but left open.
+     *
+     * @throws IOException if there was an error writing to the stream.
+     */
+    static void write(ReadOnlySaveIt saveIt, OutputStream out) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(out);
+
+        List<Issue> issues = saveIt.getPersonList();
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        Map<Tag, Integer> tags = new LinkedHashMap<>();
+        for (Issue issue : issues) {
+            indexOf(strings, issue.getStatement().issue);
+            indexOf(strings, issue.getPhone().value);
+            indexOf(strings, issue.getAddress().value);
+            for (Tag tag : issue.getTags()) {
+                indexOf(tags, tag);
+            }
+        }
+        for (Tag tag : tags.keySet()) {
+            indexOf(strings, tag.tagName);
+        }
+
+        // the checksum is updated once for each buffer written, rather than once for each byte
+        CRC32 checksum = new CRC32();
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(out, checksum),
+                BUFFER_SIZE));
+        data.writeInt(BinarySaveItReader.MAGIC);
+        data.writeInt(BinarySaveItReader.FORMAT_VERSION);
+        writeStrings(data, strings);
+        writeTags(data, tags, strings);
+        writeIssues(data, issues, strings, tags);
+        data.flush();
+        new DataOutputStream(out).writeInt((int) checksum.getValue());
+        out.flush();
+    }
+
+    /**
+     * Returns the index of {@code key} in {@code indexes}, adding it as the next index if it is missing.
+     */
+    private static <T> int indexOf(Map<T, Integer> indexes, T key) {
+        Integer index = indexes.get(key);
+        if (index == null) {
+            index = indexes.size();
+            indexes.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * Writes the string table, holding the keys of {@code strings} in the order of their indexes.
+     */
+    private static void writeStrings(DataOutputStream data, Map<String, Integer> strings) throws IOException {
+        writeVarint(data, strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarint(data, bytes.length);
+            data.write(bytes);
+        }
+    }
+
+    /**
+     * Writes the tag dictionary, holding the keys of {@code tags} in the order of their indexes.
+     */
+    private static void writeTags(DataOutputStream data, Map<Tag, Integer> tags, Map<String, Integer> strings)
+            throws IOException {
+        writeVarint(data, tags.size());
+        for (Tag tag : tags.keySet()) {
+            writeVarint(data, strings.get(tag.tagName));
+        }
+    }
+
+    /**
+     * Writes a record for each of {@code issues}, in order.
+     */
+    private static void writeIssues(DataOutputStream data, List<Issue> issues, Map<String, Integer> strings,
+            Map<Tag, Integer> tags) throws IOException {
+        writeVarint(data, issues.size());
+        for (Issue issue : issues) {
+            writeVarint(data, issue.getId());
+            writeVarint(data, strings.get(issue.getStatement().issue));
+            writeVarint(data, strings.get(issue.getPhone().value));
+            writeVarint(data, strings.get(issue.getAddress().value));
+            writeVarint(data, issue.getTags().size());
+            for (Tag tag : issue.getTags()) {
+                writeVarint(data, tags.get(tag));
+            }
+        }
+    }
+
+    /**
+     * Writes the non-negative {@code value} in as few bytes as it needs, 7 bits to a byte, lowest bits first. The top
+     * bit of each byte is set if another byte follows.
+     */
+    private static void writeVarint(DataOutputStream data, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~0x7f) != 0) {
+            data.write((remaining & 0x7f) | 0x80);
+            remaining >>>= 7;
+        }
+        data.write(remaining);
+    }
+}
@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.IssueListDelta;
 import seedu.address.model.ReadOnlySaveIt;
 import seedu.address.model.SaveIt;
 
@@ -43,4 +45,16 @@ public interface SaveItStorage {
      */
     void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlySaveIt}, which is version {@code version} of the model, to the storage, given the
+     * {@code changes} made to its issue list since version {@code previousVersion}, in the order they were made.
+     *   A storage that cannot save the changes alone, or did not last save version {@code previousVersion}, saves the
+     *   whole of {@code saveIt}. Either version may be {@code SaveItChangedEvent.UNKNOWN_VERSION}.
+     * @param saveIt cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveSaveItChanges(ReadOnlySaveIt saveIt, List<IssueListDelta> changes, long previousVersion, long version)
+            throws IOException;
+
 }
@@ -31,9 +31,14 @@ public interface Storage extends SaveItStorage, UserPrefsStorage {
     void saveSaveIt(ReadOnlySaveIt saveIt) throws IOException;
 
     /**
-     * Saves the current version of the SaveIt to the hard disk.
-     *   Creates the data file if it is missing.
-     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     * Schedules the current version of the SaveIt to be saved to the hard disk on a background thread.
+     *   Creates the data file if it is missing. Changes made in quick succession are saved together.
+     * Raises {@link DataSavingExceptionEvent} from the background thread if there was an error during saving.
      */
     void handleSaveItChangedEvent(SaveItChangedEvent abce);
+
+    /**
+     * Saves the changes to the SaveIt that have yet to be saved, waiting a bounded time for them to be written.
+     */
+    void flushSaveIt();
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,23 +13,33 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.SaveItChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.IssueListDelta;
 import seedu.address.model.ReadOnlySaveIt;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of SaveIt data in local storage.
+ * Changes to the SaveIt data are saved behind the scenes, so that a burst of changes is written to the file once.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
+    /** How long changes are collected before they are saved. */
+    private static final long SAVE_DELAY_MILLIS = 200;
+    /** How long to wait for the changes not yet saved to be written, such as when the app exits. */
+    private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private SaveItStorage saveItStorage;
     private UserPrefsStorage userPrefsStorage;
+    private WriteBehindSaver saver;
 
 
     public StorageManager(SaveItStorage saveItStorage, UserPrefsStorage userPrefsStorage) {
         super();
         this.saveItStorage = saveItStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saver = new WriteBehindSaver(saveItStorage, SAVE_DELAY_MILLIS, e ->
+                raise(new DataSavingExceptionEvent(e)));
     }
 
     // ================ UserPrefs methods ==============================
@@ -79,15 +90,24 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
 
+    @Override
+    public void saveSaveItChanges(ReadOnlySaveIt saveIt, List<IssueListDelta> changes, long previousVersion,
+            long version) throws IOException {
+        logger.fine("Attempting to write changes to data file: " + saveItStorage.getSaveItFilePath());
+        saveItStorage.saveSaveItChanges(saveIt, changes, previousVersion, version);
+    }
+
+
     @Override
     @Subscribe
     public void handleSaveItChangedEvent(SaveItChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveSaveIt(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+        saver.submit(event.data, event.changes, event.getPreviousVersion(), event.version);
+    }
+
+    @Override
+    public void flushSaveIt() {
+        saver.flush(FLUSH_TIMEOUT_MILLIS);
     }
 
 }
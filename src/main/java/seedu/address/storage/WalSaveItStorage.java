@@ -0,0 +1,422 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.collections.PersistentList;
+import seedu.address.commons.events.model.SaveItChangedEvent;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Issue;
+import seedu.address.model.IssueListDelta;
+import seedu.address.model.ReadOnlySaveIt;
+import seedu.address.model.SaveIt;
+import seedu.address.model.issue.exceptions.DuplicateIssueException;
+
+/**
+ * A class to access SaveIt data stored on the hard disk as an xml snapshot, followed by a log of the changes made to
+ * the issue list since the snapshot was written.
+ *
+ * Saving changes appends them to the log as a single record, so that it takes time proportional to the size of the
+ * changes rather than of the data. Each record holds its length and CRC-32 checksum, and is forced to the disk before
+ * the save returns. Once the log grows larger than the snapshot, it is compacted: the data is written as a new
+ * snapshot, and a new log is started. Compaction runs on the thread that saves, which is not the UI thread.
+ *
+ * The log begins with the length and checksum of the snapshot it follows. A new snapshot and log are each written to a
+ * temporary file and then moved into place, snapshot first. A crash thus leaves either the old snapshot and its log,
+ * or the new snapshot and a log that is discarded, since it follows the old snapshot. A record that was only partly
+ * written when the app stopped fails its checksum, and is discarded along with any after it.
+ *
+ * Changes can only be appended to the version of the data this storage last saved, which it is told along with the
+ * changes, so the first save after the data is read, after a save fails, or after changes from another version, writes
+ * a new snapshot.
+ */
+public class WalSaveItStorage implements SaveItStorage {
+
+    public static final String MESSAGE_LOG_MISMATCH = "The change log does not match the data file it follows";
+
+    private static final Logger logger = LogsCenter.getLogger(WalSaveItStorage.class);
+
+    private static final String LOG_FILE_SUFFIX = ".log";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    /** "SIWL", marking a SaveIt change log. */
+    private static final int LOG_MAGIC = 0x5349574c;
+    private static final int LOG_FORMAT_VERSION = 1;
+    /** The magic number and format version, followed by the checksum and length of the snapshot. */
+    private static final int LOG_HEADER_BYTES = 24;
+    /** The length and checksum of the changes that follow. */
+    private static final int RECORD_HEADER_BYTES = 8;
+    /** Logs smaller than this are not compacted, however small the snapshot is. */
+    private static final long MIN_COMPACTION_BYTES = 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path filePath;
+    private final long minCompactionBytes;
+    /** The version of the data last saved, or {@code UNKNOWN_VERSION} if changes cannot be appended to the log. */
+    private long savedVersion = SaveItChangedEvent.UNKNOWN_VERSION;
+    private long snapshotSize;
+    private long logSize;
+
+    public WalSaveItStorage(Path filePath) {
+        this(filePath, MIN_COMPACTION_BYTES);
+    }
+
+    /**
+     * Creates a storage that does not compact logs smaller than {@code minCompactionBytes}.
+     */
+    WalSaveItStorage(Path filePath, long minCompactionBytes) {
+        this.filePath = filePath;
+        this.minCompactionBytes = minCompactionBytes;
+    }
+
+    public Path getSaveItFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the log that follows the snapshot at {@code snapshotPath}.
+     */
+    public static Path getLogFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + LOG_FILE_SUFFIX);
+    }
+
+    /**
+     * Merges the log that follows the snapshot at {@code snapshotPath}, if there is one, into the snapshot and deletes
+     * the log, so that the snapshot alone holds the data. A log that does not follow the snapshot is just deleted.
+     *
+     * @throws DataConversionException if the snapshot or log is not in the correct format. Both are left unchanged.
+     */
+    public static void mergeChangeLog(Path snapshotPath) throws DataConversionException, IOException {
+        requireNonNull(snapshotPath);
+        Path logPath = getLogFilePath(snapshotPath);
+        if (!Files.exists(logPath)) {
+            return;
+        }
+
+        WalSaveItStorage storage = new WalSaveItStorage(snapshotPath);
+        Optional<ReadOnlySaveIt> saveIt = storage.readSaveIt();
+        if (saveIt.isPresent()) {
+            storage.saveSaveIt(saveIt.get());
+        }
+        Files.delete(logPath);
+        logger.info("Merged the change log of " + snapshotPath + " into it");
+    }
+
+    @Override
+    public Optional<ReadOnlySaveIt> readSaveIt() throws DataConversionException, IOException {
+        return readSaveIt(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSaveIt()}
+     * @param filePath location of the snapshot, which the log is next to. Cannot be null
+     * @throws DataConversionException if the snapshot or log is not in the correct format.
+     */
+    public Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("SaveIt file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        CRC32 snapshotChecksum = new CRC32();
+        SaveIt snapshot;
+        try (InputStream in = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(filePath),
+                BUFFER_SIZE), snapshotChecksum)) {
+            snapshot = XmlSaveItReader.read(in);
+            // the checksum covers the whole file, including anything after the root element
+            readToEnd(in);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        List<IssueListDelta> changes = readLog(getLogFilePath(filePath), snapshotChecksum.getValue(),
+                Files.size(filePath));
+        if (changes.isEmpty()) {
+            return Optional.of(snapshot);
+        }
+
+        PersistentList<Issue> issues = PersistentList.of(snapshot.getPersonList());
+        for (IssueListDelta change : changes) {
+            issues = applyChange(issues, change);
+        }
+        SaveIt saveIt = new SaveIt();
+        try {
+            saveIt.setPersons(issues.asList());
+        } catch (DuplicateIssueException die) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_LOG_MISMATCH));
+        }
+        logger.info("Replayed " + changes.size() + " changes from the change log of " + filePath);
+        return Optional.of(saveIt);
+    }
+
+    @Override
+    public void saveSaveIt(ReadOnlySaveIt saveIt) throws IOException {
+        saveSaveIt(saveIt, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSaveIt(ReadOnlySaveIt)}, writing a new snapshot and an empty log.
+     * @param filePath location of the snapshot, which the log is next to. Cannot be null
+     */
+    public void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            savedVersion = SaveItChangedEvent.UNKNOWN_VERSION;
+        }
+        long writtenSnapshotSize = writeSnapshot(saveIt, filePath);
+        if (isOwnFile) {
+            snapshotSize = writtenSnapshotSize;
+            logSize = LOG_HEADER_BYTES;
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the log as a single record, compacting the log if it has grown larger than the
+     * snapshot. Writes a new snapshot instead if the changes do not follow the version of the data last saved, or
+     * replace the whole issue list.
+     */
+    @Override
+    public void saveSaveItChanges(ReadOnlySaveIt saveIt, List<IssueListDelta> changes, long previousVersion,
+            long version) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(changes);
+
+        if (!canAppend(changes, previousVersion)) {
+            saveSaveIt(saveIt);
+            savedVersion = version;
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        ByteBuffer record = encodeRecord(changes);
+        int recordSize = record.remaining();
+        try (FileChannel channel = FileChannel.open(getLogFilePath(filePath), StandardOpenOption.WRITE)) {
+            writeFully(channel, record, logSize);
+            channel.force(false);
+        } catch (IOException ioe) {
+            savedVersion = SaveItChangedEvent.UNKNOWN_VERSION;
+            throw ioe;
+        }
+        logSize += recordSize;
+        savedVersion = version;
+
+        if (logSize - LOG_HEADER_BYTES > Math.max(minCompactionBytes, snapshotSize)) {
+            logger.fine("Compacting the change log of " + filePath + " at " + logSize + " bytes");
+            saveSaveIt(saveIt);
+            savedVersion = version;
+        }
+    }
+
+    /**
+     * Returns true if {@code changes} can be appended to the log: they must lead from the version of the data last
+     * saved, and must not replace the whole issue list.
+     */
+    private boolean canAppend(List<IssueListDelta> changes, long previousVersion) {
+        if (savedVersion == SaveItChangedEvent.UNKNOWN_VERSION || previousVersion != savedVersion) {
+            return false;
+        }
+        return changes.stream().noneMatch(change -> change.getType() == IssueListDelta.Type.REPLACED);
+    }
+
+    /**
+     * Writes {@code saveIt} as the snapshot at {@code snapshotPath}, followed by an empty log.
+     *
+     * @return the size of the snapshot in bytes.
+     */
+    private static long writeSnapshot(ReadOnlySaveIt saveIt, Path snapshotPath) throws IOException {
+        FileUtil.createParentDirsOfFile(snapshotPath);
+        Path logPath = getLogFilePath(snapshotPath);
+        Path temporarySnapshotPath = getTemporaryFilePath(snapshotPath);
+        Path temporaryLogPath = getTemporaryFilePath(logPath);
+
+        CRC32 snapshotChecksum = new CRC32();
+        long writtenSnapshotSize;
+        try (FileChannel channel = FileChannel.open(temporarySnapshotPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            XmlSaveItWriter.write(saveIt, new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), snapshotChecksum));
+            channel.force(true);
+            writtenSnapshotSize = channel.size();
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_BYTES);
+        header.putInt(LOG_MAGIC).putInt(LOG_FORMAT_VERSION).putLong(snapshotChecksum.getValue())
+                .putLong(writtenSnapshotSize);
+        header.flip();
+        try (FileChannel channel = FileChannel.open(temporaryLogPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, header, 0);
+            channel.force(true);
+        }
+
+        FileUtil.moveIntoPlace(temporarySnapshotPath, snapshotPath);
+        FileUtil.moveIntoPlace(temporaryLogPath, logPath);
+        return writtenSnapshotSize;
+    }
+
+    /**
+     * Returns the changes in the log at {@code logPath}, or none if there is no log, or if it follows a snapshot other
+     * than the one with the given checksum and size. Records that were not completely written are discarded.
+     */
+    private static List<IssueListDelta> readLog(Path logPath, long snapshotChecksum, long snapshotFileSize)
+            throws DataConversionException, IOException {
+        if (!Files.exists(logPath)) {
+            return Collections.emptyList();
+        }
+
+        long size = Files.size(logPath);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(logPath),
+                BUFFER_SIZE))) {
+            if (size < LOG_HEADER_BYTES || in.readInt() != LOG_MAGIC || in.readInt() != LOG_FORMAT_VERSION) {
+                throw new DataConversionException(new IOException(logPath + " is not a SaveIt change log"));
+            }
+            if (in.readLong() != snapshotChecksum || in.readLong() != snapshotFileSize) {
+                logger.info("Discarding the change log " + logPath + ", which follows an earlier data file");
+                return Collections.emptyList();
+            }
+
+            List<IssueListDelta> changes = new ArrayList<>();
+            long position = LOG_HEADER_BYTES;
+            while (size - position >= RECORD_HEADER_BYTES) {
+                int recordLength = in.readInt();
+                int recordChecksum = in.readInt();
+                if (recordLength < 0 || recordLength > size - position - RECORD_HEADER_BYTES) {
+                    break;
+                }
+                byte[] payload = new byte[recordLength];
+                in.readFully(payload);
+                CRC32 checksum = new CRC32();
+                checksum.update(payload);
+                if ((int) checksum.getValue() != recordChecksum) {
+                    break;
+                }
+                changes.addAll(decodeRecord(payload));
+                position += RECORD_HEADER_BYTES + recordLength;
+            }
+            if (position < size) {
+                logger.warning("Discarding the last " + (size - position) + " bytes of the change log " + logPath
+                        + ", which were not completely written");
+            }
+            return changes;
+        }
+    }
+
+    /**
+     * Returns {@code issues} with {@code change} made to them.
+     *
+     * @throws DataConversionException if the change is not valid for {@code issues}.
+     */
+    private static PersistentList<Issue> applyChange(PersistentList<Issue> issues, IssueListDelta change)
+            throws DataConversionException {
+        int index = change.getIndex();
+        switch (change.getType()) {
+        case ADDED:
+            checkLogIndex(index, issues.size() + 1);
+            return issues.add(index, change.getNewIssue());
+        case REMOVED:
+            checkLogIndex(index, issues.size());
+            return issues.remove(index);
+        case UPDATED:
+            checkLogIndex(index, issues.size());
+            return issues.set(index, change.getNewIssue());
+        case REPLACED:
+            return change.getNewIssues();
+        default:
+            throw new AssertionError("Unknown delta type " + change.getType());
+        }
+    }
+
+    private static void checkLogIndex(int index, int bound) throws DataConversionException {
+        if (index < 0 || index >= bound) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_LOG_MISMATCH));
+        }
+    }
+
+    /**
+     * Returns a record holding {@code changes}, preceded by their length and checksum.
+     */
+    private static ByteBuffer encodeRecord(List<IssueListDelta> changes) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(changes.size());
+            for (IssueListDelta change : changes) {
+                change.writeTo(out);
+            }
+        }
+        byte[] payload = bytes.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(payload);
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.length);
+        record.putInt(payload.length).putInt((int) checksum.getValue()).put(payload);
+        record.flip();
+        return record;
+    }
+
+    /**
+     * Returns the changes held by the payload of a record written by {@code encodeRecord}.
+     */
+    private static List<IssueListDelta> decodeRecord(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int count = in.readInt();
+            List<IssueListDelta> changes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                changes.add(IssueListDelta.readFrom(in));
+            }
+            return changes;
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of {@code buffer} to {@code channel}, starting at {@code position}.
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long nextPosition = position;
+        while (buffer.hasRemaining()) {
+            nextPosition += channel.write(buffer, nextPosition);
+        }
+    }
+
+    private static void readToEnd(InputStream in) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (in.read(buffer) != -1) {
+            continue;
+        }
+    }
+
+    private static Path getTemporaryFilePath(Path path) {
+        return path.resolveSibling(path.getFileName() + TEMPORARY_FILE_SUFFIX);
+    }
+}
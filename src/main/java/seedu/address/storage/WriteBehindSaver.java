@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.SaveItChangedEvent;
+import seedu.address.model.IssueListDelta;
+import seedu.address.model.ReadOnlySaveIt;
+
+/**
+ * Saves SaveIt data to a {@code SaveItStorage} on a dedicated thread, some time after it is submitted.
+ *
+ * Only the latest data submitted is kept. A write is scheduled when data is submitted while none is waiting to be
+ * written, and writes whatever data is latest when it runs, so a burst of changes made within the save delay is
+ * written once. The data submitted must therefore not change afterwards, which is why it should be a snapshot.
+ * The changes submitted with the data are collected until the write, so that it can save them alone. The changes
+ * submitted each time must follow on from the version of the data submitted before; if they do not, or the changes
+ * leading to any of the data are not known, the storage is asked to save the whole of the latest data instead.
+ * Writes run one at a time, in the order they are scheduled.
+ */
+class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final SaveItStorage saveItStorage;
+    private final long saveDelayMillis;
+    private final Consumer<IOException> failureHandler;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "SaveIt saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The latest data submitted that has yet to be written, or null if there is none. */
+    private ReadOnlySaveIt pendingData;
+    /** The changes leading to {@code pendingData} from {@code pendingPreviousVersion}, or null if not known. */
+    private List<IssueListDelta> pendingChanges;
+    private long pendingPreviousVersion;
+    private long pendingVersion;
+
+    /**
+     * Creates a saver that writes to {@code saveItStorage} {@code saveDelayMillis} milliseconds after data is
+     * submitted, and passes any exception thrown by a write to {@code failureHandler}, on the saver's thread.
+     */
+    WriteBehindSaver(SaveItStorage saveItStorage, long saveDelayMillis, Consumer<IOException> failureHandler) {
+        assert saveDelayMillis >= 0;
+        this.saveItStorage = requireNonNull(saveItStorage);
+        this.saveDelayMillis = saveDelayMillis;
+        this.failureHandler = requireNonNull(failureHandler);
+    }
+
+    /**
+     * Schedules {@code saveIt}, which must not change afterwards, to be written in place of any data that is waiting
+     * to be written. The changes leading to {@code saveIt} are not known, so the whole of it will be saved.
+     */
+    void submit(ReadOnlySaveIt saveIt) {
+        submit(saveIt, null, SaveItChangedEvent.UNKNOWN_VERSION, SaveItChangedEvent.UNKNOWN_VERSION);
+    }
+
+    /**
+     * Schedules {@code saveIt}, which must not change afterwards and is version {@code version} of the model, to be
+     * written in place of any data that is waiting to be written. {@code changes} are the changes made since version
+     * {@code previousVersion}, or null if they are not known.
+     */
+    void submit(ReadOnlySaveIt saveIt, List<IssueListDelta> changes, long previousVersion, long version) {
+        requireNonNull(saveIt);
+        boolean isWriteScheduled;
+        synchronized (this) {
+            isWriteScheduled = pendingData != null;
+            if (!isWriteScheduled) {
+                pendingChanges = changes == null ? null : new ArrayList<>(changes);
+                pendingPreviousVersion = previousVersion;
+            } else if (changes != null && pendingChanges != null && previousVersion == pendingVersion
+                    && previousVersion != SaveItChangedEvent.UNKNOWN_VERSION) {
+                pendingChanges.addAll(changes);
+            } else {
+                pendingChanges = null;
+            }
+            pendingData = saveIt;
+            pendingVersion = version;
+        }
+        if (!isWriteScheduled) {
+            executor.schedule(this::writePendingData, saveDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes any data waiting to be written without waiting for the save delay, and waits at most
+     * {@code timeoutMillis} milliseconds for it and any write in progress to finish.
+     *
+     * @return true if every write of data submitted before this call finished in time.
+     */
+    boolean flush(long timeoutMillis) {
+        try {
+            executor.submit(this::writePendingData).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException te) {
+            logger.warning("SaveIt data was not saved within " + timeoutMillis + " ms");
+            return false;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException ee) {
+            logger.warning("SaveIt data could not be saved: " + ee.getCause());
+            return false;
+        }
+    }
+
+    /**
+     * Writes the data waiting to be written, if there is any, saving only the changes leading to it if they are known.
+     */
+    private void writePendingData() {
+        ReadOnlySaveIt saveIt;
+        List<IssueListDelta> changes;
+        long previousVersion;
+        long version;
+        synchronized (this) {
+            saveIt = pendingData;
+            changes = pendingChanges;
+            previousVersion = pendingPreviousVersion;
+            version = pendingVersion;
+            pendingData = null;
+            pendingChanges = null;
+        }
+        if (saveIt == null) {
+            return;
+        }
+        try {
+            if (changes == null) {
+                saveItStorage.saveSaveItChanges(saveIt, Collections.emptyList(), SaveItChangedEvent.UNKNOWN_VERSION,
+                        version);
+            } else {
+                saveItStorage.saveSaveItChanges(saveIt, changes, previousVersion, version);
+            }
+        } catch (IOException e) {
+            failureHandler.accept(e);
+        }
+    }
+}
@@ -22,7 +22,11 @@ import seedu.address.model.issue.Tag;
 public class XmlAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Issue's %s field is missing!";
+    public static final String MESSAGE_ID_CONSTRAINTS = "Issue ids should be positive integers";
 
+    /** Absent from files saved before issues had ids, in which case the issue is given a new id when loaded. */
+    @XmlElement
+    private Integer id;
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -43,6 +47,15 @@ public class XmlAdaptedPerson {
      * Constructs an {@code XmlAdaptedPerson} with the given issue details.
      */
     public XmlAdaptedPerson(String name, String phone, String address, List<XmlAdaptedTag> tagged) {
+        this(null, name, phone, address, tagged);
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedPerson} with the given issue details, where {@code id} is null for an issue
+     * saved without an id.
+     */
+    public XmlAdaptedPerson(Integer id, String name, String phone, String address, List<XmlAdaptedTag> tagged) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.address = address;
@@ -57,6 +70,7 @@ public class XmlAdaptedPerson {
      * @param source future changes to this will not affect the created XmlAdaptedPerson
      */
     public XmlAdaptedPerson(Issue source) {
+        id = source.hasId() ? source.getId() : null;
         name = source.getStatement().issue;
         phone = source.getPhone().value;
         address = source.getAddress().value;
@@ -71,6 +85,11 @@ public class XmlAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted issue
      */
     public Issue toModelType() throws IllegalValueException {
+        if (id != null && id <= Issue.NO_ID) {
+            throw new IllegalValueException(MESSAGE_ID_CONSTRAINTS);
+        }
+        final int modelId = id == null ? Issue.NO_ID : id;
+
         final List<Tag> personTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
             personTags.add(tag.toModelType());
@@ -83,7 +102,7 @@ public class XmlAdaptedPerson {
         if (!IssueStatement.isValidIssueStatement(name)) {
             throw new IllegalValueException(IssueStatement.MESSAGE_ISSUE_STATEMENT_CONSTRAINTS);
         }
-        final IssueStatement modelName = new IssueStatement(name);
+        final IssueStatement modelName = IssueStatement.ofValidated(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -91,7 +110,7 @@ public class XmlAdaptedPerson {
         if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_PHONE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = Phone.ofValidated(phone);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Remark.class.getSimpleName()));
@@ -99,10 +118,10 @@ public class XmlAdaptedPerson {
         if (!Remark.isValidRemark(address)) {
             throw new IllegalValueException(Remark.MESSAGE_ADDRESS_CONSTRAINTS);
         }
-        final Remark modelAddress = new Remark(address);
+        final Remark modelAddress = Remark.ofValidated(address);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Issue(modelName, modelPhone, modelAddress, modelTags);
+        return new Issue(modelId, modelName, modelPhone, modelAddress, modelTags);
     }
 
     @Override
@@ -116,7 +135,8 @@ public class XmlAdaptedPerson {
         }
 
         XmlAdaptedPerson otherPerson = (XmlAdaptedPerson) other;
-        return Objects.equals(name, otherPerson.name)
+        return Objects.equals(id, otherPerson.id)
+                && Objects.equals(name, otherPerson.name)
                 && Objects.equals(phone, otherPerson.phone)
                 && Objects.equals(address, otherPerson.address)
                 && tagged.equals(otherPerson.tagged);
@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Issue;
+import seedu.address.model.SaveIt;
+import seedu.address.model.issue.exceptions.DuplicateIssueException;
+
+/**
+ * Reads the SaveIt data in an XML file written by {@code XmlSaveItWriter} or {@code XmlFileStorage}, in a single
+ * streaming pass.
+ *
+ * Unmarshalling the file with JAXB builds an {@code XmlSerializableSaveIt} holding an {@code XmlAdaptedPerson} for
+ * every issue, which is then converted into a second list of issues. This reader instead pulls each issue element
+ * from the file with StAX and converts it into an {@code Issue} straight away, so that only the issues themselves are
+ * held in memory, and no JAXB context is needed. The file is read as JAXB would read it: elements that are not part
+ * of an issue are skipped, and each issue is validated by {@link XmlAdaptedPerson#toModelType()}.
+ */
+class XmlSaveItReader {
+
+    /** The names of the elements in the file, as named by JAXB after the fields of the adapted classes. */
+    static final String ROOT_ELEMENT = "address";
+    static final String ISSUE_ELEMENT = "persons";
+    static final String ID_ELEMENT = "id";
+    static final String STATEMENT_ELEMENT = "name";
+    static final String PHONE_ELEMENT = "phone";
+    static final String REMARK_ELEMENT = "address";
+    static final String TAG_ELEMENT = "tagged";
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    /**
+     * Returns the SaveIt data in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file cannot be read, or is not in the format written by
+     *     {@code XmlSaveItWriter}.
+     * @throws IllegalValueException if any of the issues in the file violate data constraints, or are duplicates.
+     */
+    static SaveIt read(Path file) throws FileNotFoundException, DataConversionException, IllegalValueException {
+        requireNonNull(file);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Returns the SaveIt data read from {@code in}, which is left open.
+     *
+     * @throws DataConversionException if the data cannot be read, or is not in the format written by
+     *     {@code XmlSaveItWriter}.
+     * @throws IllegalValueException if any of the issues read violate data constraints, or are duplicates.
+     */
+    static SaveIt read(InputStream in) throws DataConversionException, IllegalValueException {
+        requireNonNull(in);
+
+        List<Issue> issues;
+        try {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                issues = readIssues(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException xse) {
+            throw new DataConversionException(xse);
+        }
+
+        SaveIt saveIt = new SaveIt();
+        try {
+            saveIt.setPersons(issues);
+        } catch (DuplicateIssueException die) {
+            throw new IllegalValueException(XmlSerializableSaveIt.MESSAGE_DUPLICATE_PERSON);
+        }
+        return saveIt;
+    }
+
+    /**
+     * Returns the issues in the document read by {@code reader}, which is positioned at the start of the document.
+     */
+    private static List<Issue> readIssues(XMLStreamReader reader) throws XMLStreamException, IllegalValueException {
+        reader.nextTag();
+        if (!reader.getLocalName().equals(ROOT_ELEMENT)) {
+            throw new XMLStreamException("Unexpected root element " + reader.getLocalName(), reader.getLocation());
+        }
+
+        List<Issue> issues = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (reader.getLocalName().equals(ISSUE_ELEMENT)) {
+                issues.add(readIssue(reader).toModelType());
+            } else {
+                skipElement(reader);
+            }
+        }
+        return issues;
+    }
+
+    /**
+     * Returns the issue whose start tag {@code reader} is positioned at, leaving the reader at its end tag.
+     * As with JAXB, the last of any repeated field is kept.
+     */
+    private static XmlAdaptedPerson readIssue(XMLStreamReader reader) throws XMLStreamException,
+            IllegalValueException {
+        Integer id = null;
+        String statement = null;
+        String phone = null;
+        String remark = null;
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case ID_ELEMENT:
+                id = parseId(reader.getElementText());
+                break;
+            case STATEMENT_ELEMENT:
+                statement = reader.getElementText();
+                break;
+            case PHONE_ELEMENT:
+                phone = reader.getElementText();
+                break;
+            case REMARK_ELEMENT:
+                remark = reader.getElementText();
+                break;
+            case TAG_ELEMENT:
+                tags.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+        return new XmlAdaptedPerson(id, statement, phone, remark, tags);
+    }
+
+    /**
+     * Returns the id written as {@code text}, which is validated along with the rest of the issue.
+     */
+    private static Integer parseId(String text) throws IllegalValueException {
+        try {
+            return Integer.valueOf(text.trim());
+        } catch (NumberFormatException nfe) {
+            throw new IllegalValueException(XmlAdaptedPerson.MESSAGE_ID_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Skips the element whose start tag {@code reader} is positioned at, leaving the reader at its end tag.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Returns a factory for readers that do not resolve external entities or DTDs, which a data file has no use for.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        return factory;
+    }
+}
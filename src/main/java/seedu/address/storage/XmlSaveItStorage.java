@@ -6,6 +6,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,6 +14,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.model.IssueListDelta;
 import seedu.address.model.ReadOnlySaveIt;
 
 /**
@@ -51,9 +53,8 @@ public class XmlSaveItStorage implements SaveItStorage {
             return Optional.empty();
         }
 
-        XmlSerializableSaveIt xmlSaveIt = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlSaveIt.toModelType());
+            return Optional.of(XmlSaveItReader.read(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +75,28 @@ public class XmlSaveItStorage implements SaveItStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableSaveIt(saveIt));
+        long startTime = System.nanoTime();
+        XmlSaveItWriter.write(saveIt, filePath);
+        long elapsedTime = System.nanoTime() - startTime;
+        logger.fine(String.format("Saved %d issues to %s at %.1f MB/s", saveIt.getPersonList().size(), filePath,
+                getThroughput(Files.size(filePath), elapsedTime)));
+    }
+
+    /**
+     * Saves the whole of {@code saveIt}, since the XML file cannot be updated in place.
+     */
+    @Override
+    public void saveSaveItChanges(ReadOnlySaveIt saveIt, List<IssueListDelta> changes, long previousVersion,
+            long version) throws IOException {
+        requireNonNull(changes);
+        saveSaveIt(saveIt);
+    }
+
+    /**
+     * Returns the rate, in megabytes per second, at which {@code bytes} are written in {@code nanos} nanoseconds.
+     */
+    private static double getThroughput(long bytes, long nanos) {
+        return nanos == 0 ? 0 : bytes / 1e6 / (nanos / 1e9);
     }
 
 }
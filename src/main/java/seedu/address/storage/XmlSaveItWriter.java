@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.model.Issue;
+import seedu.address.model.ReadOnlySaveIt;
+import seedu.address.model.issue.Tag;
+
+/**
+ * Writes SaveIt data to an XML file in a single streaming pass, in the format read by {@code XmlSaveItReader}.
+ *
+ * Marshalling with JAXB first copies every issue into an {@code XmlAdaptedPerson} of an {@code XmlSerializableSaveIt}.
+ * This writer instead writes each issue straight from the issue list through a buffered {@code XMLStreamWriter}, so
+ * the memory used while saving does not grow with the number of issues. The output is laid out as JAXB formats it.
+ */
+class XmlSaveItWriter {
+
+    private static final String ENCODING = StandardCharsets.UTF_8.name();
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String INDENT = "    ";
+
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    /**
+     * Writes {@code saveIt} to {@code file}, replacing its contents. The file is created if it is missing.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(ReadOnlySaveIt saveIt, Path file) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(file);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE)) {
+            write(saveIt, out);
+        }
+    }
+
+    /**
+     * Writes {@code saveIt} to {@code out}, which is flushed but left open.
+     *
+     * @throws IOException if there was an error writing to the stream.
+     */
+    static void write(ReadOnlySaveIt saveIt, OutputStream out) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(out);
+
+        try {
+            XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out, ENCODING);
+            try {
+                writeSaveIt(writer, saveIt);
+                writer.flush();
+            } finally {
+                writer.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Could not write the SaveIt data", e);
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes {@code saveIt} as a document holding one element for each issue.
+     */
+    private static void writeSaveIt(XMLStreamWriter writer, ReadOnlySaveIt saveIt) throws XMLStreamException {
+        writer.writeStartDocument(ENCODING, "1.0");
+        writer.writeCharacters("\n");
+        writer.writeStartElement(XmlSaveItReader.ROOT_ELEMENT);
+        for (Issue issue : saveIt.getPersonList()) {
+            writeIssue(writer, issue);
+        }
+        writer.writeCharacters("\n");
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+        writer.writeEndDocument();
+    }
+
+    /**
+     * Writes {@code issue} as an element holding one element for each of its fields.
+     */
+    private static void writeIssue(XMLStreamWriter writer, Issue issue) throws XMLStreamException {
+        writer.writeCharacters("\n" + INDENT);
+        writer.writeStartElement(XmlSaveItReader.ISSUE_ELEMENT);
+        if (issue.hasId()) {
+            writeField(writer, XmlSaveItReader.ID_ELEMENT, Integer.toString(issue.getId()));
+        }
+        writeField(writer, XmlSaveItReader.STATEMENT_ELEMENT, issue.getStatement().issue);
+        writeField(writer, XmlSaveItReader.PHONE_ELEMENT, issue.getPhone().value);
+        writeField(writer, XmlSaveItReader.REMARK_ELEMENT, issue.getAddress().value);
+        for (Tag tag : issue.getTags()) {
+            writeField(writer, XmlSaveItReader.TAG_ELEMENT, tag.tagName);
+        }
+        writer.writeCharacters("\n" + INDENT);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes an element named {@code element} holding {@code value}, on a line of its own.
+     */
+    private static void writeField(XMLStreamWriter writer, String element, String value) throws XMLStreamException {
+        writer.writeCharacters("\n" + INDENT + INDENT);
+        writer.writeStartElement(element);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+}
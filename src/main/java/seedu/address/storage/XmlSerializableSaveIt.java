@@ -11,6 +11,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.Issue;
 import seedu.address.model.ReadOnlySaveIt;
 import seedu.address.model.SaveIt;
+import seedu.address.model.issue.exceptions.DuplicateIssueException;
 
 /**
  * An Immutable SaveIt that is serializable to XML format
@@ -46,13 +47,16 @@ public class XmlSerializableSaveIt {
      * {@code XmlAdaptedPerson}.
      */
     public SaveIt toModelType() throws IllegalValueException {
-        SaveIt saveIt = new SaveIt();
+        List<Issue> issues = new ArrayList<>(persons.size());
         for (XmlAdaptedPerson p : persons) {
-            Issue issue = p.toModelType();
-            if (saveIt.hasPerson(issue)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            saveIt.addPerson(issue);
+            issues.add(p.toModelType());
+        }
+
+        SaveIt saveIt = new SaveIt();
+        try {
+            saveIt.setPersons(issues);
+        } catch (DuplicateIssueException die) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return saveIt;
     }
@@ -1,10 +1,13 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
@@ -21,21 +24,71 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String COMPLETIONS_FORMAT = "Tab: %1$s";
+    public static final String COMPLETIONS_SEPARATOR = "   ";
     private static final String FXML = "CommandBox.fxml";
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    /** The completions of the word before the caret, as last shown. */
+    private List<String> completions;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private Label completionsLabel;
+
     public CommandBox(Logic logic) {
         super(FXML);
         this.logic = logic;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // updates the completions whenever the text is edited or the caret is moved
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> updateCompletions());
+        commandTextField.caretPositionProperty().addListener((unused1, unused2, unused3) -> updateCompletions());
+        // Tab is handled before the text field can use it to move the focus to the next control
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, keyEvent -> {
+            if (keyEvent.getCode() == KeyCode.TAB && !completions.isEmpty()) {
+                keyEvent.consume();
+                applyFirstCompletion();
+            }
+        });
         historySnapshot = logic.getHistorySnapshot();
+        updateCompletions();
+    }
+
+    /**
+     * Shows the completions of the word before the caret, if there are any.
+     */
+    private void updateCompletions() {
+        String text = commandTextField.getText();
+        int caretPosition = Math.min(commandTextField.getCaretPosition(), text.length());
+        completions = logic.getCompletions(text.substring(0, caretPosition));
+
+        boolean hasCompletions = !completions.isEmpty();
+        completionsLabel.setText(hasCompletions
+                ? String.format(COMPLETIONS_FORMAT, String.join(COMPLETIONS_SEPARATOR, completions))
+                : "");
+        completionsLabel.setVisible(hasCompletions);
+        completionsLabel.setManaged(hasCompletions);
+    }
+
+    /**
+     * Replaces the word before the caret with its first completion, and positions the caret after it.
+     */
+    private void applyFirstCompletion() {
+        String text = commandTextField.getText();
+        int caretPosition = commandTextField.getCaretPosition();
+        int wordStart = caretPosition;
+        while (wordStart > 0 && !Character.isWhitespace(text.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+
+        String completedText = text.substring(0, wordStart) + completions.get(0);
+        commandTextField.setText(completedText + text.substring(caretPosition));
+        commandTextField.positionCaret(completedText.length());
     }
 
     /**
@@ -5,6 +5,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.logic.commands.IssueTarget;
 import seedu.address.model.Issue;
 
 /**
@@ -31,6 +32,8 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label id;
     @FXML
+    private Label issueId;
+    @FXML
     private Label phone;
     @FXML
     private Label address;
@@ -42,6 +45,7 @@ public class PersonCard extends UiPart<Region> {
         this.issue = issue;
         id.setText(displayedIndex + ". ");
         name.setText(issue.getStatement().issue);
+        issueId.setText(issue.hasId() ? IssueTarget.ID_PREFIX + issue.getId() : "");
         phone.setText(issue.getPhone().value);
         address.setText(issue.getAddress().value);
         issue.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
@@ -69,9 +69,11 @@ public class TestApp extends MainApp {
     }
 
     /**
-     * Returns a defensive copy of the address book data stored inside the storage file.
+     * Returns a defensive copy of the address book data stored inside the storage file, once the changes waiting to
+     * be saved have been written.
      */
     public SaveIt readStorageSaveIt() {
+        storage.flushSaveIt();
         try {
             return new SaveIt(storage.readSaveIt().get());
         } catch (DataConversionException dce) {
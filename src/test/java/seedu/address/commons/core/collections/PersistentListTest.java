@@ -0,0 +1,122 @@
+package seedu.address.commons.core.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PersistentList<String> abc = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+    @Test
+    public void empty_hasNoElements() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(0, PersistentList.empty().size());
+        assertEquals(Collections.emptyList(), PersistentList.empty().asList());
+    }
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.of(null);
+    }
+
+    @Test
+    public void of_list_keepsOrder() {
+        assertEquals(Arrays.asList("a", "b", "c"), abc.asList());
+        assertEquals("b", abc.get(1));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        abc.get(3);
+    }
+
+    @Test
+    public void add_nullElement_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        abc.add(null);
+    }
+
+    @Test
+    public void updates_originalListUnchanged() {
+        assertEquals(Arrays.asList("a", "b", "c", "d"), abc.add("d").asList());
+        assertEquals(Arrays.asList("z", "a", "b", "c"), abc.add(0, "z").asList());
+        assertEquals(Arrays.asList("a", "x", "c"), abc.set(1, "x").asList());
+        assertEquals(Arrays.asList("a", "c"), abc.remove(1).asList());
+        assertEquals(Arrays.asList("a", "b", "c"), abc.asList());
+    }
+
+    @Test
+    public void randomUpdates_matchArrayListAndKeepOldVersions() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentList<Integer>> actualVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            }
+
+            if (i % 100 == 0) {
+                expectedVersions.add(new ArrayList<>(expected));
+                actualVersions.add(actual);
+            }
+        }
+
+        assertEquals(expected, actual.asList());
+        for (int i = 0; i < expectedVersions.size(); i++) {
+            assertEquals(expectedVersions.get(i), actualVersions.get(i).asList());
+        }
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(abc.equals(PersistentList.of(Arrays.asList("a", "b", "c"))));
+        assertEquals(abc.hashCode(), PersistentList.of(Arrays.asList("a", "b", "c")).hashCode());
+
+        // same object -> returns true
+        assertTrue(abc.equals(abc));
+
+        // null -> returns false
+        assertFalse(abc.equals(null));
+
+        // different types -> returns false
+        assertFalse(abc.equals(Arrays.asList("a", "b", "c")));
+
+        // different elements -> returns false
+        assertNotEquals(abc, abc.set(2, "d"));
+
+        // different order -> returns false
+        assertNotEquals(abc, PersistentList.of(Arrays.asList("c", "b", "a")));
+    }
+}
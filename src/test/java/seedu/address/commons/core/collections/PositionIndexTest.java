@@ -0,0 +1,85 @@
+package seedu.address.commons.core.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PositionIndexTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_list_keysAtTheirPositions() {
+        PositionIndex<String> index = PositionIndex.of(Arrays.asList("a", "b", "c"));
+        assertEquals(3, index.size());
+        assertEquals(0, index.indexOf("a"));
+        assertEquals(2, index.indexOf("c"));
+        assertEquals(-1, index.indexOf("d"));
+        assertFalse(index.contains("d"));
+    }
+
+    @Test
+    public void of_duplicateKeys_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        PositionIndex.of(Arrays.asList("a", "b", "a"));
+    }
+
+    @Test
+    public void add_existingKey_throwsIllegalArgumentException() {
+        PositionIndex<String> index = PositionIndex.of(Arrays.asList("a", "b"));
+        thrown.expect(IllegalArgumentException.class);
+        index.add(0, "b");
+    }
+
+    @Test
+    public void add_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PositionIndex.empty().add(1, "a");
+    }
+
+    @Test
+    public void replace_keepsPosition() {
+        PositionIndex<String> index = PositionIndex.of(Arrays.asList("a", "b", "c"));
+        index.replace("b", "x");
+        assertEquals(1, index.indexOf("x"));
+        assertFalse(index.contains("b"));
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            expected.add(i);
+        }
+        PositionIndex<Integer> index = PositionIndex.of(expected);
+
+        int nextKey = expected.size();
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextBoolean()) {
+                int position = random.nextInt(expected.size() + 1);
+                expected.add(position, nextKey);
+                index.add(position, nextKey++);
+            } else {
+                Integer key = expected.remove(random.nextInt(expected.size()));
+                index.remove(key);
+            }
+        }
+
+        assertEquals(expected.size(), index.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, index.indexOf(expected.get(i)));
+        }
+        assertTrue(index.indexOf(-1) == -1);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.commons.core.collections;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PrefixTrieTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Before
+    public void setUp() {
+        Arrays.asList("java", "javascript", "jaxb", "junit", "java", "j").forEach(trie::add);
+    }
+
+    @Test
+    public void add_duplicates_countedOnce() {
+        assertEquals(5, trie.size());
+        assertEquals(2, trie.count("java"));
+        assertEquals(0, trie.count("ja"));
+    }
+
+    @Test
+    public void complete_prefix_stringsInOrderUpToLimit() {
+        assertEquals(Arrays.asList("java", "javascript", "jaxb"), trie.complete("ja", 5));
+        assertEquals(Arrays.asList("j", "java"), trie.complete("j", 2));
+        assertEquals(Arrays.asList("javascript"), trie.complete("javas", 5));
+        assertEquals(Collections.emptyList(), trie.complete("k", 5));
+        assertEquals(Collections.emptyList(), trie.complete("ja", 0));
+    }
+
+    @Test
+    public void complete_emptyPrefix_allStrings() {
+        assertEquals(Arrays.asList("j", "java", "javascript", "jaxb", "junit"), trie.complete("", 10));
+    }
+
+    @Test
+    public void remove_lastOccurrence_noLongerCompleted() {
+        trie.remove("java");
+        assertEquals(Arrays.asList("java", "javascript", "jaxb"), trie.complete("ja", 5));
+
+        trie.remove("java");
+        trie.remove("javascript");
+        trie.remove("notInTrie");
+        trie.remove("jav");
+        assertEquals(Arrays.asList("jaxb"), trie.complete("ja", 5));
+        assertEquals(Collections.emptyList(), trie.complete("jav", 5));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void clear_nonEmptyTrie_empty() {
+        trie.clear();
+        assertEquals(0, trie.size());
+        assertEquals(Collections.emptyList(), trie.complete("", 5));
+        trie.add("kotlin");
+        assertEquals(Arrays.asList("kotlin"), trie.complete("", 5));
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        trie.add(null);
+    }
+}
@@ -6,6 +6,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 
 import org.junit.Rule;
@@ -137,6 +139,83 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsPhraseIgnoreCase --------------------------------------
+
+    @Test
+    public void containsPhraseIgnoreCase_emptyPhrase_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        StringUtil.containsPhraseIgnoreCase("typical sentence", Collections.emptyList());
+    }
+
+    @Test
+    public void containsPhraseIgnoreCase_validInputs_correctResult() {
+        // Empty sentence
+        assertFalse(StringUtil.containsPhraseIgnoreCase("", Arrays.asList("abc", "def")));
+
+        // Words not next to each other, or out of order
+        assertFalse(StringUtil.containsPhraseIgnoreCase("aaa bbb ccc", Arrays.asList("aaa", "ccc")));
+        assertFalse(StringUtil.containsPhraseIgnoreCase("aaa bbb ccc", Arrays.asList("bbb", "aaa")));
+
+        // Phrase longer than sentence
+        assertFalse(StringUtil.containsPhraseIgnoreCase("aaa bbb", Arrays.asList("aaa", "bbb", "ccc")));
+
+        // Matches a partial word only
+        assertFalse(StringUtil.containsPhraseIgnoreCase("aaa bbb ccc", Arrays.asList("aaa", "bb")));
+
+        // Matches, different upper/lower case letters
+        assertTrue(StringUtil.containsPhraseIgnoreCase("aaa bBb ccc", Arrays.asList("AAA", "bbb"))); // At start
+        assertTrue(StringUtil.containsPhraseIgnoreCase("  aaa   bBb   ccc  ", Arrays.asList("bbb", "CCC"))); // At end
+        assertTrue(StringUtil.containsPhraseIgnoreCase("aaa bbb aaa ccc", Arrays.asList("aaa", "ccc"))); // Later match
+    }
+
+    //---------------- Tests for isWithinEditDistanceIgnoreCase --------------------------------------
+
+    @Test
+    public void isWithinEditDistanceIgnoreCase_negativeDistance_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        StringUtil.isWithinEditDistanceIgnoreCase("abc", "abc", -1);
+    }
+
+    @Test
+    public void isWithinEditDistanceIgnoreCase_validInputs_correctResult() {
+        // Equal ignoring case
+        assertTrue(StringUtil.isWithinEditDistanceIgnoreCase("Exception", "eXCEPTION", 0));
+        assertTrue(StringUtil.isWithinEditDistanceIgnoreCase("", "", 0));
+
+        // One insertion, deletion or substitution
+        assertTrue(StringUtil.isWithinEditDistanceIgnoreCase("excepton", "exception", 1));
+        assertTrue(StringUtil.isWithinEditDistanceIgnoreCase("exception", "excepton", 1));
+        assertTrue(StringUtil.isWithinEditDistanceIgnoreCase("exceptiom", "exception", 1));
+        assertFalse(StringUtil.isWithinEditDistanceIgnoreCase("excepton", "exception", 0));
+
+        // Transposition is two edits
+        assertFalse(StringUtil.isWithinEditDistanceIgnoreCase("pointer", "pionter", 1));
+        assertTrue(StringUtil.isWithinEditDistanceIgnoreCase("pointer", "pionter", 2));
+
+        // Edits at both ends, and lengths too far apart
+        assertTrue(StringUtil.isWithinEditDistanceIgnoreCase("xnullx", "null", 2));
+        assertFalse(StringUtil.isWithinEditDistanceIgnoreCase("xnullxx", "null", 2));
+        assertTrue(StringUtil.isWithinEditDistanceIgnoreCase("", "ab", 2));
+        assertFalse(StringUtil.isWithinEditDistanceIgnoreCase("abcdef", "ghijkl", 2));
+    }
+
+    //---------------- Tests for containsSimilarWordIgnoreCase --------------------------------------
+
+    @Test
+    public void containsSimilarWordIgnoreCase_multipleWords_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Word parameter should be a single word");
+        StringUtil.containsSimilarWordIgnoreCase("typical sentence", "aaa BBB", 1);
+    }
+
+    @Test
+    public void containsSimilarWordIgnoreCase_validInputs_correctResult() {
+        assertTrue(StringUtil.containsSimilarWordIgnoreCase("Null pointer exception", "EXCEPTON", 1));
+        assertTrue(StringUtil.containsSimilarWordIgnoreCase("  Null   pointer  ", "nul", 1));
+        assertFalse(StringUtil.containsSimilarWordIgnoreCase("Null pointer exception", "pionter", 1));
+        assertFalse(StringUtil.containsSimilarWordIgnoreCase("", "abc", 2));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,104 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.collections.PersistentList;
+import seedu.address.commons.events.model.IssuesChangedEvent;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Issue;
+import seedu.address.model.IssueListDelta;
+import seedu.address.testutil.PersonBuilder;
+
+public class CommandCompleterTest {
+
+    private final CommandCompleter completer = new CommandCompleter(Arrays.asList(ALICE, BENSON));
+
+    @Test
+    public void getCompletions_firstWord_commandWords() {
+        assertCompletions("h", "help", "history");
+        assertCompletions("  fi", "find");
+
+        // command word already complete
+        assertCompletions(FindCommand.COMMAND_WORD);
+
+        // no word being typed
+        assertCompletions("find ");
+        assertCompletions("");
+    }
+
+    @Test
+    public void getCompletions_afterPrefix_tagNamesOrStatementWords() {
+        assertCompletions("find t/", "t/friends", "t/owesMoney");
+        assertCompletions("find t/o", "t/owesMoney");
+        assertCompletions("add i/Me", "i/meier");
+        assertCompletions("find q/PA", "q/pauline");
+
+        // phones and remarks are not completed
+        assertCompletions("add p/9");
+        assertCompletions("add r/1");
+    }
+
+    @Test
+    public void getCompletions_laterWord_prefixesAndStatementWords() {
+        assertCompletions("find i", "i/");
+        assertCompletions("find a", "alice");
+        assertCompletions("find ALICE OR p", "p/", "pauline");
+
+        // statement word already complete
+        assertCompletions("find alice");
+    }
+
+    @Test
+    public void getCompletions_manyMatches_limitedToMaxCompletions() {
+        CommandCompleter completer = new CommandCompleter(Arrays.asList(
+                new PersonBuilder().withName("Ray Rob Roy Rex Ron Rod").build()));
+        List<String> completions = completer.getCompletions("find r");
+        assertEquals(CommandCompleter.MAX_COMPLETIONS, completions.size());
+        assertEquals(Arrays.asList("r/", "ray", "rex", "rob", "rod"), completions);
+    }
+
+    @Test
+    public void handleIssuesChangedEvent_deltas_completionsUpdated() {
+        Issue editedBenson = new PersonBuilder(BENSON).withName("Benson Mayer").withTags("owesMoney").build();
+        postDeltas(IssueListDelta.added(2, CARL), IssueListDelta.removed(0, ALICE),
+                IssueListDelta.updated(0, BENSON, editedBenson));
+
+        assertCompletions("find k", "kurz");
+        assertCompletions("find al");
+        assertCompletions("find m", "mayer");
+        assertCompletions("find t/", "t/owesMoney");
+    }
+
+    @Test
+    public void handleIssuesChangedEvent_replaced_completionsRebuilt() {
+        postDeltas(IssueListDelta.replaced(PersistentList.of(Arrays.asList(ALICE, BENSON)),
+                PersistentList.of(Collections.singletonList(CARL))));
+
+        assertCompletions("find c", "carl");
+        assertCompletions("find b");
+        assertCompletions("find t/");
+
+        // command words are kept
+        assertCompletions("cl", "clear");
+    }
+
+    private void postDeltas(IssueListDelta... deltas) {
+        completer.handleIssuesChangedEvent(new IssuesChangedEvent(Arrays.asList(deltas), 1));
+    }
+
+    /**
+     * Asserts that the completions of {@code textBeforeCaret} are {@code expectedCompletions}, in order.
+     */
+    private void assertCompletions(String textBeforeCaret, String... expectedCompletions) {
+        assertEquals(Arrays.asList(expectedCompletions), completer.getCompletions(textBeforeCaret));
+    }
+}
@@ -7,6 +7,9 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -18,8 +21,15 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Issue;
 import seedu.address.model.Model;
+import seedu.address.model.QueryPlan;
 import seedu.address.model.ReadOnlySaveIt;
 import seedu.address.model.SaveIt;
+import seedu.address.model.issue.IssueHasTagsPredicate;
+import seedu.address.model.issue.NameContainsKeywordsPredicate;
+import seedu.address.model.issue.NameFuzzyMatchesKeywordsPredicate;
+import seedu.address.model.issue.RankedKeywordsPredicate;
+import seedu.address.model.issue.Tag;
+import seedu.address.model.issue.query.Query;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -108,6 +118,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Issue> getPersonById(int id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getFilteredPersonIndex(Issue issue) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Issue target) {
             throw new AssertionError("This method should not be called.");
@@ -128,6 +148,41 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(NameContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(IssueHasTagsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(NameFuzzyMatchesKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonList(RankedKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan updateFilteredPersonList(Query query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateSortedPersonList(Comparator<Issue> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Tag, Integer> getTagCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoSaveIt() {
             throw new AssertionError("This method should not be called.");
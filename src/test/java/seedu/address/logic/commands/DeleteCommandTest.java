@@ -81,6 +81,32 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, commandHistory, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_idOfIssueNotShown_success() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+
+        Issue issueToDelete = model.getSaveIt().getPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        DeleteCommand deleteCommand = new DeleteCommand(IssueTarget.byId(issueToDelete.getId()));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, issueToDelete);
+
+        Model expectedModel = new ModelManager(model.getSaveIt(), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        expectedModel.deletePerson(issueToDelete);
+        expectedModel.commitSaveIt();
+
+        assertCommandSuccess(deleteCommand, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownId_throwsCommandException() {
+        int unknownId = model.getSaveIt().getPersonList().size() + 1;
+        DeleteCommand deleteCommand = new DeleteCommand(IssueTarget.byId(unknownId));
+
+        assertCommandFailure(deleteCommand, model, commandHistory,
+                String.format(Messages.MESSAGE_INVALID_PERSON_ID, unknownId));
+    }
+
     @Test
     public void executeUndoRedo_validIndexUnfilteredList_success() throws Exception {
         Issue issueToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
@@ -15,6 +16,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalSaveIt;
 
+import java.util.Collections;
+
 import org.junit.Test;
 
 import seedu.address.commons.core.Messages;
@@ -91,6 +94,27 @@ public class EditCommandTest {
     public void execute_filteredList_success() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
 
+        Issue issueInFilteredList = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Issue editedIssue = new PersonBuilder(issueInFilteredList).withPhone(VALID_PHONE_BOB).build();
+        EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON,
+                new EditPersonDescriptorBuilder().withPhone(VALID_PHONE_BOB).build());
+
+        String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, editedIssue);
+
+        // the filter is kept, and still matches the edited issue
+        Model expectedModel = new ModelManager(new SaveIt(model.getSaveIt()), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        expectedModel.updatePerson(issueInFilteredList, editedIssue);
+        expectedModel.commitSaveIt();
+
+        assertCommandSuccess(editCommand, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(editedIssue), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_filteredListIssueNoLongerMatches_issueHidden() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+
         Issue issueInFilteredList = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         Issue editedIssue = new PersonBuilder(issueInFilteredList).withName(VALID_NAME_BOB).build();
         EditCommand editCommand = new EditCommand(INDEX_FIRST_PERSON,
@@ -99,10 +123,12 @@ public class EditCommandTest {
         String expectedMessage = String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, editedIssue);
 
         Model expectedModel = new ModelManager(new SaveIt(model.getSaveIt()), new UserPrefs());
-        expectedModel.updatePerson(model.getFilteredPersonList().get(0), editedIssue);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        expectedModel.updatePerson(issueInFilteredList, editedIssue);
         expectedModel.commitSaveIt();
 
         assertCommandSuccess(editCommand, model, commandHistory, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredPersonList().isEmpty());
     }
 
     @Test
@@ -5,7 +5,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalSaveIt;
@@ -19,7 +22,16 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.issue.IssueHasTagsPredicate;
 import seedu.address.model.issue.NameContainsKeywordsPredicate;
+import seedu.address.model.issue.NameFuzzyMatchesKeywordsPredicate;
+import seedu.address.model.issue.RankedKeywordsPredicate;
+import seedu.address.model.issue.Tag;
+import seedu.address.model.issue.query.AndQuery;
+import seedu.address.model.issue.query.NotQuery;
+import seedu.address.model.issue.query.Query;
+import seedu.address.model.issue.query.QueryField;
+import seedu.address.model.issue.query.TermQuery;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -54,6 +66,25 @@ public class FindCommandTest {
 
         // different issue -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // tags instead of keywords -> returns false
+        FindCommand findTagCommand = new FindCommand(
+                new IssueHasTagsPredicate(Collections.singletonList(Collections.singleton(Tag.of("first")))));
+        assertFalse(findFirstCommand.equals(findTagCommand));
+
+        // fuzzy instead of exact keywords -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(
+                new NameFuzzyMatchesKeywordsPredicate(Collections.singletonList("first")))));
+
+        // ranked instead of exact keywords -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(
+                new RankedKeywordsPredicate(Collections.singletonList("first"), 1))));
+
+        // query, with and without explain -> returns false
+        Query query = new TermQuery(QueryField.STATEMENT, Collections.singletonList("first"));
+        assertTrue(new FindCommand(query, true).equals(new FindCommand(query, true)));
+        assertFalse(new FindCommand(query, true).equals(new FindCommand(query, false)));
+        assertFalse(findFirstCommand.equals(new FindCommand(query, false)));
     }
 
     @Test
@@ -76,6 +107,71 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_misspeltKeywords_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameFuzzyMatchesKeywordsPredicate predicate =
+                new NameFuzzyMatchesKeywordsPredicate(Arrays.asList("Kurtz", "Ele", "Kunx"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_rankedKeywords_mostRelevantPersonsFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        RankedKeywordsPredicate predicate = new RankedKeywordsPredicate(Collections.singletonList("Meier"), 2);
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        // the shorter of the two issues containing the keyword is more relevant
+        assertEquals(Arrays.asList(DANIEL, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_singleTag_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        IssueHasTagsPredicate predicate =
+                new IssueHasTagsPredicate(Collections.singletonList(Collections.singleton(Tag.of("friends"))));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagInEachGroup_onePersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        IssueHasTagsPredicate predicate = new IssueHasTagsPredicate(Arrays.asList(
+                Collections.singleton(Tag.of("friends")), Collections.singleton(Tag.of("owesMoney"))));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_query_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        Query query = new AndQuery(Arrays.asList(new TermQuery(QueryField.STATEMENT, Arrays.asList("Meier")),
+                new TermQuery(QueryField.TAG, Arrays.asList("friends"))));
+        FindCommand command = new FindCommand(query, false);
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explainQuery_planReported() {
+        Query query = new NotQuery(new TermQuery(QueryField.TAG, Arrays.asList("friends")));
+        CommandResult result = new FindCommand(query, true).execute(model, commandHistory);
+        String[] lines = result.feedbackToUser.split("\n");
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4), lines[0]);
+        assertEquals("Plan: scan NOT match t/friends (estimated 4 of 7 issues)", lines[1]);
+        assertTrue(lines[2].matches("Planned in [\\d.,]+ ms, executed in [\\d.,]+ ms"));
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -70,6 +70,15 @@ public class SelectCommandTest {
         assertExecutionFailure(outOfBoundsIndex, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_idOfIssueNotShown_failure() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        int hiddenId = model.getSaveIt().getPersonList().get(INDEX_SECOND_PERSON.getZeroBased()).getId();
+
+        assertCommandFailure(new SelectCommand(IssueTarget.byId(hiddenId)), model, commandHistory,
+                String.format(Messages.MESSAGE_PERSON_NOT_DISPLAYED, hiddenId));
+    }
+
     @Test
     public void equals() {
         SelectCommand selectFirstCommand = new SelectCommand(INDEX_FIRST_PERSON);
@@ -81,6 +90,9 @@ public class SelectCommandTest {
         // same values -> returns true
         SelectCommand selectFirstCommandCopy = new SelectCommand(INDEX_FIRST_PERSON);
         assertTrue(selectFirstCommand.equals(selectFirstCommandCopy));
+        assertEquals(IssueTarget.byIndex(INDEX_FIRST_PERSON).hashCode(),
+                IssueTarget.byIndex(INDEX_FIRST_PERSON).hashCode());
+        assertEquals(IssueTarget.byId(1).hashCode(), IssueTarget.byId(1).hashCode());
 
         // different types -> returns false
         assertFalse(selectFirstCommand.equals(1));
@@ -0,0 +1,121 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+import static seedu.address.testutil.TypicalPersons.getTypicalSaveIt;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Issue;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.issue.IssueSortKey;
+import seedu.address.model.issue.NameContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.SaveItBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code SortCommand}.
+ */
+public class SortCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(getTypicalSaveIt(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalSaveIt(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_sortByPhone_sortedNumerically() {
+        expectedModel.updateSortedPersonList(IssueSortKey.PHONE.getComparator());
+        assertCommandSuccess(new SortCommand(IssueSortKey.PHONE), model, commandHistory,
+                String.format(SortCommand.MESSAGE_SUCCESS, "phone"), expectedModel);
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE, BENSON, DANIEL, ALICE, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sortByTag_untaggedIssuesLast() {
+        Issue taggedGeorge = new PersonBuilder(GEORGE).withTags("colleagues").build();
+        model.updatePerson(GEORGE, taggedGeorge);
+        expectedModel.updatePerson(GEORGE, taggedGeorge);
+        expectedModel.updateSortedPersonList(IssueSortKey.TAG.getComparator());
+        assertCommandSuccess(new SortCommand(IssueSortKey.TAG), model, commandHistory,
+                String.format(SortCommand.MESSAGE_SUCCESS, "tag"), expectedModel);
+        assertEquals(Arrays.asList(taggedGeorge, ALICE, BENSON, DANIEL, CARL, ELLE, FIONA),
+                model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagsDifferingInCase_sortedByFirstTagIgnoringCase() {
+        Issue bugAndApi = new PersonBuilder().withName("First").withTags("Bug", "api").build();
+        Issue beta = new PersonBuilder().withName("Second").withTags("beta").build();
+        model = new ModelManager(new SaveItBuilder().withPerson(beta).withPerson(bugAndApi).build(), new UserPrefs());
+
+        new SortCommand(IssueSortKey.TAG).execute(model, commandHistory);
+        assertEquals(Arrays.asList(bugAndApi, beta), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_changesAfterSort_listStaysSorted() {
+        new SortCommand(IssueSortKey.PHONE).execute(model, commandHistory);
+
+        model.addPerson(IDA);
+        assertEquals(IDA, model.getFilteredPersonList().get(0));
+
+        Issue editedCarl = new PersonBuilder(CARL).withPhone("123").build();
+        model.updatePerson(CARL, editedCarl);
+        assertEquals(editedCarl, model.getFilteredPersonList().get(0));
+
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Meier", "Carl")));
+        assertEquals(Arrays.asList(editedCarl, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sortNone_showsIssuesInOrderAdded() {
+        model.updateSortedPersonList(IssueSortKey.PHONE.getComparator());
+        assertCommandSuccess(new SortCommand(IssueSortKey.NONE), model, commandHistory,
+                SortCommand.MESSAGE_UNSORTED, expectedModel);
+        assertEquals(getTypicalPersons(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByPhoneCommand = new SortCommand(IssueSortKey.PHONE);
+        SortCommand sortByTagCommand = new SortCommand(IssueSortKey.TAG);
+
+        // same object -> returns true
+        assertTrue(sortByPhoneCommand.equals(sortByPhoneCommand));
+
+        // same values -> returns true
+        assertTrue(sortByPhoneCommand.equals(new SortCommand(IssueSortKey.PHONE)));
+
+        // different types -> returns false
+        assertFalse(sortByPhoneCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByPhoneCommand.equals(null));
+
+        // different sort key -> returns false
+        assertFalse(sortByPhoneCommand.equals(sortByTagCommand));
+    }
+}
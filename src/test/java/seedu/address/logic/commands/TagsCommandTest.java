@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalSaveIt;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code TagsCommand}.
+ */
+public class TagsCommandTest {
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_noTags_showsNoTagsMessage() {
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        assertCommandSuccess(new TagsCommand(), model, commandHistory, TagsCommand.MESSAGE_NO_TAGS, expectedModel);
+    }
+
+    @Test
+    public void execute_taggedIssues_showsTagCounts() {
+        Model model = new ModelManager(getTypicalSaveIt(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalSaveIt(), new UserPrefs());
+        String expectedMessage = String.format(TagsCommand.MESSAGE_SUCCESS, 2, "[friends] 3\n[owesMoney] 1");
+        assertCommandSuccess(new TagsCommand(), model, commandHistory, expectedMessage, expectedModel);
+    }
+}
@@ -5,11 +5,21 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 
 import org.junit.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.issue.IssueHasTagsPredicate;
 import seedu.address.model.issue.NameContainsKeywordsPredicate;
+import seedu.address.model.issue.NameFuzzyMatchesKeywordsPredicate;
+import seedu.address.model.issue.RankedKeywordsPredicate;
+import seedu.address.model.issue.Tag;
+import seedu.address.model.issue.query.OrQuery;
+import seedu.address.model.issue.query.Query;
+import seedu.address.model.issue.query.QueryField;
+import seedu.address.model.issue.query.TermQuery;
 
 public class FindCommandParserTest {
 
@@ -31,4 +41,79 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameFuzzyMatchesKeywordsPredicate(Arrays.asList("Alcie", "Bob")));
+        assertParseSuccess(parser, " fuzzy \t Alcie  Bob", expectedFindCommand);
+
+        // only the option -> searched as a keyword
+        assertParseSuccess(parser, "fuzzy",
+                new FindCommand(new NameContainsKeywordsPredicate(Collections.singletonList("fuzzy"))));
+    }
+
+    @Test
+    public void parse_topArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new RankedKeywordsPredicate(Arrays.asList("null", "pointer"), 5));
+        assertParseSuccess(parser, " top 5 \t null  pointer", expectedFindCommand);
+
+        // no keywords after the count -> searched as keywords
+        assertParseSuccess(parser, "top 5",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("top", "5"))));
+
+        // count is not a positive integer -> searched as keywords
+        assertParseSuccess(parser, "top 0 null",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("top", "0", "null"))));
+        assertParseSuccess(parser, "top five null",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("top", "five", "null"))));
+    }
+
+    @Test
+    public void parse_validTagArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new IssueHasTagsPredicate(Arrays.asList(
+                new HashSet<>(Arrays.asList(Tag.of("bug"), Tag.of("crash"))),
+                Collections.singleton(Tag.of("java")))));
+        assertParseSuccess(parser, " t/bug crash t/java", expectedFindCommand);
+
+        // multiple whitespaces between tags
+        assertParseSuccess(parser, " t/ bug \t crash  t/java \n", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidTagArgs_throwsParseException() {
+        // keywords and tags
+        assertParseFailure(parser, " Alice t/bug",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // empty tag group
+        assertParseFailure(parser, " t/bug t/",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // invalid tag name
+        assertParseFailure(parser, " t/bug*", Tag.MESSAGE_TAG_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validQueryArgs_returnsFindCommand() {
+        Query query = new OrQuery(Arrays.asList(new TermQuery(QueryField.STATEMENT, Arrays.asList("crash")),
+                new TermQuery(QueryField.TAG, Arrays.asList("bug"))));
+        assertParseSuccess(parser, " q/crash OR t/bug", new FindCommand(query, false));
+        assertParseSuccess(parser, " explain q/ crash OR t/bug ", new FindCommand(query, true));
+    }
+
+    @Test
+    public void parse_invalidQueryArgs_throwsParseException() {
+        // unknown option
+        assertParseFailure(parser, " explian q/crash",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // more than one query
+        assertParseFailure(parser, " q/crash q/bug",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+
+        // invalid query
+        assertParseFailure(parser, " q/(crash", QueryParser.MESSAGE_UNCLOSED_PARENTHESIS);
+    }
+
 }
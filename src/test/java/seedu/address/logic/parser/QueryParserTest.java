@@ -0,0 +1,97 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.issue.Tag;
+import seedu.address.model.issue.query.AndQuery;
+import seedu.address.model.issue.query.NotQuery;
+import seedu.address.model.issue.query.OrQuery;
+import seedu.address.model.issue.query.Query;
+import seedu.address.model.issue.query.QueryField;
+import seedu.address.model.issue.query.TermQuery;
+
+public class QueryParserTest {
+
+    private static final Query CRASH = term(QueryField.STATEMENT, "crash");
+    private static final Query DISK = term(QueryField.STATEMENT, "disk");
+    private static final Query BUG = term(QueryField.TAG, "bug");
+
+    @Test
+    public void parseQuery_singleWord_statementTerm() throws Exception {
+        assertEquals(CRASH, QueryParser.parseQuery("  crash "));
+    }
+
+    @Test
+    public void parseQuery_adjacentTerms_implicitAnd() throws Exception {
+        Query expected = new AndQuery(Arrays.asList(CRASH, DISK, BUG));
+        assertEquals(expected, QueryParser.parseQuery("crash disk t/bug"));
+        assertEquals(expected, QueryParser.parseQuery("crash AND disk AND t/bug"));
+    }
+
+    @Test
+    public void parseQuery_andOr_andBindsTighter() throws Exception {
+        Query expected = new OrQuery(Arrays.asList(new AndQuery(Arrays.asList(CRASH, DISK)), BUG));
+        assertEquals(expected, QueryParser.parseQuery("crash disk OR t/bug"));
+
+        expected = new AndQuery(Arrays.asList(CRASH, new OrQuery(Arrays.asList(DISK, BUG))));
+        assertEquals(expected, QueryParser.parseQuery("crash (disk OR t/bug)"));
+    }
+
+    @Test
+    public void parseQuery_not_negatesNextTerm() throws Exception {
+        Query expected = new AndQuery(Arrays.asList(new NotQuery(CRASH), DISK));
+        assertEquals(expected, QueryParser.parseQuery("NOT crash disk"));
+        assertEquals(new NotQuery(new NotQuery(CRASH)), QueryParser.parseQuery("NOT NOT crash"));
+    }
+
+    @Test
+    public void parseQuery_lowerCaseOperators_searchedAsWords() throws Exception {
+        Query expected = new AndQuery(Arrays.asList(CRASH, term(QueryField.STATEMENT, "or"), DISK));
+        assertEquals(expected, QueryParser.parseQuery("crash or disk"));
+    }
+
+    @Test
+    public void parseQuery_prefixesAndPhrases_fieldTerms() throws Exception {
+        Query expected = new AndQuery(Arrays.asList(term(QueryField.STATEMENT, "null", "pointer"),
+                term(QueryField.REMARK, "(see", "log)"), term(QueryField.PHONE, "9123")));
+        assertEquals(expected, QueryParser.parseQuery("i/\"null  pointer\" r/\" (see log) \" p/9123"));
+    }
+
+    @Test
+    public void parseQuery_invalidQuery_throwsParseException() {
+        assertParseFailure("  ", QueryParser.MESSAGE_EMPTY_QUERY);
+        assertParseFailure("crash OR", String.format(QueryParser.MESSAGE_MISSING_OPERAND, "OR"));
+        assertParseFailure("crash AND )", String.format(QueryParser.MESSAGE_MISSING_OPERAND, "AND"));
+        assertParseFailure("NOT", String.format(QueryParser.MESSAGE_MISSING_OPERAND, "NOT"));
+        assertParseFailure("OR crash", String.format(QueryParser.MESSAGE_UNEXPECTED_TOKEN, "OR"));
+        assertParseFailure("crash)", String.format(QueryParser.MESSAGE_UNEXPECTED_TOKEN, ")"));
+        assertParseFailure("(crash", QueryParser.MESSAGE_UNCLOSED_PARENTHESIS);
+        assertParseFailure("\"disk full", QueryParser.MESSAGE_UNCLOSED_PHRASE);
+        assertParseFailure("\" \"", QueryParser.MESSAGE_EMPTY_PHRASE);
+        assertParseFailure("i/", String.format(QueryParser.MESSAGE_MISSING_OPERAND, "i/"));
+        assertParseFailure("t/\"bug crash\"", QueryParser.MESSAGE_PHRASE_NOT_ALLOWED);
+        assertParseFailure("t/bug*", Tag.MESSAGE_TAG_CONSTRAINTS);
+        assertParseFailure("p/91a", QueryParser.MESSAGE_INVALID_PHONE);
+    }
+
+    private static TermQuery term(QueryField field, String... words) {
+        return new TermQuery(field, Arrays.asList(words));
+    }
+
+    /**
+     * Asserts that parsing {@code query} fails with {@code expectedMessage}.
+     */
+    private static void assertParseFailure(String query, String expectedMessage) {
+        try {
+            QueryParser.parseQuery(query);
+            throw new AssertionError("The expected ParseException was not thrown.");
+        } catch (ParseException pe) {
+            assertEquals(expectedMessage, pe.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.issue.IssueSortKey;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, "statement", new SortCommand(IssueSortKey.STATEMENT));
+        assertParseSuccess(parser, " PHONE ", new SortCommand(IssueSortKey.PHONE));
+        assertParseSuccess(parser, "tag", new SortCommand(IssueSortKey.TAG));
+        assertParseSuccess(parser, "none", new SortCommand(IssueSortKey.NONE));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "remark", expectedMessage);
+        assertParseFailure(parser, "statement phone", expectedMessage);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class FuzzyWordIndexTest {
+
+    private final FuzzyWordIndex index = new FuzzyWordIndex();
+
+    @Before
+    public void setUp() {
+        Arrays.asList("null", "pointer", "exception", "exceptions", "nil", "a", "to").forEach(index::add);
+    }
+
+    @Test
+    public void findWordsWithin_longWord_findsWordsWithinDistance() {
+        assertWords(Arrays.asList("exception", "exceptions"), index.findWordsWithin("excepton", 2));
+        assertWords(Collections.singletonList("exception"), index.findWordsWithin("excepton", 1));
+        assertWords(Collections.singletonList("pointer"), index.findWordsWithin("pionter", 2));
+        assertWords(Collections.emptyList(), index.findWordsWithin("pionter", 1));
+    }
+
+    @Test
+    public void findWordsWithin_shortWord_findsWordsOfCloseLength() {
+        // too short for shared bigrams to rule out any word
+        assertWords(Arrays.asList("null", "nil"), index.findWordsWithin("nul", 1));
+        assertWords(Arrays.asList("a", "to"), index.findWordsWithin("o", 1));
+        assertWords(Collections.singletonList("a"), index.findWordsWithin("a", 0));
+    }
+
+    @Test
+    public void remove_removedWord_notFound() {
+        index.remove("exceptions");
+        index.remove("notInIndex");
+        assertWords(Collections.singletonList("exception"), index.findWordsWithin("excepton", 2));
+
+        index.clear();
+        assertWords(Collections.emptyList(), index.findWordsWithin("excepton", 2));
+    }
+
+    private static void assertWords(List<String> expected, List<String> actual) {
+        assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+        assertEquals(expected.size(), actual.size());
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.core.collections.PersistentList;
+import seedu.address.testutil.PersonBuilder;
+
+public class IssueListDeltaTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void added_nullIssue_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        IssueListDelta.added(0, null);
+    }
+
+    @Test
+    public void invert() {
+        assertEquals(IssueListDelta.removed(1, ALICE), IssueListDelta.added(1, ALICE).invert());
+        assertEquals(IssueListDelta.added(1, ALICE), IssueListDelta.removed(1, ALICE).invert());
+        assertEquals(IssueListDelta.updated(2, BOB, ALICE), IssueListDelta.updated(2, ALICE, BOB).invert());
+
+        PersistentList<Issue> oldIssues = PersistentList.of(Collections.singletonList(ALICE));
+        PersistentList<Issue> newIssues = PersistentList.of(Arrays.asList(ALICE, BOB));
+        assertEquals(IssueListDelta.replaced(newIssues, oldIssues),
+                IssueListDelta.replaced(oldIssues, newIssues).invert());
+    }
+
+    @Test
+    public void invert_twice_returnsEqualDelta() {
+        IssueListDelta delta = IssueListDelta.updated(3, ALICE, BOB);
+        assertEquals(delta, delta.invert().invert());
+    }
+
+    @Test
+    public void equals() {
+        IssueListDelta delta = IssueListDelta.added(0, ALICE);
+
+        // same values -> returns true
+        assertTrue(delta.equals(IssueListDelta.added(0, ALICE)));
+
+        // same object -> returns true
+        assertTrue(delta.equals(delta));
+
+        // null -> returns false
+        assertFalse(delta.equals(null));
+
+        // different type -> returns false
+        assertFalse(delta.equals(IssueListDelta.removed(0, ALICE)));
+
+        // different index -> returns false
+        assertFalse(delta.equals(IssueListDelta.added(1, ALICE)));
+
+        // different issue -> returns false
+        assertFalse(delta.equals(IssueListDelta.added(0, BOB)));
+    }
+
+    @Test
+    public void writeTo_readFrom_returnsEqualDeltaWithSameIds() throws Exception {
+        Issue issue = new PersonBuilder(ALICE).withId(42).build();
+        PersistentList<Issue> oldIssues = PersistentList.of(Collections.singletonList(issue));
+        PersistentList<Issue> newIssues = PersistentList.of(Arrays.asList(issue, BOB));
+        for (IssueListDelta delta : Arrays.asList(IssueListDelta.added(0, issue), IssueListDelta.removed(1, issue),
+                IssueListDelta.updated(2, BOB, issue), IssueListDelta.replaced(oldIssues, newIssues))) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            delta.writeTo(new DataOutputStream(bytes));
+            IssueListDelta readBack = IssueListDelta.readFrom(
+                    new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+            assertEquals(delta, readBack);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        IssueListDelta.added(0, issue).writeTo(new DataOutputStream(bytes));
+        Issue readBack = IssueListDelta.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+                .getNewIssue();
+        assertEquals(42, readBack.getId());
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.collections.PersistentList;
+import seedu.address.testutil.PersonBuilder;
+
+public class IssueRankerTest {
+
+    private static final Issue NULL_TWICE = new PersonBuilder().withName("Crash on null pointer")
+            .withAddress("null check missing").build();
+    private static final Issue NULL_ONCE = new PersonBuilder().withName("Null pointer in parser")
+            .withAddress("stack trace").build();
+    private static final Issue TAGGED_JAVA = new PersonBuilder().withName("Slow startup")
+            .withAddress("profile it").withTags("java").build();
+
+    private final IssueRanker ranker = new IssueRanker(Arrays.asList(NULL_ONCE, TAGGED_JAVA, NULL_TWICE));
+
+    @Test
+    public void findMostRelevant_keywordInSeveralIssues_rankedByFrequency() {
+        Map<Issue, Double> scores = ranker.findMostRelevant(Collections.singletonList("NULL"), 3);
+        assertEquals(Arrays.asList(NULL_TWICE, NULL_ONCE), new ArrayList<>(scores.keySet()));
+        assertTrue(scores.get(NULL_TWICE) > scores.get(NULL_ONCE));
+        assertTrue(scores.get(NULL_ONCE) > 0);
+    }
+
+    @Test
+    public void findMostRelevant_limitReached_onlyMostRelevantKept() {
+        Map<Issue, Double> scores = ranker.findMostRelevant(Collections.singletonList("null"), 1);
+        assertEquals(Collections.singletonList(NULL_TWICE), new ArrayList<>(scores.keySet()));
+    }
+
+    @Test
+    public void findMostRelevant_rareKeyword_weighsMore() {
+        // "parser" occurs in one issue, while "null" occurs in two
+        Map<Issue, Double> scores = ranker.findMostRelevant(Arrays.asList("null", "parser"), 3);
+        assertEquals(Arrays.asList(NULL_ONCE, NULL_TWICE), new ArrayList<>(scores.keySet()));
+    }
+
+    @Test
+    public void findMostRelevant_tagName_matchesTaggedIssues() {
+        Map<Issue, Double> scores = ranker.findMostRelevant(Collections.singletonList("Java"), 3);
+        assertEquals(Collections.singletonList(TAGGED_JAVA), new ArrayList<>(scores.keySet()));
+    }
+
+    @Test
+    public void findMostRelevant_equalScores_orderedByStatement() {
+        Issue alpha = new PersonBuilder().withName("Alpha bug").withAddress("seen today").build();
+        Issue beta = new PersonBuilder().withName("Beta bug").withAddress("seen today").build();
+        IssueRanker tiedRanker = new IssueRanker(Arrays.asList(beta, alpha));
+        assertEquals(Arrays.asList(alpha, beta),
+                new ArrayList<>(tiedRanker.findMostRelevant(Collections.singletonList("bug"), 2).keySet()));
+        assertEquals(Collections.singletonList(alpha),
+                new ArrayList<>(tiedRanker.findMostRelevant(Collections.singletonList("bug"), 1).keySet()));
+    }
+
+    @Test
+    public void findMostRelevant_noMatches_emptyResult() {
+        assertTrue(ranker.findMostRelevant(Collections.singletonList("absent"), 3).isEmpty());
+    }
+
+    @Test
+    public void applyDelta_changesMade_statisticsUpToDate() {
+        List<String> keywords = Collections.singletonList("null");
+        ranker.applyDelta(IssueListDelta.removed(2, NULL_TWICE));
+        assertEquals(Collections.singletonList(NULL_ONCE),
+                new ArrayList<>(ranker.findMostRelevant(keywords, 3).keySet()));
+
+        Issue editedJava = new PersonBuilder(TAGGED_JAVA).withName("Slow startup after null check").build();
+        ranker.applyDelta(IssueListDelta.updated(1, TAGGED_JAVA, editedJava));
+        assertEquals(2, ranker.findMostRelevant(keywords, 3).size());
+
+        ranker.applyDelta(IssueListDelta.replaced(PersistentList.of(Arrays.asList(NULL_ONCE, editedJava)),
+                PersistentList.of(Collections.singletonList(NULL_TWICE))));
+        assertEquals(Collections.singletonList(NULL_TWICE),
+                new ArrayList<>(ranker.findMostRelevant(keywords, 3).keySet()));
+    }
+
+    @Test
+    public void score_issueInIndex_sameAsRankedScore() {
+        List<String> keywords = Arrays.asList("null", "pointer");
+        Map<Issue, Double> scores = ranker.findMostRelevant(keywords, 3);
+        assertEquals(scores.get(NULL_ONCE), ranker.score(NULL_ONCE, keywords), 1e-9);
+        assertEquals(0, ranker.score(TAGGED_JAVA, keywords), 0);
+    }
+}
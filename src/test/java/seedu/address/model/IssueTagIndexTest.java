@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.collections.PersistentList;
+import seedu.address.model.issue.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class IssueTagIndexTest {
+
+    private static final Tag FRIENDS = Tag.of("friends");
+    private static final Tag OWES_MONEY = Tag.of("owesMoney");
+
+    private final IssueTagIndex index = new IssueTagIndex();
+
+    @Test
+    public void hasTags_tagGroups_matchesIssuesWithTagFromEachGroup() {
+        index.applyDelta(IssueListDelta.replaced(PersistentList.empty(),
+                PersistentList.of(Arrays.asList(ALICE, BENSON, CARL))));
+
+        Predicate<Issue> predicate = index.hasTags(Arrays.asList(Collections.singleton(FRIENDS),
+                Collections.singleton(OWES_MONEY)));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(ALICE));
+        assertFalse(predicate.test(CARL));
+
+        predicate = index.hasTags(Collections.singletonList(Collections.singleton(FRIENDS)));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(CARL));
+    }
+
+    @Test
+    public void findIssues_tagGroups_returnsIssuesWithTagFromEachGroup() {
+        index.applyDelta(IssueListDelta.replaced(PersistentList.empty(),
+                PersistentList.of(Arrays.asList(ALICE, BENSON, CARL))));
+
+        Set<Issue> matches = index.findIssues(Arrays.asList(new HashSet<>(Arrays.asList(FRIENDS, OWES_MONEY)),
+                Collections.singleton(FRIENDS)));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), new HashSet<>(matches));
+
+        matches = index.findIssues(Collections.singletonList(Collections.singleton(Tag.of("unknown"))));
+        assertTrue(matches.isEmpty());
+    }
+
+    @Test
+    public void applyDelta_changesMade_predicateAndCountsUpToDate() {
+        Predicate<Issue> predicate = index.hasTags(Collections.singletonList(Collections.singleton(OWES_MONEY)));
+
+        index.applyDelta(IssueListDelta.added(0, ALICE));
+        index.applyDelta(IssueListDelta.added(1, BENSON));
+        assertTrue(predicate.test(BENSON));
+
+        Issue editedBenson = new PersonBuilder(BENSON).withTags("friends").build();
+        index.applyDelta(IssueListDelta.updated(1, BENSON, editedBenson));
+        assertFalse(predicate.test(editedBenson));
+
+        Map<Tag, Integer> expectedCounts = new LinkedHashMap<>();
+        expectedCounts.put(FRIENDS, 2);
+        assertEquals(expectedCounts, index.getTagCounts());
+
+        index.applyDelta(IssueListDelta.removed(0, ALICE));
+        expectedCounts.put(FRIENDS, 1);
+        assertEquals(expectedCounts, index.getTagCounts());
+    }
+
+    @Test
+    public void getTagCounts_multipleTags_sortedByTagName() {
+        index.applyDelta(IssueListDelta.added(0, new PersonBuilder().withTags("zebra", "apple").build()));
+        assertEquals(Arrays.asList(Tag.of("apple"), Tag.of("zebra")),
+                Arrays.asList(index.getTagCounts().keySet().toArray()));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -9,10 +10,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.function.Predicate;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.issue.Tag;
+import seedu.address.model.issue.TagSet;
+import seedu.address.testutil.FootprintEstimator;
 import seedu.address.testutil.PersonBuilder;
 
 public class IssueTest {
@@ -53,6 +59,7 @@ public class IssueTest {
         // same values -> returns true
         Issue aliceCopy = new PersonBuilder(ALICE).build();
         assertTrue(ALICE.equals(aliceCopy));
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
 
         // same object -> returns true
         assertTrue(ALICE.equals(ALICE));
@@ -82,4 +89,20 @@ public class IssueTest {
         editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
         assertFalse(ALICE.equals(editedAlice));
     }
+
+    @Test
+    public void footprint_shortFields_sharesTags() {
+        // tags are interned, and sets of a single tag are shared between issues
+        Predicate<Object> isShared = object -> object instanceof Tag
+                || (object instanceof TagSet && ((TagSet) object).size() == 1);
+
+        // issue (40) + 3 fields (16 each) + 3 strings of up to 8 characters (48 each)
+        Issue issue = new PersonBuilder().withName("Amy").withPhone("123").withAddress("Home").withTags("friends")
+                .build();
+        assertEquals(232, FootprintEstimator.estimate(issue, isShared));
+
+        // + tag set (24) + array of 2 tag ids (24)
+        issue = new PersonBuilder(issue).withTags("friends", "owesMoney").build();
+        assertEquals(280, FootprintEstimator.estimate(issue, isShared));
+    }
 }
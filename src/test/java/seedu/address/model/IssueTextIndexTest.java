@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.collections.PersistentList;
+import seedu.address.testutil.PersonBuilder;
+
+public class IssueTextIndexTest {
+
+    private final IssueTextIndex index = new IssueTextIndex(Arrays.asList(ALICE, BENSON));
+
+    @Test
+    public void containsAnyWord_statementWords_matchesIgnoringCase() {
+        Predicate<Issue> predicate = index.containsAnyWord(IssueTextIndex.Field.STATEMENT, Arrays.asList("mEIEr"));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(ALICE));
+
+        predicate = index.containsAnyWord(IssueTextIndex.Field.STATEMENT, Arrays.asList("alice", "benson"));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+    }
+
+    @Test
+    public void containsAnyWord_partialWord_noMatch() {
+        Predicate<Issue> predicate = index.containsAnyWord(IssueTextIndex.Field.STATEMENT, Arrays.asList("Ali"));
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void containsAnyWord_remarkWords_matchesOnlyRemarks() {
+        Predicate<Issue> predicate = index.containsAnyWord(IssueTextIndex.Field.REMARK, Arrays.asList("clementi"));
+        assertTrue(predicate.test(BENSON));
+
+        predicate = index.containsAnyWord(IssueTextIndex.Field.REMARK, Arrays.asList("Benson"));
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void containsAnyWord_equalIssueNotInIndex_noMatch() {
+        Issue aliceCopy = new PersonBuilder(ALICE).build();
+        Predicate<Issue> predicate = index.containsAnyWord(IssueTextIndex.Field.STATEMENT, Arrays.asList("Alice"));
+        assertFalse(predicate.test(aliceCopy));
+    }
+
+    @Test
+    public void applyDelta_changesMade_predicateUpToDate() {
+        Predicate<Issue> predicate = index.containsAnyWord(IssueTextIndex.Field.STATEMENT, Arrays.asList("Meier"));
+
+        index.applyDelta(IssueListDelta.added(2, DANIEL));
+        assertTrue(predicate.test(DANIEL));
+
+        Issue editedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        index.applyDelta(IssueListDelta.updated(1, BENSON, editedBenson));
+        assertFalse(predicate.test(BENSON));
+        assertFalse(predicate.test(editedBenson));
+
+        index.applyDelta(IssueListDelta.removed(2, DANIEL));
+        assertFalse(predicate.test(DANIEL));
+
+        index.applyDelta(IssueListDelta.replaced(PersistentList.of(Arrays.asList(ALICE, editedBenson)),
+                PersistentList.of(Collections.singletonList(DANIEL))));
+        assertTrue(predicate.test(DANIEL));
+        assertFalse(index.containsAnyWord(IssueTextIndex.Field.STATEMENT, Arrays.asList("Alice")).test(ALICE));
+    }
+
+    @Test
+    public void containsAnySimilarStatementWord_typos_matchesWithinDistance() {
+        Predicate<Issue> predicate = index.containsAnySimilarStatementWord(Arrays.asList("PAULNE", "Bensen"),
+                unused -> 1);
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+
+        predicate = index.containsAnySimilarStatementWord(Arrays.asList("Maier"), unused -> 0);
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void applyDelta_changesMade_similarWordPredicateUpToDate() {
+        Predicate<Issue> predicate = index.containsAnySimilarStatementWord(Arrays.asList("Tann"), unused -> 1);
+        assertFalse(predicate.test(BENSON));
+
+        Issue editedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        index.applyDelta(IssueListDelta.updated(1, BENSON, editedBenson));
+        assertTrue(predicate.test(editedBenson));
+
+        index.applyDelta(IssueListDelta.removed(1, editedBenson));
+        assertFalse(predicate.test(editedBenson));
+    }
+}
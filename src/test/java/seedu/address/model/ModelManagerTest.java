@@ -1,25 +1,39 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.IssuesChangedEvent;
+import seedu.address.model.issue.IssueHasTagsPredicate;
 import seedu.address.model.issue.NameContainsKeywordsPredicate;
+import seedu.address.model.issue.RankedKeywordsPredicate;
+import seedu.address.model.issue.Tag;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.SaveItBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -45,6 +59,156 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void addPerson_issuesChangedEventRaised() {
+        modelManager.addPerson(ALICE);
+
+        IssuesChangedEvent event = (IssuesChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Collections.singletonList(IssueListDelta.added(0, ALICE)), event.deltas);
+        assertEquals(1, event.version);
+    }
+
+    @Test
+    public void undoSaveIt_issuesChangedEventWithUndoneChangesRaised() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitSaveIt();
+        modelManager.undoSaveIt();
+
+        IssuesChangedEvent event = (IssuesChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Arrays.asList(IssueListDelta.removed(1, BENSON), IssueListDelta.removed(0, ALICE)),
+                event.deltas);
+        assertEquals(3, event.version);
+    }
+
+    @Test
+    public void updateFilteredPersonList_predicate_editedIssuesTestedWithPredicate() {
+        modelManager = new ModelManager(new SaveItBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonList(issue -> issue.getTags().size() == 1);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+
+        Issue editedBenson = new PersonBuilder(BENSON).withTags("friends").build();
+        modelManager.updatePerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredPersonList());
+
+        Issue editedAlice = new PersonBuilder(ALICE).withTags().build();
+        modelManager.updatePerson(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getPersonById_issueEditedAndUndone_sameIdKept() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitSaveIt();
+        int bensonId = modelManager.getFilteredPersonList().get(1).getId();
+
+        Issue editedBenson = new PersonBuilder(BENSON).withTags().build();
+        modelManager.updatePerson(BENSON, editedBenson);
+        modelManager.commitSaveIt();
+        assertEquals(Optional.of(editedBenson), modelManager.getPersonById(bensonId));
+
+        modelManager.deletePerson(editedBenson);
+        modelManager.commitSaveIt();
+        assertFalse(modelManager.getPersonById(bensonId).isPresent());
+
+        modelManager.undoSaveIt();
+        modelManager.undoSaveIt();
+        assertEquals(Optional.of(BENSON), modelManager.getPersonById(bensonId));
+    }
+
+    @Test
+    public void getFilteredPersonIndex_sortedFilteredList_indexOfShownIssue() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(CARL);
+        modelManager.updateSortedPersonList(Comparator.comparing(issue -> issue.getStatement().issue));
+        modelManager.updateFilteredPersonList(issue -> !issue.equals(ALICE));
+
+        assertEquals(0, modelManager.getFilteredPersonIndex(BENSON));
+        assertEquals(1, modelManager.getFilteredPersonIndex(CARL));
+        assertEquals(-1, modelManager.getFilteredPersonIndex(ALICE));
+        assertEquals(-1, modelManager.getFilteredPersonIndex(new PersonBuilder().withName("Not Added").build()));
+    }
+
+    @Test
+    public void addPerson_filteredList_filterKept() {
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Collections.singletonList("Alice")));
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        modelManager.addPerson(ALICE);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(CARL);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_rankedKeywords_mostRelevantShownFirst() {
+        Issue nullTwice = new PersonBuilder().withName("Crash on null").withAddress("null check").build();
+        Issue nullOnce = new PersonBuilder().withName("Null pointer in parser").withAddress("stack trace").build();
+        modelManager.addPerson(nullOnce);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(nullTwice);
+        modelManager.updateSortedPersonList(Comparator.comparing(issue -> issue.getStatement().issue));
+
+        modelManager.updateFilteredPersonList(new RankedKeywordsPredicate(Collections.singletonList("null"), 1));
+        assertEquals(Collections.singletonList(nullTwice), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new RankedKeywordsPredicate(Collections.singletonList("null"), 5));
+        assertEquals(Arrays.asList(nullTwice, nullOnce), modelManager.getFilteredPersonList());
+
+        // an issue that matches after being added is ranked among the others
+        Issue nullInPassing = new PersonBuilder().withName("Docs mention null once in a long statement")
+                .withAddress("nothing else to add here").build();
+        modelManager.addPerson(nullInPassing);
+        assertEquals(Arrays.asList(nullTwice, nullOnce, nullInPassing), modelManager.getFilteredPersonList());
+
+        // the sort order is restored by the next filter
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, nullTwice, nullInPassing, nullOnce), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addPerson_rankedKeywords_mostRelevantStillShown() {
+        Issue nullOnce = new PersonBuilder().withName("Null pointer in parser").withAddress("stack trace").build();
+        modelManager.addPerson(nullOnce);
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new RankedKeywordsPredicate(Collections.singletonList("null"), 1));
+        assertEquals(Collections.singletonList(nullOnce), modelManager.getFilteredPersonList());
+
+        // a more relevant issue takes the place of the least relevant one shown
+        Issue nullTwice = new PersonBuilder().withName("Crash on null").withAddress("null check").build();
+        modelManager.addPerson(nullTwice);
+        assertEquals(Collections.singletonList(nullTwice), modelManager.getFilteredPersonList());
+
+        // a less relevant issue is not shown, although it matches
+        Issue nullInPassing = new PersonBuilder().withName("Docs mention null once in a long statement")
+                .withAddress("nothing else to add here").build();
+        modelManager.addPerson(nullInPassing);
+        assertEquals(Collections.singletonList(nullTwice), modelManager.getFilteredPersonList());
+
+        // an issue that no longer matches after being edited gives its place to the next most relevant
+        modelManager.updatePerson(nullTwice, new PersonBuilder(nullTwice).withName("Crash").withAddress("check")
+                .build());
+        assertEquals(Collections.singletonList(nullOnce), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updatePerson_tagFilter_editedIssueTestedAgainstFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new IssueHasTagsPredicate(
+                Collections.singletonList(Collections.singleton(Tag.of("owesMoney")))));
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+
+        Issue editedAlice = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        modelManager.updatePerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         SaveIt saveIt = new SaveItBuilder().withPerson(ALICE).withPerson(BENSON).build();
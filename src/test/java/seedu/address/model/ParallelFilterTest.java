@@ -0,0 +1,75 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.collections.PersistentList;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelFilterTest {
+
+    private final ParallelFilter parallelFilter = new ParallelFilter(new ForkJoinPool(4));
+
+    @Test
+    public void filter_smallSnapshot_matchingIssues() {
+        assertFilterMatches(buildIssues(ParallelFilter.PARALLEL_THRESHOLD - 1), ParallelFilterTest::isEven);
+    }
+
+    @Test
+    public void filter_largeSnapshot_matchingIssues() {
+        PersistentList<Issue> issues = buildIssues(ParallelFilter.PARALLEL_THRESHOLD * 3 + 7);
+        assertFilterMatches(issues, ParallelFilterTest::isEven);
+        assertFilterMatches(issues, issue -> false);
+        assertFilterMatches(issues, issue -> true);
+    }
+
+    @Test
+    public void filter_largeSnapshot_scanFinishedBeforeReturning() {
+        PersistentList<Issue> issues = buildIssues(ParallelFilter.PARALLEL_THRESHOLD * 2);
+        Set<Issue> tested = Collections.synchronizedSet(toIdentitySet(new ArrayList<>()));
+        Set<Issue> matches = parallelFilter.filter(issues, issue -> tested.add(issue));
+        assertEquals(issues.size(), tested.size());
+        assertEquals(toIdentitySet(issues.asList()), matches);
+    }
+
+    /**
+     * Asserts that filtering {@code issues} with {@code predicate} finds the same issues as testing each in turn.
+     */
+    private void assertFilterMatches(PersistentList<Issue> issues, Predicate<Issue> predicate) {
+        List<Issue> expected = new ArrayList<>();
+        for (Issue issue : issues) {
+            if (predicate.test(issue)) {
+                expected.add(issue);
+            }
+        }
+        assertEquals(toIdentitySet(expected), parallelFilter.filter(issues, predicate));
+    }
+
+    private static boolean isEven(Issue issue) {
+        String statement = issue.getStatement().issue;
+        return Character.getNumericValue(statement.charAt(statement.length() - 1)) % 2 == 0;
+    }
+
+    private static Set<Issue> toIdentitySet(List<Issue> issues) {
+        Set<Issue> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(issues);
+        return set;
+    }
+
+    private static PersistentList<Issue> buildIssues(int count) {
+        List<Issue> issues = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            issues.add(new PersonBuilder().withName("Issue " + i).withPhone(String.valueOf(10000000 + i)).build());
+        }
+        return PersistentList.of(issues);
+    }
+}
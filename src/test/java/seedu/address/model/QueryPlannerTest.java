@@ -0,0 +1,114 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalSaveIt;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.issue.query.AndQuery;
+import seedu.address.model.issue.query.NotQuery;
+import seedu.address.model.issue.query.Query;
+import seedu.address.model.issue.query.QueryField;
+import seedu.address.model.issue.query.TermQuery;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryPlannerTest {
+
+    private SaveIt saveIt;
+    private QueryPlanner planner;
+
+    @Before
+    public void setUp() {
+        saveIt = getTypicalSaveIt();
+        IssueTextIndex textIndex = new IssueTextIndex(saveIt.getPersonList());
+        planner = new QueryPlanner(textIndex, saveIt);
+        saveIt.addPersonDeltaListener(textIndex::applyDelta);
+        saveIt.addPersonDeltaListener(planner::applyDelta);
+    }
+
+    @Test
+    public void plan_commonWord_scansWithIndexProbes() {
+        QueryPlanner.Plan plan = planner.plan(term(QueryField.STATEMENT, "Meier"));
+        assertEquals("scan probe i/Meier (estimated 2 of 7 issues)", plan.getDescription());
+        assertEquals(Arrays.asList(BENSON, DANIEL), filter(plan.getPredicate()));
+    }
+
+    @Test
+    public void plan_rarePhrase_looksUpIndex() {
+        QueryPlanner.Plan plan = planner.plan(term(QueryField.STATEMENT, "alice", "PAULINE"));
+        assertTrue(plan.getDescription().startsWith("index lookup i/alice then match i/\"alice PAULINE\""));
+        assertEquals(Arrays.asList(ALICE), filter(plan.getPredicate()));
+    }
+
+    @Test
+    public void plan_phone_scans() {
+        QueryPlanner.Plan plan = planner.plan(term(QueryField.PHONE, "9482"));
+        assertTrue(plan.getDescription().startsWith("scan match p/9482"));
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), filter(plan.getPredicate()));
+    }
+
+    @Test
+    public void plan_conjunctionWithRarePhrase_drivenByPhrase() {
+        Query query = new AndQuery(Arrays.asList(term(QueryField.PHONE, "853"),
+                term(QueryField.STATEMENT, "Benson", "Meier")));
+        QueryPlanner.Plan plan = planner.plan(query);
+        assertTrue(plan.getDescription().startsWith(
+                "index lookup i/Benson then match i/\"Benson Meier\" filtered by match p/853"));
+        assertEquals(Arrays.asList(BENSON), filter(plan.getPredicate()));
+    }
+
+    @Test
+    public void plan_negation_scans() {
+        QueryPlanner.Plan plan = planner.plan(new NotQuery(term(QueryField.TAG, "friends")));
+        assertTrue(plan.getDescription().startsWith("scan NOT match t/friends"));
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA, GEORGE), filter(plan.getPredicate()));
+    }
+
+    @Test
+    public void plan_issuesChangedAfterPlanning_predicateUpToDate() {
+        Predicate<Issue> phrasePredicate = planner.plan(term(QueryField.STATEMENT, "Alice", "Pauline")).getPredicate();
+        Predicate<Issue> wordPredicate = planner.plan(term(QueryField.STATEMENT, "Junior")).getPredicate();
+        // the issue list holds copies of the typical issues, which are given ids as they are added
+        Issue alice = saveIt.getPersonList().get(0);
+        assertTrue(phrasePredicate.test(alice));
+
+        // an issue with an id that is not in use is added as it is
+        Issue junior = new PersonBuilder().withId(100).withName("Alice Pauline Junior").withPhone("123").build();
+        saveIt.addPerson(junior);
+        saveIt.removePerson(alice);
+        assertTrue(phrasePredicate.test(junior));
+        assertFalse(phrasePredicate.test(alice));
+        assertTrue(wordPredicate.test(junior));
+    }
+
+    @Test
+    public void plan_emptySaveIt_scans() {
+        SaveIt emptySaveIt = new SaveIt();
+        QueryPlanner emptyPlanner = new QueryPlanner(new IssueTextIndex(emptySaveIt.getPersonList()), emptySaveIt);
+        QueryPlanner.Plan plan = emptyPlanner.plan(term(QueryField.STATEMENT, "Alice", "Pauline"));
+        assertEquals("scan match i/\"Alice Pauline\" (estimated 0 of 0 issues)", plan.getDescription());
+    }
+
+    private static TermQuery term(QueryField field, String... words) {
+        return new TermQuery(field, Arrays.asList(words));
+    }
+
+    private List<Issue> filter(Predicate<Issue> predicate) {
+        return saveIt.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+    }
+}
@@ -90,6 +90,25 @@ public class SaveItTest {
         saveIt.getPersonList().remove(0);
     }
 
+    @Test
+    public void toString_countsIssuesAndTags() {
+        assertEquals("0 issues, 0 tags", saveIt.toString());
+        saveIt.addPerson(ALICE);
+        saveIt.addPerson(new PersonBuilder().withTags("friends", "owesMoney").build());
+        assertEquals("2 issues, 2 tags", saveIt.toString());
+    }
+
+    @Test
+    public void getSnapshot_saveItChangedAfterwards_snapshotUnchanged() {
+        SaveIt typicalSaveIt = getTypicalSaveIt();
+        List<Issue> issuesBefore = Arrays.asList(typicalSaveIt.getPersonList().toArray(new Issue[0]));
+        ReadOnlySaveIt snapshot = typicalSaveIt.getSnapshot();
+
+        typicalSaveIt.removePerson(ALICE);
+        typicalSaveIt.addPerson(new PersonBuilder().build());
+        assertEquals(issuesBefore, snapshot.getPersonList());
+    }
+
     /**
      * A stub ReadOnlySaveIt whose issues list can violate interface constraints.
      */
@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.collections.PersistentList;
+
+public class UndoHistoryFileTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void pop_pushedRecords_returnedInReverseOrder() throws IOException {
+        Path filePath = testFolder.getRoot().toPath().resolve("history.bin");
+        UndoHistoryFile historyFile = new UndoHistoryFile(filePath);
+        List<IssueListDelta> first = Arrays.asList(IssueListDelta.added(0, AMY), IssueListDelta.removed(1, BOB),
+                IssueListDelta.updated(2, ALICE, BENSON));
+        List<IssueListDelta> second = Collections.singletonList(IssueListDelta.replaced(
+                PersistentList.of(Arrays.asList(ALICE, BENSON)), PersistentList.of(Arrays.asList(AMY))));
+
+        historyFile.push(first);
+        long firstSize = historyFile.getSize();
+        historyFile.push(second);
+        assertEquals(2, historyFile.getRecordCount());
+        assertEquals(historyFile.getSize(), Files.size(filePath));
+
+        assertEquals(second, historyFile.pop());
+        assertEquals(firstSize, historyFile.getSize());
+        assertEquals(firstSize, Files.size(filePath));
+        assertEquals(first, historyFile.pop());
+        assertEquals(0, historyFile.getRecordCount());
+        assertEquals(0, Files.size(filePath));
+    }
+
+    @Test
+    public void delete_withRecords_fileRemoved() throws IOException {
+        Path filePath = testFolder.getRoot().toPath().resolve("history.bin");
+        UndoHistoryFile historyFile = new UndoHistoryFile(filePath);
+        historyFile.push(Collections.singletonList(IssueListDelta.added(0, AMY)));
+        assertTrue(Files.exists(filePath));
+
+        historyFile.delete();
+        assertFalse(Files.exists(filePath));
+        assertEquals(0, historyFile.getRecordCount());
+    }
+}
@@ -7,10 +7,13 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -139,6 +142,43 @@ public class UniqueIssueListTest {
         assertEquals(expectedUniqueIssueList, uniqueIssueList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsIssueNotFoundException() {
+        uniqueIssueList.add(ALICE);
+        Issue editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        thrown.expect(IssueNotFoundException.class);
+        uniqueIssueList.remove(editedAlice);
+    }
+
+    @Test
+    public void remove_earlierIssue_laterIssuesCanStillBeReplacedAndRemoved() {
+        uniqueIssueList.add(ALICE);
+        uniqueIssueList.add(BOB);
+        uniqueIssueList.add(CARL);
+        uniqueIssueList.remove(ALICE);
+        Issue editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueIssueList.setIssue(CARL, editedCarl);
+        uniqueIssueList.remove(BOB);
+        UniqueIssueList expectedUniqueIssueList = new UniqueIssueList();
+        expectedUniqueIssueList.add(editedCarl);
+        assertEquals(expectedUniqueIssueList, uniqueIssueList);
+    }
+
+    @Test
+    public void contains_removedIssue_returnsFalse() {
+        uniqueIssueList.add(ALICE);
+        uniqueIssueList.remove(ALICE);
+        assertFalse(uniqueIssueList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_identityReplacedBySetIssue_returnsFalse() {
+        uniqueIssueList.add(ALICE);
+        uniqueIssueList.setIssue(ALICE, BOB);
+        assertFalse(uniqueIssueList.contains(ALICE));
+        assertTrue(uniqueIssueList.contains(BOB));
+    }
+
     @Test
     public void setIssues_nullUniqueIssueList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -177,6 +217,101 @@ public class UniqueIssueListTest {
         uniqueIssueList.setIssues(listWithDuplicateIssues);
     }
 
+    @Test
+    public void addDeltaListener_listChanged_deltasReported() {
+        List<IssueListDelta> deltas = new ArrayList<>();
+        uniqueIssueList.addDeltaListener(deltas::add);
+        uniqueIssueList.add(ALICE);
+        uniqueIssueList.add(BOB);
+        uniqueIssueList.setIssue(BOB, CARL);
+        uniqueIssueList.remove(ALICE);
+        assertEquals(Arrays.asList(IssueListDelta.added(0, ALICE), IssueListDelta.added(1, BOB),
+                IssueListDelta.updated(1, BOB, CARL), IssueListDelta.removed(0, ALICE)), deltas);
+    }
+
+    @Test
+    public void applyDelta_invertedDeltasInReverseOrder_restoresList() {
+        uniqueIssueList.add(ALICE);
+        uniqueIssueList.add(BOB);
+        UniqueIssueList expectedUniqueIssueList = new UniqueIssueList();
+        expectedUniqueIssueList.setIssues(uniqueIssueList);
+
+        List<IssueListDelta> deltas = new ArrayList<>();
+        uniqueIssueList.addDeltaListener(deltas::add);
+        uniqueIssueList.remove(ALICE);
+        uniqueIssueList.setIssue(BOB, CARL);
+        uniqueIssueList.setIssues(Collections.singletonList(ALICE));
+
+        for (int i = deltas.size() - 1; i >= 0; i--) {
+            uniqueIssueList.applyDelta(deltas.get(i).invert());
+        }
+        assertEquals(expectedUniqueIssueList, uniqueIssueList);
+        assertTrue(uniqueIssueList.contains(BOB));
+        assertFalse(uniqueIssueList.contains(CARL));
+    }
+
+    @Test
+    public void applyDelta_addedDeltaWithDuplicateIdentity_throwsDuplicateIssueException() {
+        uniqueIssueList.add(ALICE);
+        thrown.expect(DuplicateIssueException.class);
+        uniqueIssueList.applyDelta(IssueListDelta.added(0, ALICE));
+    }
+
+    @Test
+    public void add_issuesWithoutIds_newIdsGiven() {
+        uniqueIssueList.add(ALICE);
+        uniqueIssueList.add(BOB);
+        Issue alice = uniqueIssueList.asUnmodifiableObservableList().get(0);
+        Issue bob = uniqueIssueList.asUnmodifiableObservableList().get(1);
+        assertEquals(1, alice.getId());
+        assertEquals(2, bob.getId());
+        assertEquals(Optional.of(alice), uniqueIssueList.getById(1));
+
+        // ids of removed issues are not given again
+        uniqueIssueList.remove(BOB);
+        uniqueIssueList.add(CARL);
+        assertEquals(3, uniqueIssueList.asUnmodifiableObservableList().get(1).getId());
+        assertFalse(uniqueIssueList.getById(2).isPresent());
+    }
+
+    @Test
+    public void add_issueWithIdInUse_newIdGiven() {
+        uniqueIssueList.add(new PersonBuilder(ALICE).withId(5).build());
+        uniqueIssueList.add(new PersonBuilder(BOB).withId(5).build());
+        assertEquals(6, uniqueIssueList.asUnmodifiableObservableList().get(1).getId());
+    }
+
+    @Test
+    public void setIssue_editedIssue_keepsId() {
+        uniqueIssueList.add(ALICE);
+        uniqueIssueList.setIssue(ALICE, BOB);
+        assertEquals(Optional.of(BOB), uniqueIssueList.getById(1));
+        assertEquals(1, uniqueIssueList.asUnmodifiableObservableList().get(0).getId());
+    }
+
+    @Test
+    public void setIssues_listWithMissingAndDuplicateIds_newIdsGiven() {
+        Issue alice = new PersonBuilder(ALICE).withId(4).build();
+        Issue bob = new PersonBuilder(BOB).withId(4).build();
+        uniqueIssueList.setIssues(Arrays.asList(alice, bob, CARL));
+        List<Issue> issues = uniqueIssueList.asUnmodifiableObservableList();
+        assertEquals(4, issues.get(0).getId());
+        assertEquals(5, issues.get(1).getId());
+        assertEquals(6, issues.get(2).getId());
+    }
+
+    @Test
+    public void applyDelta_removalUndone_issueFoundByIdAgain() {
+        uniqueIssueList.add(ALICE);
+        List<IssueListDelta> deltas = new ArrayList<>();
+        uniqueIssueList.addDeltaListener(deltas::add);
+        uniqueIssueList.remove(ALICE);
+        assertFalse(uniqueIssueList.getById(1).isPresent());
+
+        uniqueIssueList.applyDelta(deltas.get(0).invert());
+        assertEquals(Optional.of(ALICE), uniqueIssueList.getById(1));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -2,12 +2,15 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -192,6 +195,33 @@ public class VersionedSaveItTest {
                 Collections.singletonList(saveItWithBob));
     }
 
+    @Test
+    public void undo_uncommittedChanges_uncommittedChangesDiscarded() {
+        VersionedSaveIt versionedSaveIt = prepareSaveItList(emptySaveIt, saveItWithAmy);
+        versionedSaveIt.addPerson(BOB);
+
+        versionedSaveIt.undo();
+        assertSaveItListStatus(versionedSaveIt,
+                Collections.emptyList(),
+                emptySaveIt,
+                Collections.singletonList(saveItWithAmy));
+    }
+
+    @Test
+    public void undo_singleEdit_onlyEditedIssueChanged() {
+        VersionedSaveIt versionedSaveIt = prepareSaveItList(saveItWithAmy);
+        versionedSaveIt.addPerson(BOB);
+        versionedSaveIt.commit();
+        List<Issue> issuesBeforeUndo = new ArrayList<>(versionedSaveIt.getPersonList());
+        versionedSaveIt.updatePerson(BOB, CARL);
+        versionedSaveIt.commit();
+
+        versionedSaveIt.undo();
+        assertEquals(issuesBeforeUndo, versionedSaveIt.getPersonList());
+        // the issue that was not edited is still the same object
+        assertSame(issuesBeforeUndo.get(0), versionedSaveIt.getPersonList().get(0));
+    }
+
     @Test
     public void redo_singleSaveIt_throwsNoRedoableStateException() {
         VersionedSaveIt versionedSaveIt = prepareSaveItList(emptySaveIt);
@@ -207,6 +237,74 @@ public class VersionedSaveItTest {
         assertThrows(VersionedSaveIt.NoRedoableStateException.class, versionedSaveIt::redo);
     }
 
+    @Test
+    public void commit_overStateBudgetWithSpill_oldestStatesMovedToDisk() {
+        VersionedSaveIt versionedSaveIt = new VersionedSaveIt(emptySaveIt, 2, Long.MAX_VALUE, true);
+        commitStates(versionedSaveIt, saveItWithAmy, saveItWithBob, saveItWithCarl);
+
+        assertEquals(3, versionedSaveIt.getUndoDepth());
+        assertEquals(2, versionedSaveIt.getSpilledStateCount());
+        assertTrue(versionedSaveIt.getHistoryDiskUsage() > 0);
+        assertSaveItListStatus(versionedSaveIt,
+                Arrays.asList(emptySaveIt, saveItWithAmy, saveItWithBob),
+                saveItWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_overByteBudgetWithSpill_noChangesKeptInMemory() {
+        VersionedSaveIt versionedSaveIt = new VersionedSaveIt(emptySaveIt, Integer.MAX_VALUE, 0, true);
+        commitStates(versionedSaveIt, saveItWithAmy, saveItWithBob);
+
+        assertEquals(0, versionedSaveIt.getHistoryMemoryUsage());
+        assertEquals(2, versionedSaveIt.getSpilledStateCount());
+
+        versionedSaveIt.undo();
+        assertEquals(saveItWithAmy, new SaveIt(versionedSaveIt));
+        assertEquals(1, versionedSaveIt.getSpilledStateCount());
+        assertTrue(versionedSaveIt.getHistoryMemoryUsage() > 0);
+    }
+
+    @Test
+    public void undo_overByteBudgetWithSpill_newestUndoneStatesMovedToDisk() {
+        VersionedSaveIt versionedSaveIt = new VersionedSaveIt(emptySaveIt, Integer.MAX_VALUE, 0, true);
+        commitStates(versionedSaveIt, saveItWithAmy, saveItWithBob, saveItWithCarl);
+        shiftCurrentStatePointerLeftwards(versionedSaveIt, 3);
+
+        // only the changes leading to the state after the current state are kept in memory
+        assertEquals(2, versionedSaveIt.getSpilledStateCount());
+        assertTrue(versionedSaveIt.getHistoryDiskUsage() > 0);
+        assertSaveItListStatus(versionedSaveIt,
+                Collections.emptyList(),
+                emptySaveIt,
+                Arrays.asList(saveItWithAmy, saveItWithBob, saveItWithCarl));
+    }
+
+    @Test
+    public void undo_historyFileUnreadable_throwsUndoHistoryUnavailableException() throws Exception {
+        VersionedSaveIt versionedSaveIt = new VersionedSaveIt(emptySaveIt, Integer.MAX_VALUE, 0, true);
+        commitStates(versionedSaveIt, saveItWithAmy, saveItWithBob);
+        Files.delete(versionedSaveIt.getHistoryFilePath());
+
+        assertThrows(VersionedSaveIt.UndoHistoryUnavailableException.class, versionedSaveIt::undo);
+        assertEquals(saveItWithBob, new SaveIt(versionedSaveIt));
+        assertFalse(versionedSaveIt.canUndo());
+    }
+
+    @Test
+    public void commit_overStateBudgetWithoutSpill_oldestStatesDiscarded() {
+        VersionedSaveIt versionedSaveIt = new VersionedSaveIt(emptySaveIt, 2, Long.MAX_VALUE, false);
+        commitStates(versionedSaveIt, saveItWithAmy, saveItWithBob, saveItWithCarl);
+
+        assertEquals(1, versionedSaveIt.getUndoDepth());
+        assertEquals(0, versionedSaveIt.getSpilledStateCount());
+        assertEquals(0, versionedSaveIt.getHistoryDiskUsage());
+        assertSaveItListStatus(versionedSaveIt,
+                Collections.singletonList(saveItWithBob),
+                saveItWithCarl,
+                Collections.emptyList());
+    }
+
     @Test
     public void equals() {
         VersionedSaveIt versionedSaveIt = prepareSaveItList(saveItWithAmy, saveItWithBob);
@@ -287,6 +385,16 @@ public class VersionedSaveItTest {
         return versionedSaveIt;
     }
 
+    /**
+     * Resets {@code versionedSaveIt} to each of {@code saveItStates} in turn, committing after each reset.
+     */
+    private void commitStates(VersionedSaveIt versionedSaveIt, ReadOnlySaveIt... saveItStates) {
+        for (ReadOnlySaveIt saveItState : saveItStates) {
+            versionedSaveIt.resetData(saveItState);
+            versionedSaveIt.commit();
+        }
+    }
+
     /**
      * Shifts the {@code versionedSaveIt#currentStatePointer} by {@code count} to the left of its list.
      */
@@ -0,0 +1,76 @@
+package seedu.address.model.issue;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class IssueHasTagsPredicateTest {
+
+    @Test
+    public void equals() {
+        IssueHasTagsPredicate firstPredicate = new IssueHasTagsPredicate(Collections.singletonList(tags("first")));
+        IssueHasTagsPredicate secondPredicate = new IssueHasTagsPredicate(Arrays.asList(tags("first"), tags("second")));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        IssueHasTagsPredicate firstPredicateCopy = new IssueHasTagsPredicate(Collections.singletonList(tags("first")));
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different tags -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_issueHasTags_returnsTrue() {
+        // One tag
+        IssueHasTagsPredicate predicate = new IssueHasTagsPredicate(Collections.singletonList(tags("bug")));
+        assertTrue(predicate.test(new PersonBuilder().withTags("bug", "java").build()));
+
+        // Any tag in a group
+        predicate = new IssueHasTagsPredicate(Collections.singletonList(tags("bug", "crash")));
+        assertTrue(predicate.test(new PersonBuilder().withTags("crash").build()));
+
+        // A tag from every group
+        predicate = new IssueHasTagsPredicate(Arrays.asList(tags("bug", "crash"), tags("java")));
+        assertTrue(predicate.test(new PersonBuilder().withTags("crash", "java").build()));
+    }
+
+    @Test
+    public void test_issueDoesNotHaveTags_returnsFalse() {
+        // No tags
+        IssueHasTagsPredicate predicate = new IssueHasTagsPredicate(Collections.singletonList(tags("bug")));
+        assertFalse(predicate.test(new PersonBuilder().withTags().build()));
+
+        // Tags differ in case
+        assertFalse(predicate.test(new PersonBuilder().withTags("Bug").build()));
+
+        // No tag from one of the groups
+        predicate = new IssueHasTagsPredicate(Arrays.asList(tags("bug", "crash"), tags("java")));
+        assertFalse(predicate.test(new PersonBuilder().withTags("bug", "python").build()));
+    }
+
+    private static Set<Tag> tags(String... tagNames) {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(Tag.of(tagName));
+        }
+        return tags;
+    }
+}
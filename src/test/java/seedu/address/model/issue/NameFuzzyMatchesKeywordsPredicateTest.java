@@ -0,0 +1,65 @@
+package seedu.address.model.issue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameFuzzyMatchesKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        NameFuzzyMatchesKeywordsPredicate firstPredicate =
+                new NameFuzzyMatchesKeywordsPredicate(Collections.singletonList("first"));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameFuzzyMatchesKeywordsPredicate(Collections.singletonList("first"))));
+
+        // exact match of the same keywords -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(Collections.singletonList("first"))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(new NameFuzzyMatchesKeywordsPredicate(Arrays.asList("first", "second"))));
+    }
+
+    @Test
+    public void getMaxEditDistance_keywordLengths_growsWithLength() {
+        assertEquals(0, NameFuzzyMatchesKeywordsPredicate.getMaxEditDistance("ab"));
+        assertEquals(1, NameFuzzyMatchesKeywordsPredicate.getMaxEditDistance("abc"));
+        assertEquals(1, NameFuzzyMatchesKeywordsPredicate.getMaxEditDistance("abcde"));
+        assertEquals(2, NameFuzzyMatchesKeywordsPredicate.getMaxEditDistance("abcdef"));
+    }
+
+    @Test
+    public void test_statementContainsSimilarWord_returnsTrue() {
+        NameFuzzyMatchesKeywordsPredicate predicate =
+                new NameFuzzyMatchesKeywordsPredicate(Arrays.asList("Alcie", "Bobb"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Carol Bob").build()));
+
+        // typo in a long word
+        predicate = new NameFuzzyMatchesKeywordsPredicate(Collections.singletonList("excepton"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Null pointer exception").build()));
+    }
+
+    @Test
+    public void test_statementDoesNotContainSimilarWord_returnsFalse() {
+        // short keywords must match exactly
+        NameFuzzyMatchesKeywordsPredicate predicate =
+                new NameFuzzyMatchesKeywordsPredicate(Collections.singletonList("Al"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Ali Bob").build()));
+
+        // too many typos
+        predicate = new NameFuzzyMatchesKeywordsPredicate(Collections.singletonList("Alcei"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+}
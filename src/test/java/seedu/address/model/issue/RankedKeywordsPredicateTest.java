@@ -0,0 +1,49 @@
+package seedu.address.model.issue;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class RankedKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        RankedKeywordsPredicate firstPredicate = new RankedKeywordsPredicate(Collections.singletonList("first"), 3);
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new RankedKeywordsPredicate(Collections.singletonList("first"), 3)));
+
+        // unranked match of the same keywords -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(Collections.singletonList("first"))));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(new RankedKeywordsPredicate(Arrays.asList("first", "second"), 3)));
+
+        // different limit -> returns false
+        assertFalse(firstPredicate.equals(new RankedKeywordsPredicate(Collections.singletonList("first"), 4)));
+    }
+
+    @Test
+    public void test_keywordInStatementRemarkOrTags_returnsTrue() {
+        RankedKeywordsPredicate predicate = new RankedKeywordsPredicate(Arrays.asList("pointer", "JAVA"), 1);
+        assertTrue(predicate.test(new PersonBuilder().withName("Null pointer").build()));
+        assertTrue(predicate.test(new PersonBuilder().withAddress("Seen in a Pointer dereference").build()));
+        assertTrue(predicate.test(new PersonBuilder().withTags("java").build()));
+    }
+
+    @Test
+    public void test_keywordNotFound_returnsFalse() {
+        RankedKeywordsPredicate predicate = new RankedKeywordsPredicate(Collections.singletonList("point"), 1);
+        assertFalse(predicate.test(new PersonBuilder().withName("Null pointer").withAddress("pointers")
+                .withTags("pointer").build()));
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.issue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class TagSetTest {
+
+    private final Tag friends = Tag.of("friends");
+    private final Tag colleagues = Tag.of("colleagues");
+    private final Tag owesMoney = Tag.of("owesMoney");
+
+    @Test
+    public void of_duplicateTags_keptOnceInNameOrder() {
+        TagSet tagSet = TagSet.of(Arrays.asList(owesMoney, friends, Tag.of("owesMoney"), colleagues));
+        assertEquals(3, tagSet.size());
+        assertEquals(Arrays.asList(colleagues, friends, owesMoney), new ArrayList<>(tagSet));
+    }
+
+    @Test
+    public void of_namesDifferingInCase_orderedIgnoringCase() {
+        Tag upperBug = Tag.of("Bug");
+        Tag api = Tag.of("api");
+        Tag lowerBug = Tag.of("bug");
+        TagSet tagSet = TagSet.of(Arrays.asList(lowerBug, upperBug, api));
+        assertEquals(Arrays.asList(api, upperBug, lowerBug), new ArrayList<>(tagSet));
+    }
+
+    @Test
+    public void of_tagSet_returnsSameSet() {
+        TagSet tagSet = TagSet.of(Collections.singleton(friends));
+        assertSame(tagSet, TagSet.of(tagSet));
+    }
+
+    @Test
+    public void of_singleTag_returnsSharedSet() {
+        assertSame(TagSet.of(Collections.singleton(friends)), TagSet.of(Arrays.asList(Tag.of("friends"))));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(Arrays.asList(friends, colleagues));
+        assertTrue(tagSet.contains(Tag.of("friends")));
+        assertFalse(tagSet.contains(owesMoney));
+        assertFalse(tagSet.contains("friends"));
+    }
+
+    @Test
+    public void containsAll() {
+        TagSet tagSet = TagSet.of(Arrays.asList(friends, colleagues, owesMoney));
+        assertTrue(tagSet.containsAll(TagSet.of(Arrays.asList(owesMoney, colleagues))));
+        assertTrue(tagSet.containsAll(TagSet.of(Collections.emptySet())));
+        assertFalse(TagSet.of(Arrays.asList(friends, owesMoney)).containsAll(tagSet));
+        assertTrue(tagSet.containsAll(Arrays.asList(friends, owesMoney)));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Collections.singleton(friends));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> tagSet.add(colleagues));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(colleagues));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+    }
+
+    @Test
+    public void equals() {
+        TagSet tagSet = TagSet.of(Arrays.asList(friends, colleagues));
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(Tag.of("colleagues"), Tag.of("friends")));
+
+        // same tags -> returns true
+        assertEquals(tagSet, TagSet.of(Arrays.asList(colleagues, friends)));
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet, tagSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+
+        // different tags -> returns false
+        List<Tag> otherTags = Arrays.asList(friends, owesMoney);
+        assertNotEquals(tagSet, TagSet.of(otherTags));
+        assertNotEquals(tagSet, new HashSet<>(otherTags));
+    }
+}
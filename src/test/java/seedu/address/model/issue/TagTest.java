@@ -1,5 +1,9 @@
 package seedu.address.model.issue;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -7,14 +11,35 @@ import seedu.address.testutil.Assert;
 public class TagTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        Assert.assertThrows(NullPointerException.class, () -> new Tag(null));
+    public void of_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> Tag.of(null));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+    }
+
+    @Test
+    public void of_sameName_returnsSameTag() {
+        assertSame(Tag.of("friends"), Tag.of("friends"));
+        assertSame(Tag.of("friends"), Tag.of(new String("friends")));
     }
 
     @Test
-    public void constructor_invalidTagName_throwsIllegalArgumentException() {
-        String invalidTagName = "";
-        Assert.assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
+    public void equals() {
+        Tag tag = Tag.of("friends");
+
+        // same name -> returns true
+        assertEquals(tag, Tag.of("friends"));
+        assertEquals(tag.hashCode(), Tag.of("friends").hashCode());
+
+        // different name -> returns false
+        assertNotEquals(tag, Tag.of("Friends"));
+
+        // different type -> returns false
+        assertNotEquals(tag, "friends");
     }
 
     @Test
@@ -0,0 +1,62 @@
+package seedu.address.model.issue.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TermQueryTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_phraseOfTags_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new TermQuery(QueryField.TAG, Arrays.asList("friends", "owesMoney"));
+    }
+
+    @Test
+    public void test_statementPhrase_matchesConsecutiveWordsIgnoringCase() {
+        assertTrue(new TermQuery(QueryField.STATEMENT, Arrays.asList("alice", "PAULINE")).test(ALICE));
+        assertFalse(new TermQuery(QueryField.STATEMENT, Arrays.asList("Pauline", "Alice")).test(ALICE));
+        assertFalse(new TermQuery(QueryField.STATEMENT, Arrays.asList("Ali")).test(ALICE));
+    }
+
+    @Test
+    public void test_remark_matchesOnlyRemark() {
+        assertTrue(new TermQuery(QueryField.REMARK, Arrays.asList("Clementi", "Ave")).test(BENSON));
+        assertFalse(new TermQuery(QueryField.REMARK, Arrays.asList("Benson")).test(BENSON));
+    }
+
+    @Test
+    public void test_phoneAndTag_matchesField() {
+        assertTrue(new TermQuery(QueryField.PHONE, Collections.singletonList("4351")).test(ALICE));
+        assertFalse(new TermQuery(QueryField.PHONE, Collections.singletonList("4351")).test(BENSON));
+        assertTrue(new TermQuery(QueryField.TAG, Collections.singletonList("owesMoney")).test(BENSON));
+        assertFalse(new TermQuery(QueryField.TAG, Collections.singletonList("owesMoney")).test(ALICE));
+    }
+
+    @Test
+    public void toString_phrase_quoted() {
+        assertEquals("r/\"wall street\"", new TermQuery(QueryField.REMARK, Arrays.asList("wall", "street")).toString());
+        assertEquals("t/friends", new TermQuery(QueryField.TAG, Arrays.asList("friends")).toString());
+    }
+
+    @Test
+    public void equals() {
+        TermQuery query = new TermQuery(QueryField.STATEMENT, Arrays.asList("Alice"));
+        assertTrue(query.equals(new TermQuery(QueryField.STATEMENT, Arrays.asList("Alice"))));
+        assertFalse(query.equals(new TermQuery(QueryField.REMARK, Arrays.asList("Alice"))));
+        assertFalse(query.equals(new TermQuery(QueryField.STATEMENT, Arrays.asList("Bob"))));
+        assertFalse(query.equals(null));
+    }
+}
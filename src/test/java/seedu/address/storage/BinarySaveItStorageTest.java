@@ -0,0 +1,177 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalSaveIt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.events.model.SaveItChangedEvent;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Issue;
+import seedu.address.model.IssueListDelta;
+import seedu.address.model.SaveIt;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinarySaveItStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSaveIt.bin");
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "address.bin"), BinarySaveItStorage.getBinaryFilePath(
+                Paths.get("data", "address.xml")));
+        assertEquals(Paths.get("data", "address.bin"), BinarySaveItStorage.getBinaryFilePath(
+                Paths.get("data", "address")));
+    }
+
+    @Test
+    public void readSaveIt_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinarySaveItStorage(filePath).readSaveIt(null);
+    }
+
+    @Test
+    public void readSaveIt_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinarySaveItStorage(filePath).readSaveIt().isPresent());
+    }
+
+    @Test
+    public void saveSaveIt_readBack_sameIssuesAndIds() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        // ids and lengths that take more than one byte as varints
+        original.addPerson(new PersonBuilder(HOON).withId(1_000_000)
+                .withAddress(String.join("", Collections.nCopies(50, "long remark "))).build());
+        BinarySaveItStorage storage = new BinarySaveItStorage(filePath);
+
+        storage.saveSaveIt(original);
+        List<Issue> readBack = storage.readSaveIt().get().getPersonList();
+
+        assertEquals(original.getPersonList(), readBack);
+        for (int i = 0; i < readBack.size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), readBack.get(i).getId());
+        }
+    }
+
+    @Test
+    public void saveSaveIt_emptySaveIt_readBackEmpty() throws Exception {
+        BinarySaveItStorage storage = new BinarySaveItStorage(filePath);
+        storage.saveSaveIt(new SaveIt());
+        assertEquals(new SaveIt(), storage.readSaveIt().get());
+    }
+
+    @Test
+    public void saveSaveIt_smallerThanXml() throws Exception {
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("TempSaveIt.xml");
+        new XmlSaveItStorage(xmlFilePath).saveSaveIt(getTypicalSaveIt());
+        new BinarySaveItStorage(filePath).saveSaveIt(getTypicalSaveIt());
+        assertTrue(Files.size(filePath) < Files.size(xmlFilePath));
+    }
+
+    @Test
+    public void readSaveIt_damagedFile_throwsDataConversionException() throws Exception {
+        new BinarySaveItStorage(filePath).saveSaveIt(getTypicalSaveIt());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        new BinarySaveItStorage(filePath).readSaveIt();
+    }
+
+    @Test
+    public void readSaveIt_xmlFile_throwsDataConversionException() throws Exception {
+        new XmlSaveItStorage(filePath).saveSaveIt(getTypicalSaveIt());
+        thrown.expect(DataConversionException.class);
+        new BinarySaveItStorage(filePath).readSaveIt();
+    }
+
+    @Test
+    public void readSaveIt_onlyEarlierFile_migrated() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("TempSaveIt.xml");
+        new XmlSaveItStorage(xmlFilePath).saveSaveIt(original);
+        BinarySaveItStorage storage = new BinarySaveItStorage(filePath, new WalSaveItStorage(xmlFilePath));
+
+        assertEquals(original, storage.readSaveIt().get());
+        storage.awaitMigration();
+
+        assertEquals(original, new BinarySaveItStorage(filePath).readSaveIt().get());
+        // the earlier data file is kept aside, so that its stale data is not read again
+        assertFalse(Files.exists(xmlFilePath));
+        assertEquals(original, new XmlSaveItStorage(xmlFilePath.resolveSibling("TempSaveIt.xml.migrated"))
+                .readSaveIt().get());
+    }
+
+    @Test
+    public void readSaveIt_binaryFileDeletedAfterMigration_earlierDataNotMigratedAgain() throws Exception {
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("TempSaveIt.xml");
+        new XmlSaveItStorage(xmlFilePath).saveSaveIt(getTypicalSaveIt());
+        BinarySaveItStorage storage = new BinarySaveItStorage(filePath, new WalSaveItStorage(xmlFilePath));
+        storage.readSaveIt();
+        storage.awaitMigration();
+
+        Files.delete(filePath);
+        assertFalse(new BinarySaveItStorage(filePath, new WalSaveItStorage(xmlFilePath)).readSaveIt().isPresent());
+    }
+
+    @Test
+    public void readSaveIt_earlierFileWithChangeLog_bothKeptAside() throws Exception {
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("TempSaveIt.xml");
+        SaveIt saveIt = getTypicalSaveIt();
+        WalSaveItStorage walStorage = new WalSaveItStorage(xmlFilePath);
+        walStorage.saveSaveItChanges(saveIt, Collections.emptyList(), SaveItChangedEvent.UNKNOWN_VERSION, 0);
+        Issue hoon = new PersonBuilder(HOON).withId(100).build();
+        int size = saveIt.getPersonList().size();
+        saveIt.addPerson(hoon);
+        walStorage.saveSaveItChanges(saveIt, Collections.singletonList(IssueListDelta.added(size, hoon)), 0, 1);
+        BinarySaveItStorage storage = new BinarySaveItStorage(filePath, new WalSaveItStorage(xmlFilePath));
+
+        assertEquals(saveIt, storage.readSaveIt().get());
+        storage.awaitMigration();
+
+        assertFalse(Files.exists(xmlFilePath));
+        assertFalse(Files.exists(WalSaveItStorage.getLogFilePath(xmlFilePath)));
+        assertTrue(Files.exists(xmlFilePath.resolveSibling("TempSaveIt.xml.log.migrated")));
+    }
+
+    @Test
+    public void readSaveIt_newerDataSavedDuringMigration_newerDataKept() throws Exception {
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("TempSaveIt.xml");
+        new XmlSaveItStorage(xmlFilePath).saveSaveIt(getTypicalSaveIt());
+        BinarySaveItStorage storage = new BinarySaveItStorage(filePath, new WalSaveItStorage(xmlFilePath));
+
+        storage.readSaveIt();
+        SaveIt newer = new SaveIt();
+        newer.addPerson(ALICE);
+        storage.saveSaveIt(newer);
+        storage.awaitMigration();
+
+        assertEquals(newer, new BinarySaveItStorage(filePath).readSaveIt().get());
+        assertFalse(Files.exists(xmlFilePath));
+    }
+}
@@ -69,6 +69,14 @@ public class StorageManagerTest {
         assertEquals(original, new SaveIt(retrieved));
     }
 
+    @Test
+    public void flushSaveIt_changesNotYetSaved_saved() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        storageManager.handleSaveItChangedEvent(new SaveItChangedEvent(original.getSnapshot()));
+        storageManager.flushSaveIt();
+        assertEquals(original, new SaveIt(storageManager.readSaveIt().get()));
+    }
+
     @Test
     public void getSaveItFilePath() {
         assertNotNull(storageManager.getSaveItFilePath());
@@ -80,6 +88,7 @@ public class StorageManagerTest {
         Storage storage = new StorageManager(new XmlSaveItStorageExceptionThrowingStub(Paths.get("dummy")),
                                              new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleSaveItChangedEvent(new SaveItChangedEvent(new SaveIt()));
+        storage.flushSaveIt();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
@@ -0,0 +1,217 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.events.model.SaveItChangedEvent.UNKNOWN_VERSION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalSaveIt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Issue;
+import seedu.address.model.IssueListDelta;
+import seedu.address.model.SaveIt;
+import seedu.address.testutil.PersonBuilder;
+
+public class WalSaveItStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path logPath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSaveIt.xml");
+        logPath = WalSaveItStorage.getLogFilePath(filePath);
+    }
+
+    @Test
+    public void readSaveIt_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new WalSaveItStorage(filePath).readSaveIt(null);
+    }
+
+    @Test
+    public void readSaveIt_missingFile_emptyResult() throws Exception {
+        assertFalse(new WalSaveItStorage(filePath).readSaveIt().isPresent());
+    }
+
+    @Test
+    public void readSaveIt_xmlFileWithoutLog_success() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        new XmlSaveItStorage(filePath).saveSaveIt(original);
+        assertEquals(original, new WalSaveItStorage(filePath).readSaveIt().get());
+    }
+
+    @Test
+    public void saveSaveIt_readBack_success() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        WalSaveItStorage storage = new WalSaveItStorage(filePath);
+        storage.saveSaveIt(original);
+        assertEquals(original, storage.readSaveIt().get());
+
+        // the snapshot is a valid xml data file
+        assertEquals(original, new XmlSaveItStorage(filePath).readSaveIt().get());
+    }
+
+    @Test
+    public void saveSaveItChanges_afterSave_changesAppendedToLog() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        WalSaveItStorage storage = new WalSaveItStorage(filePath);
+        storage.saveSaveItChanges(original, Collections.emptyList(), UNKNOWN_VERSION, 0);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        long emptyLogSize = Files.size(logPath);
+
+        int size = original.getPersonList().size();
+        Issue hoon = new PersonBuilder(HOON).withId(100).build();
+        Issue editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        original.addPerson(hoon);
+        original.updatePerson(original.getPersonList().get(0), editedAlice);
+        storage.saveSaveItChanges(original, Arrays.asList(IssueListDelta.added(size, hoon),
+                IssueListDelta.updated(0, ALICE, editedAlice)), 0, 1);
+
+        Issue ida = new PersonBuilder(IDA).withId(101).build();
+        original.addPerson(ida);
+        storage.saveSaveItChanges(original, Collections.singletonList(IssueListDelta.added(size + 1, ida)), 1, 2);
+
+        // the snapshot is left alone, and the changes are replayed from the log when read
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+        assertFalse(Files.size(logPath) == emptyLogSize);
+        SaveIt readBack = (SaveIt) new WalSaveItStorage(filePath).readSaveIt().get();
+        assertEquals(original, readBack);
+        assertEquals(100, readBack.getPersonList().get(size).getId());
+    }
+
+    @Test
+    public void mergeChangeLog_changesInLog_mergedIntoSnapshot() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        WalSaveItStorage storage = new WalSaveItStorage(filePath);
+        storage.saveSaveItChanges(original, Collections.emptyList(), UNKNOWN_VERSION, 0);
+        Issue hoon = new PersonBuilder(HOON).withId(100).build();
+        int size = original.getPersonList().size();
+        original.addPerson(hoon);
+        storage.saveSaveItChanges(original, Collections.singletonList(IssueListDelta.added(size, hoon)), 0, 1);
+
+        WalSaveItStorage.mergeChangeLog(filePath);
+
+        assertFalse(Files.exists(logPath));
+        assertEquals(original, new XmlSaveItStorage(filePath).readSaveIt().get());
+    }
+
+    @Test
+    public void mergeChangeLog_noLog_snapshotUnchanged() throws Exception {
+        new XmlSaveItStorage(filePath).saveSaveIt(getTypicalSaveIt());
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        WalSaveItStorage.mergeChangeLog(filePath);
+
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+        assertFalse(Files.exists(logPath));
+    }
+
+    @Test
+    public void saveSaveItChanges_nothingSaved_snapshotWritten() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        new WalSaveItStorage(filePath).saveSaveItChanges(original,
+                Collections.singletonList(IssueListDelta.added(0, ALICE)), 0, 1);
+        assertEquals(original, new XmlSaveItStorage(filePath).readSaveIt().get());
+    }
+
+    @Test
+    public void saveSaveItChanges_changesFromAnotherVersion_snapshotWritten() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        WalSaveItStorage storage = new WalSaveItStorage(filePath);
+        storage.saveSaveItChanges(original, Collections.emptyList(), UNKNOWN_VERSION, 0);
+
+        // the changes from version 1 to 2 do not follow version 0, which was saved
+        original.addPerson(HOON);
+        original.addPerson(IDA);
+        storage.saveSaveItChanges(original, Collections.singletonList(
+                IssueListDelta.added(original.getPersonList().size() - 1, IDA)), 1, 2);
+
+        assertEquals(original, new XmlSaveItStorage(filePath).readSaveIt().get());
+        assertEquals(original, new WalSaveItStorage(filePath).readSaveIt().get());
+    }
+
+    @Test
+    public void saveSaveItChanges_largeLog_compacted() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        WalSaveItStorage storage = new WalSaveItStorage(filePath, 0);
+        storage.saveSaveItChanges(original, Collections.emptyList(), UNKNOWN_VERSION, 0);
+        long emptyLogSize = Files.size(logPath);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        // each update is smaller than the snapshot, so the log is compacted once it outgrows the snapshot
+        for (int i = 0; i < 100; i++) {
+            Issue oldIssue = original.getPersonList().get(0);
+            Issue newIssue = new PersonBuilder(oldIssue).withPhone(String.valueOf(90000000 + i)).build();
+            original.updatePerson(oldIssue, newIssue);
+            storage.saveSaveItChanges(original, Collections.singletonList(
+                    IssueListDelta.updated(0, oldIssue, newIssue)), i, i + 1);
+        }
+
+        assertFalse(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+        assertFalse(Files.size(logPath) > emptyLogSize + Files.size(filePath));
+        assertEquals(original, new WalSaveItStorage(filePath).readSaveIt().get());
+    }
+
+    @Test
+    public void readSaveIt_tornRecord_discarded() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        WalSaveItStorage storage = new WalSaveItStorage(filePath);
+        storage.saveSaveItChanges(original, Collections.emptyList(), UNKNOWN_VERSION, 0);
+        SaveIt saved = new SaveIt(original);
+
+        original.addPerson(HOON);
+        storage.saveSaveItChanges(original, Collections.singletonList(
+                IssueListDelta.added(saved.getPersonList().size(), HOON)), 0, 1);
+        saved.addPerson(HOON);
+
+        // a record whose length and checksum were written, but not all of its changes
+        Files.write(logPath, new byte[] {0, 0, 0, 100, 1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+        assertEquals(saved, new WalSaveItStorage(filePath).readSaveIt().get());
+    }
+
+    @Test
+    public void readSaveIt_logOfEarlierSnapshot_discarded() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        WalSaveItStorage storage = new WalSaveItStorage(filePath);
+        storage.saveSaveItChanges(original, Collections.emptyList(), UNKNOWN_VERSION, 0);
+        original.addPerson(HOON);
+        storage.saveSaveItChanges(original, Collections.singletonList(
+                IssueListDelta.added(original.getPersonList().size() - 1, HOON)), 0, 1);
+
+        // the snapshot is replaced by a program that does not know about the log
+        SaveIt replacement = new SaveIt();
+        replacement.addPerson(IDA);
+        new XmlSaveItStorage(filePath).saveSaveIt(replacement);
+        assertEquals(replacement, new WalSaveItStorage(filePath).readSaveIt().get());
+    }
+
+    @Test
+    public void readSaveIt_notLogFormat_throwsDataConversionException() throws Exception {
+        new WalSaveItStorage(filePath).saveSaveIt(getTypicalSaveIt());
+        Files.write(logPath, "not a change log".getBytes());
+        thrown.expect(DataConversionException.class);
+        new WalSaveItStorage(filePath).readSaveIt();
+    }
+}
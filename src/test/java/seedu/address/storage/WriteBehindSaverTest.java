@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.events.model.SaveItChangedEvent.UNKNOWN_VERSION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalSaveIt;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.IssueListDelta;
+import seedu.address.model.ReadOnlySaveIt;
+import seedu.address.model.SaveIt;
+
+public class WriteBehindSaverTest {
+
+    /** Long enough that no scheduled write runs during a test, so that only flushes write. */
+    private static final long LONG_SAVE_DELAY_MILLIS = 60_000;
+    private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+
+    private final SaveItStorageStub storage = new SaveItStorageStub();
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void submit_burstOfChanges_latestWrittenOnce() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_SAVE_DELAY_MILLIS, failures::add);
+        SaveIt saveIt = getTypicalSaveIt();
+        ReadOnlySaveIt latest = null;
+        for (int i = 0; i < 100; i++) {
+            latest = saveIt.getSnapshot();
+            saver.submit(latest);
+        }
+
+        assertTrue(saver.flush(FLUSH_TIMEOUT_MILLIS));
+        assertEquals(1, storage.saved.size());
+        assertSame(latest, storage.saved.get(0));
+    }
+
+    @Test
+    public void flush_nothingSubmitted_nothingWritten() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_SAVE_DELAY_MILLIS, failures::add);
+        assertTrue(saver.flush(FLUSH_TIMEOUT_MILLIS));
+        assertTrue(storage.saved.isEmpty());
+    }
+
+    @Test
+    public void submit_afterFlush_writtenAgain() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_SAVE_DELAY_MILLIS, failures::add);
+        saver.submit(new SaveIt());
+        saver.flush(FLUSH_TIMEOUT_MILLIS);
+        saver.submit(getTypicalSaveIt());
+        saver.flush(FLUSH_TIMEOUT_MILLIS);
+        assertEquals(2, storage.saved.size());
+    }
+
+    @Test
+    public void submit_noSaveDelay_writtenWithoutFlush() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 0, failures::add);
+        saver.submit(new SaveIt());
+        for (int i = 0; i < 500 && storage.saved.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void flush_writeFails_failureHandled() {
+        storage.isFailing = true;
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_SAVE_DELAY_MILLIS, failures::add);
+        saver.submit(new SaveIt());
+        assertTrue(saver.flush(FLUSH_TIMEOUT_MILLIS));
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void submit_changesKnown_changesCollectedUntilWritten() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_SAVE_DELAY_MILLIS, failures::add);
+        IssueListDelta first = IssueListDelta.added(0, ALICE);
+        IssueListDelta second = IssueListDelta.removed(0, ALICE);
+        saver.submit(new SaveIt(), Collections.singletonList(first), 0, 1);
+        saver.submit(new SaveIt(), Collections.singletonList(second), 1, 2);
+
+        assertTrue(saver.flush(FLUSH_TIMEOUT_MILLIS));
+        assertEquals(Collections.singletonList(Arrays.asList(first, second)), storage.savedChanges);
+    }
+
+    @Test
+    public void submit_changesUnknown_wholeDataWritten() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_SAVE_DELAY_MILLIS, failures::add);
+        saver.submit(new SaveIt(), Collections.singletonList(IssueListDelta.added(0, ALICE)), 0, 1);
+        saver.submit(new SaveIt());
+
+        assertTrue(saver.flush(FLUSH_TIMEOUT_MILLIS));
+        assertTrue(storage.savedChanges.isEmpty());
+        assertEquals(1, storage.saved.size());
+    }
+
+    @Test
+    public void submit_versionsMissed_wholeDataWritten() {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_SAVE_DELAY_MILLIS, failures::add);
+        saver.submit(new SaveIt(), Collections.singletonList(IssueListDelta.added(0, ALICE)), 0, 1);
+        saver.submit(new SaveIt(), Collections.singletonList(IssueListDelta.removed(0, ALICE)), 2, 3);
+
+        assertTrue(saver.flush(FLUSH_TIMEOUT_MILLIS));
+        assertTrue(storage.savedChanges.isEmpty());
+        assertEquals(1, storage.saved.size());
+    }
+
+    /**
+     * A stub that records the data and changes it is asked to save. Data whose changes are not known is saved whole.
+     */
+    private static class SaveItStorageStub extends XmlSaveItStorage {
+        private final List<ReadOnlySaveIt> saved = Collections.synchronizedList(new ArrayList<>());
+        private final List<List<IssueListDelta>> savedChanges = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean isFailing;
+
+        SaveItStorageStub() {
+            super(Paths.get("dummy"));
+        }
+
+        @Override
+        public void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            saved.add(saveIt);
+        }
+
+        @Override
+        public void saveSaveItChanges(ReadOnlySaveIt saveIt, List<IssueListDelta> changes, long previousVersion,
+                long version) throws IOException {
+            if (previousVersion == UNKNOWN_VERSION) {
+                super.saveSaveItChanges(saveIt, changes, previousVersion, version);
+            } else {
+                savedChanges.add(changes);
+            }
+        }
+    }
+}
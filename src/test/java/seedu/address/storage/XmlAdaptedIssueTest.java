@@ -11,10 +11,12 @@ import java.util.stream.Collectors;
 import org.junit.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Issue;
 import seedu.address.model.issue.IssueStatement;
 import seedu.address.model.issue.Phone;
 import seedu.address.model.issue.Remark;
 import seedu.address.testutil.Assert;
+import seedu.address.testutil.PersonBuilder;
 
 public class XmlAdaptedIssueTest {
     private static final String INVALID_NAME = "R@chel";
@@ -35,6 +37,24 @@ public class XmlAdaptedIssueTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_issueWithId_idKept() throws Exception {
+        XmlAdaptedPerson person = new XmlAdaptedPerson(new PersonBuilder(BENSON).withId(7).build());
+        assertEquals(7, person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_missingId_issueWithoutId() throws Exception {
+        XmlAdaptedPerson person = new XmlAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_ADDRESS, VALID_TAGS);
+        assertEquals(Issue.NO_ID, person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        XmlAdaptedPerson person = new XmlAdaptedPerson(0, VALID_NAME, VALID_PHONE, VALID_ADDRESS, VALID_TAGS);
+        Assert.assertThrows(IllegalValueException.class, XmlAdaptedPerson.MESSAGE_ID_CONSTRAINTS, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         XmlAdaptedPerson person =
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Issue;
+import seedu.address.testutil.PersonBuilder;
+
+public class XmlSaveItReaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSaveItReaderTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void read_validFile_issuesRead() throws Exception {
+        List<Issue> issues = XmlSaveItReader.read(TEST_DATA_FOLDER.resolve("validSaveIt.xml")).getPersonList();
+
+        Issue hans = new PersonBuilder().withName("Hans Muster").withPhone("9482424").withAddress("4th street")
+                .withTags("friends", "owesMoney").build();
+        Issue ruth = new PersonBuilder().withName("Ruth Mueller").withPhone("87249245").withAddress("81th street")
+                .withTags().build();
+        assertEquals(Arrays.asList(hans, ruth), issues);
+
+        // the saved id is kept, and the issue saved without an id is given a new one
+        assertEquals(3, issues.get(0).getId());
+        assertTrue(issues.get(1).getId() > 3);
+    }
+
+    @Test
+    public void read_duplicateIssues_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableSaveIt.MESSAGE_DUPLICATE_PERSON);
+        XmlSaveItReader.read(TEST_DATA_FOLDER.resolve("duplicateIssueSaveIt.xml"));
+    }
+
+    @Test
+    public void read_invalidId_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlAdaptedPerson.MESSAGE_ID_CONSTRAINTS);
+        XmlSaveItReader.read(TEST_DATA_FOLDER.resolve("invalidIdSaveIt.xml"));
+    }
+
+    @Test
+    public void read_wrongRootElement_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlSaveItReader.read(TEST_DATA_FOLDER.resolve("wrongRootSaveIt.xml"));
+    }
+
+    @Test
+    public void read_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlSaveItReader.read(TEST_DATA_FOLDER.resolve("NotXmlFormatSaveIt.xml"));
+    }
+
+    @Test
+    public void read_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlSaveItReader.read(TEST_DATA_FOLDER.resolve("NonExistentFile.xml"));
+    }
+}
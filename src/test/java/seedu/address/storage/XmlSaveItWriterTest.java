@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalSaveIt;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.Issue;
+import seedu.address.model.SaveIt;
+import seedu.address.testutil.PersonBuilder;
+
+public class XmlSaveItWriterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void write_typicalSaveIt_readBackWithSameIds() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("TempSaveIt.xml");
+        SaveIt original = getTypicalSaveIt();
+
+        XmlSaveItWriter.write(original, file);
+        List<Issue> readBack = XmlSaveItReader.read(file).getPersonList();
+
+        assertEquals(original.getPersonList(), readBack);
+        for (int i = 0; i < readBack.size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), readBack.get(i).getId());
+        }
+    }
+
+    @Test
+    public void write_markupInFields_escaped() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("TempSaveIt.xml");
+        SaveIt original = new SaveIt();
+        original.addPerson(new PersonBuilder().withAddress("use <T> & \"generics\"").build());
+
+        XmlSaveItWriter.write(original, file);
+        assertEquals(original, XmlSaveItReader.read(file));
+    }
+
+    @Test
+    public void write_emptySaveIt_readBackEmpty() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("TempSaveIt.xml");
+        XmlSaveItWriter.write(new SaveIt(), file);
+        assertEquals(new SaveIt(), XmlSaveItReader.read(file));
+    }
+}
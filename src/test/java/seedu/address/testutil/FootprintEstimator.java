@@ -0,0 +1,114 @@
+package seedu.address.testutil;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Estimates the number of bytes of heap memory taken up by object graphs, laid out as JOL reports them on a 64-bit
+ * JVM with compressed references: a 12-byte object header (16 bytes for arrays), 4-byte references, and every object
+ * padded to a multiple of 8 bytes.
+ * Strings are measured from their length as compact strings, without looking into their internals.
+ */
+public class FootprintEstimator {
+
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int STRING_BYTES = 24;
+    private static final int ALIGNMENT_BYTES = 8;
+
+    /**
+     * Returns the total footprint of {@code root} and every object reachable from it, counting each object once and
+     * leaving out the objects for which {@code isShared} is true, along with the objects reachable only through them.
+     */
+    public static long estimate(Object root, Predicate<Object> isShared) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(root);
+        long footprint = 0;
+        while (!pending.isEmpty()) {
+            Object object = pending.pop();
+            if (isShared.test(object) || !visited.add(object)) {
+                continue;
+            }
+            footprint += estimateShallow(object, pending);
+        }
+        return footprint;
+    }
+
+    /**
+     * Returns the footprint of {@code object} alone, and pushes the objects it refers to onto {@code pending}.
+     */
+    private static long estimateShallow(Object object, Deque<Object> pending) {
+        if (object instanceof String) {
+            String string = (String) object;
+            boolean isLatin1 = string.chars().allMatch(c -> c <= 0xFF);
+            return STRING_BYTES + align(ARRAY_HEADER_BYTES + (isLatin1 ? 1 : 2) * string.length());
+        }
+
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(object);
+            Class<?> componentType = type.getComponentType();
+            if (!componentType.isPrimitive()) {
+                for (int i = 0; i < length; i++) {
+                    pushIfNotNull(pending, Array.get(object, i));
+                }
+            }
+            return align(ARRAY_HEADER_BYTES + (long) length * sizeOf(componentType));
+        }
+
+        long size = OBJECT_HEADER_BYTES;
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                size += sizeOf(field.getType());
+                if (!field.getType().isPrimitive()) {
+                    field.setAccessible(true);
+                    try {
+                        pushIfNotNull(pending, field.get(object));
+                    } catch (IllegalAccessException e) {
+                        throw new AssertionError("Field " + field + " should be accessible.", e);
+                    }
+                }
+            }
+        }
+        return align(size);
+    }
+
+    private static void pushIfNotNull(Deque<Object> pending, Object object) {
+        if (object != null) {
+            pending.push(object);
+        }
+    }
+
+    /**
+     * Returns the number of bytes taken up by a field or array element of the given type.
+     */
+    private static int sizeOf(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return REFERENCE_BYTES;
+        } else if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else {
+            return 1;
+        }
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT_BYTES - 1) / ALIGNMENT_BYTES * ALIGNMENT_BYTES;
+    }
+}
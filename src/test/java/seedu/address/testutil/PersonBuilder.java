@@ -19,12 +19,14 @@ public class PersonBuilder {
     public static final String DEFAULT_PHONE = "85355255";
     public static final String DEFAULT_ADDRESS = "123, Jurong West Ave 6, #08-111";
 
+    private int id;
     private IssueStatement name;
     private Phone phone;
     private Remark address;
     private Set<Tag> tags;
 
     public PersonBuilder() {
+        id = Issue.NO_ID;
         name = new IssueStatement(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         address = new Remark(DEFAULT_ADDRESS);
@@ -35,12 +37,21 @@ public class PersonBuilder {
      * Initializes the PersonBuilder with the data of {@code issueToCopy}.
      */
     public PersonBuilder(Issue issueToCopy) {
+        id = issueToCopy.getId();
         name = issueToCopy.getStatement();
         phone = issueToCopy.getPhone();
         address = issueToCopy.getAddress();
         tags = new HashSet<>(issueToCopy.getTags());
     }
 
+    /**
+     * Sets the id of the {@code Issue} that we are building.
+     */
+    public PersonBuilder withId(int id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Sets the {@code IssueStatement} of the {@code Issue} that we are building.
      */
@@ -74,7 +85,7 @@ public class PersonBuilder {
     }
 
     public Issue build() {
-        return new Issue(name, phone, address, tags);
+        return new Issue(id, name, phone, address, tags);
     }
 
 }
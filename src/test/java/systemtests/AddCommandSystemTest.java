@@ -101,7 +101,7 @@ public class AddCommandSystemTest extends SaveItSystemTest {
         /* -------------------------- Perform add operation on the shown filtered list
         ------------------------------ */
 
-        /* Case: filters the issue list before adding -> added */
+        /* Case: filters the issue list before adding -> added, filter kept */
         showPersonsWithName(KEYWORD_MATCHING_MEIER);
         assertCommandSuccess(IDA);
 
@@ -16,8 +16,8 @@ import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_HUSBAND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
-import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
@@ -27,6 +27,9 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.KEYWORD_MATCHING_MEIER;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -68,6 +71,7 @@ public class EditCommandSystemTest extends SaveItSystemTest {
         /* Case: undo editing the last issue in the list -> last issue restored */
         command = UndoCommand.COMMAND_WORD;
         String expectedResultMessage = UndoCommand.MESSAGE_SUCCESS;
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         assertCommandSuccess(command, model, expectedResultMessage);
 
         /* Case: redo editing the last issue in the list -> last issue edited again */
@@ -75,6 +79,7 @@ public class EditCommandSystemTest extends SaveItSystemTest {
         expectedResultMessage = RedoCommand.MESSAGE_SUCCESS;
         model.updatePerson(
                 getModel().getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()), editedIssue);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         assertCommandSuccess(command, model, expectedResultMessage);
 
         /* Case: edit a issue with new values same as existing values -> edited */
@@ -111,13 +116,15 @@ public class EditCommandSystemTest extends SaveItSystemTest {
         /* ------------------ Performing edit operation while a filtered list is being shown
         ------------------------ */
 
-        /* Case: filtered issue list, edit index within bounds of address book and issue list -> edited */
+        /* Case: filtered issue list, edit index within bounds of address book and issue list
+         * -> edited, filter kept
+         */
         showPersonsWithName(KEYWORD_MATCHING_MEIER);
         index = INDEX_FIRST_PERSON;
         assertTrue(index.getZeroBased() < getModel().getFilteredPersonList().size());
-        command = EditCommand.COMMAND_WORD + " " + index.getOneBased() + " " + NAME_DESC_BOB;
+        command = EditCommand.COMMAND_WORD + " " + index.getOneBased() + " " + PHONE_DESC_BOB;
         issueToEdit = getModel().getFilteredPersonList().get(index.getZeroBased());
-        editedIssue = new PersonBuilder(issueToEdit).withName(VALID_NAME_BOB).build();
+        editedIssue = new PersonBuilder(issueToEdit).withPhone(VALID_PHONE_BOB).build();
         assertCommandSuccess(command, index, editedIssue);
 
         /* Case: filtered issue list, edit index within bounds of address book but out of bounds of issue list
@@ -228,7 +235,8 @@ public class EditCommandSystemTest extends SaveItSystemTest {
      * Performs the same verification as {@code assertCommandSuccess(String, Model, String, Index)} and in
      * addition,<br> 1. Asserts that result display box displays the success message of executing {@code
      * EditCommand}.<br> 2. Asserts that the model related components are updated to reflect the issue at
-     * index {@code toEdit} being updated to values specified {@code editedIssue}.<br>
+     * index {@code toEdit} being updated to values specified {@code editedIssue}, which is still shown as it is
+     * expected to match the active filter.<br>
      *
      * @param toEdit the index of the current model's filtered list.
      * @see EditCommandSystemTest#assertCommandSuccess(String, Model, String, Index)
@@ -236,9 +244,11 @@ public class EditCommandSystemTest extends SaveItSystemTest {
     private void assertCommandSuccess(String command, Index toEdit, Issue editedIssue,
             Index expectedSelectedCardIndex) {
         Model expectedModel = getModel();
+        List<Issue> expectedShownIssues = new ArrayList<>(expectedModel.getFilteredPersonList());
+        expectedShownIssues.set(toEdit.getZeroBased(), editedIssue);
         expectedModel.updatePerson(expectedModel.getFilteredPersonList().get(toEdit.getZeroBased()),
                 editedIssue);
-        expectedModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        ModelHelper.setFilteredList(expectedModel, expectedShownIssues);
 
         assertCommandSuccess(command, expectedModel,
                 String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, editedIssue),
@@ -268,7 +278,6 @@ public class EditCommandSystemTest extends SaveItSystemTest {
     private void assertCommandSuccess(String command, Model expectedModel, String expectedResultMessage,
             Index expectedSelectedCardIndex) {
         executeCommand(command);
-        expectedModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         assertApplicationDisplaysExpected("", expectedResultMessage, expectedModel);
         assertCommandBoxShowsDefaultStyle();
         if (expectedSelectedCardIndex != null) {